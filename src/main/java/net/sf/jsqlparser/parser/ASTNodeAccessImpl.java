@@ -9,6 +9,8 @@
  */
 package net.sf.jsqlparser.parser;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
 import java.util.TreeSet;
 
@@ -16,6 +18,9 @@ public class ASTNodeAccessImpl implements ASTNodeAccess {
 
     private transient Node node;
 
+    // the span of the source text after detach(), packed as (begin + 1) << 32 | end, 0 for none
+    private transient long span;
+
     @Override
     public Node getASTNode() {
         return node;
@@ -26,6 +31,92 @@ public class ASTNodeAccessImpl implements ASTNodeAccess {
         this.node = node;
     }
 
+    /**
+     * Replaces the AST {@link Node}s of all parsed objects of the statement holding this object
+     * by compact spans into the source text, so the jjtree nodes and the linked list of
+     * {@link Token}s can be garbage collected.
+     *
+     * @param source the text, which has been parsed
+     * @return <code>false</code> when this object is not linked to an AST {@link Node}
+     * @see #detach(ASTNodeAccess, String)
+     */
+    public boolean detach(String source) {
+        return detach(this, source);
+    }
+
+    /**
+     * Replaces the AST {@link Node}s of all parsed objects of the statement holding the given
+     * object by compact spans into the source text, see {@link #getSourceText(String)}. The text
+     * itself is not retained, and {@link #getASTNode()} returns <code>null</code> afterwards.
+     *
+     * @param access any parsed object of the statement
+     * @param source the text, which has been parsed
+     * @return <code>false</code> when the object is not linked to an AST {@link Node}
+     */
+    public static boolean detach(ASTNodeAccess access, String source) {
+        Node root = access.getASTNode();
+        if (root == null) {
+            return false;
+        }
+        while (root.jjtGetParent() != null) {
+            root = root.jjtGetParent();
+        }
+
+        List<Node> nodes = new ArrayList<>();
+        nodes.add(root);
+        while (!nodes.isEmpty()) {
+            Node current = nodes.remove(nodes.size() - 1);
+            if (current.jjtGetValue() instanceof ASTNodeAccess) {
+                ASTNodeAccess value = (ASTNodeAccess) current.jjtGetValue();
+                if (value instanceof ASTNodeAccessImpl) {
+                    ((ASTNodeAccessImpl) value).setSourceSpan(source, current);
+                }
+                value.setASTNode(null);
+                current.jjtSetValue(null);
+            }
+            for (int i = current.jjtGetNumChildren() - 1; i >= 0; i--) {
+                nodes.add(current.jjtGetChild(i));
+            }
+        }
+        return true;
+    }
+
+    private void setSourceSpan(String source, Node node) {
+        Token first = node.jjtGetFirstToken();
+        Token last = node.jjtGetLastToken();
+        if (first != null && last != null && last.absoluteEnd >= first.absoluteBegin) {
+            // the absolute positions of the Tokens count from 1
+            long begin = Math.max(0, first.absoluteBegin - 1);
+            long end = Math.min(source.length(), Math.max(begin, last.absoluteEnd - 1));
+            span = (begin + 1) << 32 | end;
+        }
+    }
+
+    /**
+     * @param source the text passed to {@link #detach(String)}
+     * @return the original text of this object after {@link #detach(String)}, otherwise
+     *         <code>null</code>
+     */
+    public String getSourceText(String source) {
+        return span != 0 ? source.substring(getSourceBegin(), getSourceEnd()) : null;
+    }
+
+    /**
+     * @return the zero based begin of the original text after {@link #detach(String)}, otherwise
+     *         <code>-1</code>
+     */
+    public int getSourceBegin() {
+        return (int) (span >>> 32) - 1;
+    }
+
+    /**
+     * @return the zero based, exclusive end of the original text after {@link #detach(String)},
+     *         otherwise <code>-1</code>
+     */
+    public int getSourceEnd() {
+        return span != 0 ? (int) span : -1;
+    }
+
     public StringBuilder appendTo(StringBuilder builder) {
         // don't add spaces around the following punctuation
         final Set<String> punctuation = new TreeSet<>(Set.of(".", "[", "]"));
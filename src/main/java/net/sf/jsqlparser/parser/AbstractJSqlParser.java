@@ -11,6 +11,7 @@ package net.sf.jsqlparser.parser;
 
 import net.sf.jsqlparser.parser.feature.Feature;
 import net.sf.jsqlparser.parser.feature.FeatureConfiguration;
+import net.sf.jsqlparser.parser.feature.FrozenFeatureConfiguration;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -61,6 +62,10 @@ public abstract class AbstractJSqlParser<P> {
         return withFeature(Feature.timeOut, timeOutMillSeconds);
     }
 
+    public P withParserExecutor(ParserExecutor.Mode mode) {
+        return withFeature(Feature.parserExecutor, mode.name());
+    }
+
     public P withDialect(Dialect dialect) {
         return withFeature(Feature.dialect, dialect.name());
     }
@@ -69,6 +74,22 @@ public abstract class AbstractJSqlParser<P> {
         return withFeature(Feature.allowedNestingDepth, allowedNestingDepth);
     }
 
+    public P withAdaptiveParsing() {
+        return withFeature(Feature.adaptiveParsing, true);
+    }
+
+    public P withAdaptiveParsing(boolean adaptiveParsing) {
+        return withFeature(Feature.adaptiveParsing, adaptiveParsing);
+    }
+
+    public P withIdentifierInterning(IdentifierInterner.Scope scope) {
+        return withFeature(Feature.identifierInterning, scope.name());
+    }
+
+    public P withBuildAST(boolean buildAST) {
+        return withFeature(Feature.buildAST, buildAST);
+    }
+
     public P withBackslashEscapeCharacter() {
         return withFeature(Feature.allowBackslashEscapeCharacter, true);
     }
@@ -106,30 +127,37 @@ public abstract class AbstractJSqlParser<P> {
         return getConfiguration().setValue(feature, value);
     }
 
+    /**
+     * @return the immutable snapshot of the current features, which is read by the getters below
+     */
+    public FrozenFeatureConfiguration getFrozenConfiguration() {
+        return getConfiguration().freeze();
+    }
+
     public Object getValue(Feature feature) {
-        return getConfiguration().getValue(feature);
+        return getFrozenConfiguration().getValue(feature);
     }
 
     public abstract P me();
 
     public boolean getAsBoolean(Feature f) {
-        return getConfiguration().getAsBoolean(f);
+        return getFrozenConfiguration().getAsBoolean(f);
     }
 
     public Long getAsLong(Feature f) {
-        return getConfiguration().getAsLong(f);
+        return getFrozenConfiguration().getAsLong(f);
     }
 
     public int getAsInt(Feature f) {
-        return getConfiguration().getAsInt(f);
+        return getFrozenConfiguration().getAsInt(f);
     }
 
     public Integer getAsInteger(Feature f) {
-        return getConfiguration().getAsInteger(f);
+        return getFrozenConfiguration().getAsInt(f);
     }
 
     public String getAsString(Feature f) {
-        return getConfiguration().getAsString(f);
+        return getFrozenConfiguration().getAsString(f);
     }
 
     public void setErrorRecovery(boolean errorRecovery) {
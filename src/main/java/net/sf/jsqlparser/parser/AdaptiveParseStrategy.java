@@ -0,0 +1,262 @@
+/*-
+ * #%L
+ * JSQLParser library
+ * %%
+ * Copyright (C) 2004 - 2025 JSQLParser
+ * %%
+ * Dual licensed under GNU LGPL 2.1 or Apache License 2.0
+ * #L%
+ */
+package net.sf.jsqlparser.parser;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import net.sf.jsqlparser.parser.feature.Feature;
+import net.sf.jsqlparser.parser.feature.FrozenFeatureConfiguration;
+
+/**
+ * Remembers whether SIMPLE or COMPLEX parsing succeeded for a statement shape, so
+ * {@link CCJSqlParserUtil} can go straight to the right mode instead of parsing twice, when
+ * {@link Feature#adaptiveParsing} is enabled.
+ * <p>
+ * The {@link Shape} of a statement is derived from its {@link StructuralIndex}, collapsing
+ * literals, comments and whitespace and folding the case. So
+ * <code>SELECT * FROM t WHERE id = 1</code> and <code>select * from t where id = 2</code> share
+ * the same shape. The outcomes are kept in a bounded, direct-mapped table, where colliding shapes
+ * simply overwrite each other. The shape also covers the {@link FrozenFeatureConfiguration} of the
+ * parser, since the same text may need another mode under other features. A remembered COMPLEX
+ * outcome is only a hint: when COMPLEX parsing fails, SIMPLE parsing is tried as well.
+ */
+public final class AdaptiveParseStrategy {
+    private static final Logger LOGGER = Logger.getLogger(AdaptiveParseStrategy.class.getName());
+
+    /**
+     * System property to override the number of shapes remembered, defaults to 4096 and is
+     * rounded up to the next power of two
+     */
+    public static final String TABLE_SIZE_PROPERTY = "jsqlparser.adaptive.tableSize";
+
+    // the lowest two bits of an entry hold the outcome, the remaining bits the shape's hash
+    private static final long OUTCOME_MASK = 0x3L;
+    private static final long SIMPLE = 0x1L;
+    private static final long COMPLEX = 0x2L;
+
+    private static final AtomicLongArray TABLE = new AtomicLongArray(getTableSize());
+    private static final LongAdder HITS = new LongAdder();
+    private static final LongAdder MISSES = new LongAdder();
+
+    private AdaptiveParseStrategy() {}
+
+    /**
+     * The structural signals of a statement text, gathered in a single pass.
+     */
+    public static final class Shape {
+        private final long hash;
+        private final int nestingDepth;
+
+        private Shape(long hash, int nestingDepth) {
+            this.hash = hash;
+            this.nestingDepth = nestingDepth;
+        }
+
+        /**
+         * @return the hash over the statement text with literals, comments and whitespace
+         *         collapsed
+         */
+        public long getHash() {
+            return hash;
+        }
+
+        /**
+         * @return the maximum depth of parentheses outside of quotes and comments
+         */
+        public int getNestingDepth() {
+            return nestingDepth;
+        }
+
+        /**
+         * @param allowedNestingDepth the {@link Feature#allowedNestingDepth}
+         * @return <code>true</code> when COMPLEX parsing is worth trying
+         */
+        public boolean isComplexAllowed(int allowedNestingDepth) {
+            return allowedNestingDepth < 0 || nestingDepth <= allowedNestingDepth;
+        }
+    }
+
+    /**
+     * Scans the statement text for its {@link Shape}, where a backslash does not escape a quote.
+     *
+     * @param sql the statement text
+     * @return the shape of the statement text
+     */
+    public static Shape scan(String sql) {
+        return scan(StructuralIndex.of(sql));
+    }
+
+    /**
+     * Determines the {@link Shape} from the {@link StructuralIndex} of the statement text, whose
+     * quotes, comments and nesting depth are reused instead of being scanned again.
+     *
+     * @param index the index of the statement text
+     * @return the shape of the statement text
+     */
+    @SuppressWarnings("PMD.CyclomaticComplexity")
+    public static Shape scan(StructuralIndex index) {
+        String sql = index.getSql();
+        // FNV-1a
+        long hash = 0xcbf29ce484222325L;
+        char previous = ' ';
+
+        int length = sql.length();
+        int range = 0;
+        int i = 0;
+        while (i < length) {
+            while (range < index.getRangeCount() && index.getRangeBegin(range) < i) {
+                range++;
+            }
+            char folded;
+            if (range < index.getRangeCount() && index.getRangeBegin(range) == i) {
+                int end = index.getRangeEnd(range);
+                byte kind = index.getRangeKind(range++);
+                if (kind == StructuralIndex.QUOTED_IDENTIFIER) {
+                    // kept verbatim
+                    for (int j = i; j < end; j++) {
+                        hash = (hash ^ sql.charAt(j)) * 0x100000001b3L;
+                    }
+                    previous = sql.charAt(end - 1);
+                    i = end;
+                    continue;
+                }
+                // literals and comments collapse
+                folded = kind == StructuralIndex.STRING ? '?' : ' ';
+                i = end;
+            } else {
+                char c = sql.charAt(i);
+                if (Character.isWhitespace(c)) {
+                    folded = ' ';
+                } else if (Character.isDigit(c) && !Character.isLetterOrDigit(previous)
+                        && previous != '_' && previous != '?') {
+                    // numeric literal
+                    while (i + 1 < length && (Character.isDigit(sql.charAt(i + 1))
+                            || sql.charAt(i + 1) == '.')) {
+                        i++;
+                    }
+                    folded = '?';
+                } else {
+                    folded = Character.toUpperCase(c);
+                }
+                i++;
+            }
+
+            // collapse consecutive whitespace
+            if (folded != ' ' || previous != ' ') {
+                hash = (hash ^ folded) * 0x100000001b3L;
+            }
+            previous = folded;
+        }
+        return new Shape(hash, index.getMaxDepth());
+    }
+
+    /**
+     * Scans the statement text for its {@link Shape} under the given features, so the outcomes of
+     * differently configured parsers are remembered separately.
+     *
+     * @param sql the statement text
+     * @param configuration the features of the parser
+     * @return the shape of the statement text and the features
+     */
+    public static Shape scan(String sql, FrozenFeatureConfiguration configuration) {
+        return scan(StructuralIndex.of(sql,
+                configuration.getAsBoolean(Feature.allowBackslashEscapeCharacter)), configuration);
+    }
+
+    /**
+     * @param index the index of the statement text
+     * @param configuration the features of the parser
+     * @return the shape of the statement text and the features
+     * @see #scan(String, FrozenFeatureConfiguration)
+     */
+    public static Shape scan(StructuralIndex index, FrozenFeatureConfiguration configuration) {
+        Shape shape = scan(index);
+        long hash = (shape.hash ^ configuration.hashCode()) * 0x100000001b3L;
+        return new Shape(hash, shape.nestingDepth);
+    }
+
+    /**
+     * Looks up the remembered outcome for the given shape and counts the hit or miss.
+     *
+     * @param shape the shape of the statement text
+     * @return <code>true</code> when only COMPLEX parsing succeeded for this shape before
+     */
+    public static boolean isComplexPredicted(Shape shape) {
+        long entry = TABLE.get(indexOf(shape.hash));
+        long outcome = entry & OUTCOME_MASK;
+        if (outcome != 0 && (entry & ~OUTCOME_MASK) == (shape.hash & ~OUTCOME_MASK)) {
+            HITS.increment();
+            return outcome == COMPLEX;
+        }
+        MISSES.increment();
+        return false;
+    }
+
+    /**
+     * Remembers the mode which succeeded for the given shape.
+     *
+     * @param shape the shape of the statement text, can be <code>null</code>
+     * @param complex <code>true</code> when COMPLEX parsing was needed
+     */
+    public static void remember(Shape shape, boolean complex) {
+        if (shape != null) {
+            TABLE.lazySet(indexOf(shape.hash),
+                    (shape.hash & ~OUTCOME_MASK) | (complex ? COMPLEX : SIMPLE));
+        }
+    }
+
+    /**
+     * @return the number of lookups, which found a remembered shape
+     */
+    public static long getHitCount() {
+        return HITS.sum();
+    }
+
+    /**
+     * @return the number of lookups, which did not find a remembered shape
+     */
+    public static long getMissCount() {
+        return MISSES.sum();
+    }
+
+    /**
+     * Forgets all remembered shapes and resets the counters.
+     */
+    public static void clear() {
+        for (int i = 0; i < TABLE.length(); i++) {
+            TABLE.set(i, 0L);
+        }
+        HITS.reset();
+        MISSES.reset();
+    }
+
+    private static int indexOf(long hash) {
+        return (int) (hash ^ (hash >>> 32)) & (TABLE.length() - 1);
+    }
+
+    private static int getTableSize() {
+        int tableSize = 4096;
+        String value = System.getProperty(TABLE_SIZE_PROPERTY);
+        if (value != null) {
+            try {
+                tableSize = Integer.parseInt(value.trim());
+            } catch (NumberFormatException ex) {
+                LOGGER.log(Level.WARNING, "Invalid " + TABLE_SIZE_PROPERTY + ": " + value, ex);
+            }
+        }
+        // round up to the next power of two, so the index can be masked
+        tableSize = Math.max(1, Math.min(tableSize, 1 << 24));
+        int highestOneBit = Integer.highestOneBit(tableSize);
+        return highestOneBit == tableSize ? tableSize : highestOneBit << 1;
+    }
+}
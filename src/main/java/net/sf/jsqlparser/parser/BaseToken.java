@@ -13,4 +13,35 @@ public class BaseToken {
 
     public int absoluteBegin = 0;
     public int absoluteEnd = 0;
+
+    // the offsets of streams larger than 2 GB, which don't fit into the int fields
+    private long longBegin = 0;
+    private long longEnd = 0;
+
+    /**
+     * Sets the absolute offsets, the int fields saturate at {@link Integer#MAX_VALUE}.
+     *
+     * @param begin the absolute offset of the first character, counted from 1
+     * @param end the absolute offset after the last character, counted from 1
+     */
+    public void setAbsolutePosition(long begin, long end) {
+        longBegin = begin;
+        longEnd = end;
+        absoluteBegin = (int) Math.min(begin, Integer.MAX_VALUE);
+        absoluteEnd = (int) Math.min(end, Integer.MAX_VALUE);
+    }
+
+    /**
+     * @return the absolute offset of the first character, also beyond 2 GB
+     */
+    public long getAbsoluteBegin() {
+        return absoluteBegin < Integer.MAX_VALUE ? absoluteBegin : longBegin;
+    }
+
+    /**
+     * @return the absolute offset after the last character, also beyond 2 GB
+     */
+    public long getAbsoluteEnd() {
+        return absoluteEnd < Integer.MAX_VALUE ? absoluteEnd : longEnd;
+    }
 }
@@ -0,0 +1,140 @@
+/*-
+ * #%L
+ * JSQLParser library
+ * %%
+ * Copyright (C) 2004 - 2025 JSQLParser
+ * %%
+ * Dual licensed under GNU LGPL 2.1 or Apache License 2.0
+ * #L%
+ */
+package net.sf.jsqlparser.parser;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A {@link Provider} reading encoded bytes, e.g. the statement text as received from the network,
+ * without building a {@link String} first.
+ * <p>
+ * The bytes are checked once: when they are all ASCII, or the charset is ISO-8859-1, every byte is
+ * simply widened to a char. Otherwise runs of ASCII bytes are still widened and only the remaining
+ * bytes go through the {@link CharsetDecoder}. Malformed input is replaced, the same way a
+ * {@link java.io.InputStreamReader} does.
+ */
+public class ByteArrayProvider implements Provider {
+    private final byte[] bytes;
+    private final ByteBuffer input;
+    private final CharsetDecoder decoder;
+    private final boolean widen;
+    private final boolean asciiCompatible;
+
+    private boolean closed = false;
+    private boolean flushed = false;
+    private final CharBuffer pending = CharBuffer.allocate(2).flip();
+
+    public ByteArrayProvider(byte[] bytes, Charset charset) {
+        this(bytes, 0, bytes.length, charset);
+    }
+
+    /**
+     * @param bytes the encoded statement text
+     * @param offset the offset of the statement text within the bytes
+     * @param length the number of bytes of the statement text
+     * @param charset the encoding of the statement text
+     */
+    public ByteArrayProvider(byte[] bytes, int offset, int length, Charset charset) {
+        this.bytes = bytes;
+        this.input = ByteBuffer.wrap(bytes, offset, length);
+        this.decoder = charset.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        this.asciiCompatible = StandardCharsets.UTF_8.equals(charset)
+                || StandardCharsets.US_ASCII.equals(charset);
+        this.widen = StandardCharsets.ISO_8859_1.equals(charset)
+                || asciiCompatible && isAscii(bytes, offset, length);
+    }
+
+    /**
+     * @return <code>true</code> when the bytes don't contain any byte above <code>0x7F</code>
+     */
+    static boolean isAscii(byte[] bytes, int offset, int length) {
+        for (int i = offset; i < offset + length; i++) {
+            if (bytes[i] < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int read(char[] buffer, int offset, int len) {
+        if (closed) {
+            return -1;
+        }
+        if (len == 0) {
+            return 0;
+        }
+
+        if (widen) {
+            // a char per byte
+            int position = input.position();
+            int n = Math.min(len, input.limit() - position);
+            for (int i = 0; i < n; i++) {
+                buffer[offset + i] = (char) (bytes[position + i] & 0xFF);
+            }
+            input.position(position + n);
+            return n > 0 ? n : -1;
+        }
+
+        int count = 0;
+        if (pending.hasRemaining()) {
+            // the low surrogate, which did not fit into the previous buffer
+            buffer[offset] = pending.get();
+            count = 1;
+        }
+        if (flushed) {
+            return count > 0 ? count : -1;
+        }
+
+        if (asciiCompatible) {
+            int position = input.position();
+            int n = Math.min(len - count, input.limit() - position);
+            int i = 0;
+            for (; i < n && bytes[position + i] >= 0; i++) {
+                buffer[offset + count + i] = (char) bytes[position + i];
+            }
+            input.position(position + i);
+            count += i;
+            if (count == len) {
+                return count;
+            }
+        }
+
+        CharBuffer out = CharBuffer.wrap(buffer, offset + count, len - count);
+        CoderResult result = decoder.decode(input, out, true);
+        if (result.isOverflow() && out.position() == offset) {
+            // a surrogate pair does not fit into a single char
+            pending.clear();
+            decoder.decode(input, pending, true);
+            pending.flip();
+            out.put(pending.get());
+        }
+        if (!input.hasRemaining() && out.hasRemaining()) {
+            flushed = true;
+            decoder.flush(out);
+        }
+
+        count = out.position() - offset;
+        return count > 0 ? count : -1;
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+    }
+}
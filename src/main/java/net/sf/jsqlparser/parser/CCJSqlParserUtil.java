@@ -12,18 +12,31 @@ package net.sf.jsqlparser.parser;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.Reader;
-import java.util.Stack;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.Future;
+import java.util.concurrent.RecursiveAction;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 import java.util.logging.Level;
 import java.util.logging.Logger;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import net.sf.jsqlparser.JSQLParserException;
 import net.sf.jsqlparser.expression.Expression;
@@ -48,15 +61,8 @@ public final class CCJSqlParserUtil {
     private CCJSqlParserUtil() {}
 
     public static Statement parse(Reader statementReader) throws JSQLParserException {
-        ExecutorService executorService = Executors.newSingleThreadExecutor();
-        Statement statement;
         CCJSqlParser parser = new CCJSqlParser(new StreamProvider(statementReader));
-        try {
-            statement = parseStatement(parser, executorService);
-        } finally {
-            executorService.shutdown();
-        }
-        return statement;
+        return parseStatement(parser, null);
     }
 
     public static Statement parse(String sql) throws JSQLParserException {
@@ -72,6 +78,9 @@ public final class CCJSqlParserUtil {
      * CCJSqlParserUtil.parse("select * from [mytable]", parser -> parser.withSquareBracketQuotation(true));
      * }
      *
+     * The parser handed to the consumer is pooled and reused by later parses, so the consumer
+     * must neither keep the parser nor any of its parts, see {@link ParserPool}.
+     *
      * @param sql
      * @param consumer
      * @return
@@ -84,49 +93,105 @@ public final class CCJSqlParserUtil {
             return null;
         }
 
-        ExecutorService executorService = Executors.newSingleThreadExecutor();
-        Statement statement;
-        try {
-            statement = parse(sql, executorService, consumer);
-        } finally {
-            executorService.shutdown();
-        }
-        return statement;
+        return parse(sql, null, consumer);
     }
 
+    /**
+     * @param sql the statement text
+     * @param executorService the Executor Service for parsing within a Thread or <code>null</code>
+     *        for the executor configured by {@link Feature#parserExecutor}
+     * @param consumer configures the parser before, can be <code>null</code>; it must not keep the
+     *        pooled parser
+     * @return the parsed Statement
+     * @throws JSQLParserException when either the Statement can't be parsed or the configured
+     *         timeout is reached
+     */
     public static Statement parse(String sql, ExecutorService executorService,
             Consumer<CCJSqlParser> consumer)
             throws JSQLParserException {
         if (sql == null || sql.isEmpty()) {
             return null;
         }
+        return parse(() -> new StringProvider(sql), () -> sql, executorService, consumer);
+    }
 
+    /**
+     * The pipeline of all statement entry points: pooled parsers, the adaptive strategy, SIMPLE
+     * parsing with the COMPLEX fallback and the nesting guard.
+     *
+     * @param input provides the statement text for every parser acquired
+     * @param text the statement text as String, only requested for scanning its structure
+     */
+    private static Statement parse(Supplier<Provider> input, Supplier<String> text,
+            ExecutorService executorService, Consumer<CCJSqlParser> consumer)
+            throws JSQLParserException {
         Statement statement;
         // first, try to parse fast and simple
-        CCJSqlParser parser = newParser(sql);
-        if (consumer != null) {
-            consumer.accept(parser);
-        }
-        boolean allowComplex = parser.getAsBoolean(Feature.allowComplexParsing);
-        int allowedNestingDepth = parser.getAsInt(Feature.allowedNestingDepth);
-        LOGGER.info("Allowed Complex Parsing: " + allowComplex);
+        CCJSqlParser parser = ParserPool.acquire(input.get());
         try {
-            LOGGER.info("Trying SIMPLE parsing " + (allowComplex ? "first" : "only"));
-            statement = parseStatement(parser.withAllowComplexParsing(false), executorService);
-        } catch (JSQLParserException ex) {
-            LOGGER.info("Nesting Depth" + getNestingDepth(sql));
-            if (allowComplex
-                    && (allowedNestingDepth < 0 || getNestingDepth(sql) <= allowedNestingDepth)) {
-                LOGGER.info("Trying COMPLEX parsing when SIMPLE parsing failed");
-                // beware: the parser must not be reused, but needs to be re-initiated
-                parser = newParser(sql);
-                if (consumer != null) {
-                    consumer.accept(parser);
+            if (consumer != null) {
+                consumer.accept(parser);
+            }
+            boolean allowComplex = parser.getAsBoolean(Feature.allowComplexParsing);
+            int allowedNestingDepth = parser.getAsInt(Feature.allowedNestingDepth);
+            // the text is scanned once, the shape carries the nesting depth for the guard below
+            AdaptiveParseStrategy.Shape shape = parser.getAsBoolean(Feature.adaptiveParsing)
+                    ? AdaptiveParseStrategy.scan(index(parser, text.get()),
+                            parser.getFrozenConfiguration())
+                    : null;
+            LOGGER.info("Allowed Complex Parsing: " + allowComplex);
+            if (allowComplex && shape != null && shape.isComplexAllowed(allowedNestingDepth)
+                    && AdaptiveParseStrategy.isComplexPredicted(shape)) {
+                LOGGER.info("Trying COMPLEX parsing first, as it was needed for this shape before");
+                try {
+                    statement =
+                            parseStatement(parser.withAllowComplexParsing(true), executorService);
+                } catch (JSQLParserException ex) {
+                    // the prediction may stem from another statement colliding in the table
+                    LOGGER.info("Trying SIMPLE parsing when predicted COMPLEX parsing failed");
+                    ParserPool.release(parser);
+                    parser = ParserPool.acquire(input.get());
+                    if (consumer != null) {
+                        consumer.accept(parser);
+                    }
+                    try {
+                        statement = parseStatement(parser.withAllowComplexParsing(false),
+                                executorService);
+                    } catch (JSQLParserException simpleEx) {
+                        throw ex;
+                    }
+                    AdaptiveParseStrategy.remember(shape, false);
                 }
-                statement = parseStatement(parser.withAllowComplexParsing(true), executorService);
             } else {
-                throw ex;
+                try {
+                    LOGGER.info("Trying SIMPLE parsing " + (allowComplex ? "first" : "only"));
+                    statement =
+                            parseStatement(parser.withAllowComplexParsing(false), executorService);
+                    AdaptiveParseStrategy.remember(shape, false);
+                } catch (JSQLParserException ex) {
+                    int nestingDepth = shape != null
+                            ? shape.getNestingDepth()
+                            : index(parser, text.get()).getMaxDepth();
+                    LOGGER.info("Nesting Depth" + nestingDepth);
+                    if (allowComplex
+                            && (allowedNestingDepth < 0 || nestingDepth <= allowedNestingDepth)) {
+                        LOGGER.info("Trying COMPLEX parsing when SIMPLE parsing failed");
+                        // beware: the parser must not be reused, but needs to be re-initiated
+                        ParserPool.release(parser);
+                        parser = ParserPool.acquire(input.get());
+                        if (consumer != null) {
+                            consumer.accept(parser);
+                        }
+                        statement = parseStatement(parser.withAllowComplexParsing(true),
+                                executorService);
+                        AdaptiveParseStrategy.remember(shape, true);
+                    } else {
+                        throw ex;
+                    }
+                }
             }
+        } finally {
+            ParserPool.release(parser);
         }
         return statement;
     }
@@ -147,6 +212,26 @@ public final class CCJSqlParserUtil {
         return new CCJSqlParser(new StreamProvider(is, encoding));
     }
 
+    /**
+     * @param path the file to parse, which is memory-mapped instead of read onto the heap
+     * @param charset the encoding of the file
+     * @return a parser reading the file through a {@link MappedFileProvider}
+     * @throws IOException when the file can't be opened
+     */
+    public static CCJSqlParser newParser(Path path, Charset charset) throws IOException {
+        return new CCJSqlParser(new MappedFileProvider(path, charset));
+    }
+
+    /**
+     * @param bytes the encoded statement text
+     * @param charset the encoding of the statement text
+     * @return a parser reading the bytes through a {@link ByteArrayProvider}, which widens ASCII
+     *         without decoding
+     */
+    public static CCJSqlParser newParser(byte[] bytes, Charset charset) {
+        return new CCJSqlParser(new ByteArrayProvider(bytes, charset));
+    }
+
     public static Node parseAST(String sql) throws JSQLParserException {
         if (sql == null || sql.isEmpty()) {
             return null;
@@ -179,6 +264,57 @@ public final class CCJSqlParserUtil {
         }
     }
 
+    /**
+     * Parses an encoded statement text, e.g. as received from the network, without building a
+     * {@link String} first.
+     *
+     * @param bytes the encoded statement text
+     * @param charset the encoding of the statement text
+     * @return the statement parsed
+     * @throws JSQLParserException when the statement can't be parsed
+     */
+    public static Statement parse(byte[] bytes, Charset charset) throws JSQLParserException {
+        return parse(bytes, charset, null, null);
+    }
+
+    /**
+     * Parses an encoded statement text the same way as {@link #parse(String, Consumer)}, with the
+     * time out, the SIMPLE and COMPLEX parsing and the pooled parsers. The bytes are only decoded
+     * into a {@link String} when their structure has to be scanned, i.e. for the
+     * {@link Feature#adaptiveParsing} or the nesting guard before COMPLEX parsing.
+     *
+     * @param bytes the encoded statement text
+     * @param charset the encoding of the statement text
+     * @param consumer configures the parser before, can be <code>null</code>; it must not keep the
+     *        pooled parser
+     * @return the statement parsed
+     * @throws JSQLParserException when the statement can't be parsed
+     */
+    public static Statement parse(byte[] bytes, Charset charset,
+            Consumer<CCJSqlParser> consumer) throws JSQLParserException {
+        return parse(bytes, charset, null, consumer);
+    }
+
+    /**
+     * @param bytes the encoded statement text
+     * @param charset the encoding of the statement text
+     * @param executorService the Executor Service for parsing within a Thread or <code>null</code>
+     *        for the executor configured by {@link Feature#parserExecutor}
+     * @param consumer configures the parser before, can be <code>null</code>; it must not keep the
+     *        pooled parser
+     * @return the statement parsed
+     * @throws JSQLParserException when the statement can't be parsed
+     * @see #parse(byte[], Charset, Consumer)
+     */
+    public static Statement parse(byte[] bytes, Charset charset, ExecutorService executorService,
+            Consumer<CCJSqlParser> consumer) throws JSQLParserException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        return parse(() -> new ByteArrayProvider(bytes, charset),
+                () -> new String(bytes, charset), executorService, consumer);
+    }
+
     public static Expression parseExpression(String expression) throws JSQLParserException {
         if (expression == null || expression.isEmpty()) {
             return null;
@@ -323,7 +459,8 @@ public final class CCJSqlParserUtil {
 
     /**
      * @param parser the Parser armed with a Statement text
-     * @param executorService the Executor Service for parsing within a Thread
+     * @param executorService the Executor Service for parsing within a Thread or <code>null</code>
+     *        for the executor configured by {@link Feature#parserExecutor}
      * @return the parsed Statement
      * @throws JSQLParserException when either the Statement can't be parsed or the configured
      *         timeout is reached
@@ -331,24 +468,149 @@ public final class CCJSqlParserUtil {
 
     public static Statement parseStatement(CCJSqlParser parser, ExecutorService executorService)
             throws JSQLParserException {
-        Statement statement;
-        Future<Statement> future = executorService.submit(new Callable<Statement>() {
+        return execute(parser, executorService, new Callable<Statement>() {
             @Override
             public Statement call() throws ParseException {
                 return parser.Statement();
             }
         });
+    }
+
+    /**
+     * Runs the parse task in a Thread and enforces the configured {@link Feature#timeOut}.
+     *
+     * @param parser the Parser armed with a Statement text
+     * @param executorService the Executor Service for parsing within a Thread or <code>null</code>
+     *        for the executor configured by {@link Feature#parserExecutor}
+     * @param task the parse task
+     * @return the result of the parse task
+     * @throws JSQLParserException when either the task fails or the configured timeout is reached
+     */
+    private static <T> T execute(CCJSqlParser parser, ExecutorService executorService,
+            Callable<T> task) throws JSQLParserException {
+        ParserExecutor.Mode mode = null;
+        ExecutorService executor = executorService;
+        if (executor == null) {
+            mode = ParserExecutor.Mode.from(parser.getAsString(Feature.parserExecutor));
+            if (mode == ParserExecutor.Mode.CALLER) {
+                return executeInCallerThread(parser, task);
+            }
+            executor = ParserExecutor.acquire(mode);
+        }
+
+        TimedParse<T> timedParse =
+                new TimedParse<>(parser, task, parser.getAsLong(Feature.timeOut));
+        Future<T> future = executor.submit(timedParse);
         try {
-            statement = future.get(parser.getAsLong(Feature.timeOut),
-                    TimeUnit.MILLISECONDS);
+            return timedParse.await(future);
         } catch (TimeoutException ex) {
             parser.interrupted = true;
             future.cancel(true);
+            timedParse.abandon(executor);
             throw new JSQLParserException("Time out occurred.", ex);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof ParseTimeoutException) {
+                throw new JSQLParserException("Time out occurred.", ex.getCause());
+            }
+            throw new JSQLParserException(ex);
         } catch (Exception ex) {
             throw new JSQLParserException(ex);
+        } finally {
+            if (mode != null) {
+                ParserExecutor.release(mode, executor);
+            }
+        }
+    }
+
+    /**
+     * A parse task, whose time out starts when it starts running instead of when it is queued.
+     * The parser checks the time out by its cooperative deadline and gives the thread back, while
+     * the caller stops waiting at the same time and abandons a parse, which does not stop.
+     * <p>
+     * A parse waits in the queue for one time out at most, so the caller waits for twice the time
+     * out at most, even when the executor is saturated.
+     */
+    private static final class TimedParse<T> implements Callable<T> {
+        private static final int QUEUED = 0;
+        private static final int RUNNING = 1;
+        private static final int DONE = 2;
+        private static final int ABANDONED = 3;
+
+        private final CCJSqlParser parser;
+        private final Callable<T> task;
+        private final long timeOut;
+        private final CountDownLatch started = new CountDownLatch(1);
+        private final AtomicInteger state = new AtomicInteger(QUEUED);
+        private volatile long startNanos;
+        private volatile boolean replaced;
+        private volatile ExecutorService executor;
+
+        private TimedParse(CCJSqlParser parser, Callable<T> task, long timeOut) {
+            this.parser = parser;
+            this.task = task;
+            this.timeOut = timeOut;
+        }
+
+        @Override
+        public T call() throws Exception {
+            startNanos = System.nanoTime();
+            state.set(RUNNING);
+            started.countDown();
+            parser.withDeadline(timeOut);
+            try {
+                return task.call();
+            } finally {
+                parser.token_source.clearDeadline();
+                if (!state.compareAndSet(RUNNING, DONE) && replaced) {
+                    // the caller has abandoned this parse and replaced its thread meanwhile
+                    ParserExecutor.removeReplacement(executor);
+                }
+            }
+        }
+
+        private T await(Future<T> future)
+                throws InterruptedException, ExecutionException, TimeoutException {
+            // the time spent in the queue does not count, but is bounded by the time out as well
+            if (!started.await(timeOut, TimeUnit.MILLISECONDS)) {
+                throw new TimeoutException(
+                        "The parse has not been started within " + timeOut + " ms.");
+            }
+            long left = startNanos + TimeUnit.MILLISECONDS.toNanos(timeOut) - System.nanoTime();
+            return future.get(Math.max(0, left), TimeUnit.NANOSECONDS);
+        }
+
+        private void abandon(ExecutorService executorService) {
+            executor = executorService;
+            replaced = ParserExecutor.addReplacement(executorService);
+            if (!state.compareAndSet(RUNNING, ABANDONED) && replaced) {
+                // the parse has just ended
+                ParserExecutor.removeReplacement(executorService);
+            }
+        }
+    }
+
+    /**
+     * Runs the parse task in the caller's thread without any hand-off, the configured
+     * {@link Feature#timeOut} is enforced by the parser's cooperative deadline.
+     *
+     * @param parser the Parser armed with a Statement text
+     * @param task the parse task
+     * @return the result of the parse task
+     * @throws JSQLParserException when either the task fails or the configured timeout is reached
+     */
+    private static <T> T executeInCallerThread(CCJSqlParser parser, Callable<T> task)
+            throws JSQLParserException {
+        parser.withDeadline(parser.getAsLong(Feature.timeOut));
+        try {
+            return task.call();
+        } catch (ParseTimeoutException ex) {
+            parser.interrupted = true;
+            throw new JSQLParserException("Time out occurred.", ex);
+        } catch (Exception ex) {
+            throw new JSQLParserException(ex);
+        } finally {
+            parser.token_source.clearDeadline();
         }
-        return statement;
     }
 
     /**
@@ -370,16 +632,17 @@ public final class CCJSqlParserUtil {
             return null;
         }
 
-        ExecutorService executorService = Executors.newSingleThreadExecutor();
-        final Statements statements = parseStatements(sqls, executorService, consumer);
-        executorService.shutdown();
-
-        return statements;
+        return parseStatements(sqls, null, consumer);
     }
 
     /**
      * Parse a statement list.
      *
+     * @param sqls the statements text
+     * @param executorService the Executor Service for parsing within a Thread or <code>null</code>
+     *        for the executor configured by {@link Feature#parserExecutor}
+     * @param consumer configures the parser before, can be <code>null</code>; it must not keep the
+     *        pooled parser
      * @return the statements parsed
      */
     public static Statements parseStatements(String sqls, ExecutorService executorService,
@@ -390,59 +653,254 @@ public final class CCJSqlParserUtil {
         }
 
         Statements statements = null;
-        CCJSqlParser parser = newParser(sqls);
-        if (consumer != null) {
-            consumer.accept(parser);
-        }
-        boolean allowComplex = parser.getAsBoolean(Feature.allowComplexParsing);
-        int allowedNestingDepth = parser.getAsInt(Feature.allowedNestingDepth);
-
-        // first, try to parse fast and simple
+        CCJSqlParser parser = ParserPool.acquire(sqls);
         try {
-            statements = parseStatements(parser.withAllowComplexParsing(false), executorService);
-        } catch (JSQLParserException ex) {
-            // when fast simple parsing fails, try complex parsing but only if it has a chance to
-            // succeed
-            if (allowComplex
-                    && (allowedNestingDepth < 0 || getNestingDepth(sqls) <= allowedNestingDepth)) {
-                // beware: parser must not be re-used but needs to be re-initiated
-                parser = newParser(sqls);
-                if (consumer != null) {
-                    consumer.accept(parser);
+            if (consumer != null) {
+                consumer.accept(parser);
+            }
+            boolean allowComplex = parser.getAsBoolean(Feature.allowComplexParsing);
+            int allowedNestingDepth = parser.getAsInt(Feature.allowedNestingDepth);
+            AdaptiveParseStrategy.Shape shape = parser.getAsBoolean(Feature.adaptiveParsing)
+                    ? AdaptiveParseStrategy.scan(index(parser, sqls),
+                            parser.getFrozenConfiguration())
+                    : null;
+
+            if (allowComplex && shape != null && shape.isComplexAllowed(allowedNestingDepth)
+                    && AdaptiveParseStrategy.isComplexPredicted(shape)) {
+                // complex parsing was needed for this shape before, so try it first
+                try {
+                    statements =
+                            parseStatements(parser.withAllowComplexParsing(true), executorService);
+                } catch (JSQLParserException ex) {
+                    // the prediction may stem from another script colliding in the table
+                    ParserPool.release(parser);
+                    parser = ParserPool.acquire(sqls);
+                    if (consumer != null) {
+                        consumer.accept(parser);
+                    }
+                    try {
+                        statements = parseStatements(parser.withAllowComplexParsing(false),
+                                executorService);
+                    } catch (JSQLParserException simpleEx) {
+                        throw ex;
+                    }
+                    AdaptiveParseStrategy.remember(shape, false);
+                }
+            } else {
+                // first, try to parse fast and simple
+                try {
+                    statements = parseStatements(parser.withAllowComplexParsing(false),
+                            executorService);
+                    AdaptiveParseStrategy.remember(shape, false);
+                } catch (JSQLParserException ex) {
+                    // when fast simple parsing fails, try complex parsing but only if it has a
+                    // chance to succeed
+                    int nestingDepth = shape != null
+                            ? shape.getNestingDepth()
+                            : index(parser, sqls).getMaxDepth();
+                    if (allowComplex
+                            && (allowedNestingDepth < 0 || nestingDepth <= allowedNestingDepth)) {
+                        // beware: parser must not be re-used but needs to be re-initiated
+                        ParserPool.release(parser);
+                        parser = ParserPool.acquire(sqls);
+                        if (consumer != null) {
+                            consumer.accept(parser);
+                        }
+                        statements = parseStatements(parser.withAllowComplexParsing(true),
+                                executorService);
+                        AdaptiveParseStrategy.remember(shape, true);
+                    }
                 }
-                statements = parseStatements(parser.withAllowComplexParsing(true), executorService);
             }
+        } finally {
+            ParserPool.release(parser);
         }
         return statements;
     }
 
     /**
      * @param parser the Parser armed with a Statement text
-     * @param executorService the Executor Service for parsing within a Thread
+     * @param executorService the Executor Service for parsing within a Thread or <code>null</code>
+     *        for the executor configured by {@link Feature#parserExecutor}
      * @return the Statements (representing a List of single statements)
      * @throws JSQLParserException when either the Statement can't be parsed or the configured
      *         timeout is reached
      */
     public static Statements parseStatements(CCJSqlParser parser, ExecutorService executorService)
             throws JSQLParserException {
-        Statements statements = null;
-        Future<Statements> future = executorService.submit(new Callable<Statements>() {
+        return execute(parser, executorService, new Callable<Statements>() {
             @Override
             public Statements call() throws ParseException {
                 return parser.Statements();
             }
         });
+    }
+
+    /**
+     * Parse a statement list in parallel on the common Fork Join Pool, see
+     * {@link #parseStatementsParallel(String, ForkJoinPool, Consumer)}.
+     *
+     * @param sqls the statements text
+     * @return the statements parsed
+     * @throws JSQLParserException when any of the statements can't be parsed
+     */
+    public static Statements parseStatementsParallel(String sqls) throws JSQLParserException {
+        return parseStatementsParallel(sqls, ForkJoinPool.commonPool(), null);
+    }
+
+    /**
+     * Parse a statement list in parallel. The text is split into its top-level statements by the
+     * {@link StatementSplitter} first, then the statements are parsed on the Fork Join Pool and
+     * collected in their original order.
+     * <p>
+     * Each statement is parsed in the thread of its worker, so the configured
+     * {@link Feature#timeOut} applies per statement and {@link Feature#parserExecutor} is
+     * ignored. An error is reported for the first failing statement, with its position mapped
+     * back onto the whole text.
+     *
+     * @param sqls the statements text
+     * @param pool the Fork Join Pool for parsing
+     * @param consumer configures the parsers, can be <code>null</code>, must be safe to call from
+     *        several threads
+     * @return the statements parsed
+     * @throws JSQLParserException when any of the statements can't be parsed
+     */
+    public static Statements parseStatementsParallel(String sqls, ForkJoinPool pool,
+            Consumer<CCJSqlParser> consumer) throws JSQLParserException {
+        if (sqls == null || sqls.isEmpty()) {
+            return null;
+        }
+
+        boolean backslashEscapes;
+        CCJSqlParser parser = ParserPool.acquire("");
         try {
-            statements = future.get(parser.getAsLong(Feature.timeOut),
-                    TimeUnit.MILLISECONDS);
-        } catch (TimeoutException ex) {
-            parser.interrupted = true;
-            future.cancel(true);
-            throw new JSQLParserException("Time out occurred.", ex);
-        } catch (Exception ex) {
-            throw new JSQLParserException(ex);
+            if (consumer != null) {
+                consumer.accept(parser);
+            }
+            backslashEscapes = parser.getAsBoolean(Feature.allowBackslashEscapeCharacter);
+        } finally {
+            ParserPool.release(parser);
+        }
+
+        List<StatementSplitter.Chunk> chunks = StatementSplitter.split(sqls, backslashEscapes);
+        if (chunks.isEmpty()) {
+            // nothing but blanks, comments and delimiters
+            return parseStatements(sqls, consumer);
+        }
+        Consumer<CCJSqlParser> callerConsumer =
+                p -> p.withParserExecutor(ParserExecutor.Mode.CALLER);
+        ParallelParse task = new ParallelParse(chunks,
+                consumer != null ? consumer.andThen(callerConsumer) : callerConsumer);
+        pool.invoke(task);
+        return task.getStatements();
+    }
+
+    /**
+     * Parses a range of statement texts, forking while the range is larger than
+     * {@link #GRAIN_SIZE} characters.
+     */
+    private static final class ParallelParse extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+        private static final int GRAIN_SIZE = 16 * 1024;
+
+        private final transient List<StatementSplitter.Chunk> chunks;
+        private final transient Consumer<CCJSqlParser> consumer;
+        private final Statements[] results;
+        private final JSQLParserException[] errors;
+        private final AtomicInteger firstError;
+        private final int from;
+        private final int to;
+
+        private ParallelParse(List<StatementSplitter.Chunk> chunks,
+                Consumer<CCJSqlParser> consumer) {
+            this(chunks, consumer, new Statements[chunks.size()],
+                    new JSQLParserException[chunks.size()], new AtomicInteger(chunks.size()), 0,
+                    chunks.size());
+        }
+
+        private ParallelParse(List<StatementSplitter.Chunk> chunks,
+                Consumer<CCJSqlParser> consumer, Statements[] results,
+                JSQLParserException[] errors, AtomicInteger firstError, int from, int to) {
+            this.chunks = chunks;
+            this.consumer = consumer;
+            this.results = results;
+            this.errors = errors;
+            this.firstError = firstError;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            StatementSplitter.Chunk first = chunks.get(from);
+            StatementSplitter.Chunk last = chunks.get(to - 1);
+            long size = last.getOffset() + last.getText().length() - first.getOffset();
+            if (to - from > 1 && size > GRAIN_SIZE) {
+                int middle = (from + to) >>> 1;
+                invokeAll(
+                        new ParallelParse(chunks, consumer, results, errors, firstError, from,
+                                middle),
+                        new ParallelParse(chunks, consumer, results, errors, firstError, middle,
+                                to));
+                return;
+            }
+
+            for (int i = from; i < to; i++) {
+                if (i > firstError.get()) {
+                    // an earlier statement failed already
+                    return;
+                }
+                StatementSplitter.Chunk chunk = chunks.get(i);
+                try {
+                    results[i] = parseStatements(chunk.getText(), null, consumer);
+                    if (results[i] == null) {
+                        throw new JSQLParserException("Statement can't be parsed.");
+                    }
+                } catch (JSQLParserException ex) {
+                    errors[i] = mapError(chunk, ex);
+                    firstError.accumulateAndGet(i, Math::min);
+                    return;
+                }
+            }
+        }
+
+        private Statements getStatements() throws JSQLParserException {
+            int failed = firstError.get();
+            if (failed < errors.length) {
+                throw errors[failed];
+            }
+            Statements statements = new Statements();
+            for (Statements result : results) {
+                statements.addAll(result);
+            }
+            return statements;
+        }
+
+        private static JSQLParserException mapError(StatementSplitter.Chunk chunk,
+                JSQLParserException ex) {
+            Throwable cause = ex;
+            while (cause != null && !(cause instanceof ParseException)) {
+                cause = cause.getCause();
+            }
+            Token token = cause != null && ((ParseException) cause).currentToken != null
+                    ? ((ParseException) cause).currentToken.next
+                    : null;
+
+            String position;
+            if (token != null) {
+                int line = chunk.getLine() + token.beginLine - 1;
+                int column = token.beginLine == 1
+                        ? chunk.getColumn() + token.beginColumn - 1
+                        : token.beginColumn;
+                position = "line " + line + ", column " + column + " (offset "
+                        + (chunk.getOffset() + token.getAbsoluteBegin() - 1) + ")";
+            } else {
+                position = "line " + chunk.getLine() + ", column " + chunk.getColumn()
+                        + " (offset " + chunk.getOffset() + ")";
+            }
+            return new JSQLParserException(
+                    "Statement at " + position + " can't be parsed: " + ex.getMessage(), ex);
         }
-        return statements;
     }
 
     public static void streamStatements(StatementListener listener, InputStream is, String encoding)
@@ -462,80 +920,110 @@ public final class CCJSqlParserUtil {
         }
     }
 
-    public static int getNestingDepth(String sql) {
-        int maxlevel = 0;
-        int level = 0;
-
-        char[] chars = sql.toCharArray();
-        for (char c : chars) {
-            switch (c) {
-                case '(':
-                    level++;
-                    break;
-                case ')':
-                    if (maxlevel < level) {
-                        maxlevel = level;
-                    }
-                    level--;
-                    break;
-                default:
-                    // Codazy/PMD insists in a Default statement
-            }
-        }
-        return maxlevel;
+    /**
+     * Pulls the statements of the stream one at a time, see {@link StatementIterator}.
+     *
+     * @param reader the statements text, closed when the iterator is closed
+     * @param consumer configures the parser, can be <code>null</code>
+     * @return the iterator over the results of the single statements
+     */
+    public static StatementIterator iterateStatements(Reader reader,
+            Consumer<CCJSqlParser> consumer) {
+        return iterateStatements(new StreamProvider(reader), consumer);
     }
 
-    public static int getUnbalancedPosition(String text) {
-        Stack<Character> stack = new Stack<>();
-        boolean insideQuote = false;
-
-        for (int i = 0; i < text.length(); i++) {
-            char c = text.charAt(i);
-            if (c == '"' || c == '\'') {
-                if (!insideQuote) {
-                    stack.push(c); // Add quote to stack
-                } else if (stack.peek() == c) {
-                    stack.pop(); // Matching quote found, remove from stack
-                }
-                insideQuote = !insideQuote; // Toggle insideQuote flag
-            } else if (!insideQuote && (c == '(' || c == '[' || c == '{')) {
-                stack.push(c); // Add opening bracket to stack
-            } else if (!insideQuote && (c == ')' || c == ']' || c == '}')) {
-                if (stack.isEmpty()) {
-                    return i; // Return position of unbalanced closing bracket
-                }
-                char top = stack.pop();
-                if (c == ')' && top != '(' || c == ']' && top != '[' || c == '}' && top != '{') {
-                    return i; // Return position of unbalanced closing bracket
-                }
-            }
+    private static StatementIterator iterateStatements(Provider provider,
+            Consumer<CCJSqlParser> consumer) {
+        CCJSqlParser parser = new CCJSqlParser(provider);
+        if (consumer != null) {
+            consumer.accept(parser);
         }
+        return new StatementIterator(parser, provider);
+    }
 
-        if (!stack.isEmpty()) {
-            char unbalanced = stack.peek();
-            for (int i = 0; i < text.length(); i++) {
-                if (text.charAt(i) == unbalanced) {
-                    return i; // Return position of unbalanced opening bracket or quote
-                }
-            }
-        }
+    /**
+     * Streams the statements lazily, see {@link StatementIterator}. The stream must be closed in
+     * order to close the reader.
+     *
+     * @param reader the statements text
+     * @param consumer configures the parser, can be <code>null</code>
+     * @return the ordered stream of the results of the single statements
+     */
+    public static Stream<ParseResult> streamStatements(Reader reader,
+            Consumer<CCJSqlParser> consumer) {
+        return stream(iterateStatements(reader, consumer));
+    }
+
+    /**
+     * Streams the statements of a file lazily, see {@link StatementIterator}. The file is
+     * memory-mapped by a {@link MappedFileProvider} and must be closed by closing the stream.
+     *
+     * @param path the file to parse
+     * @param charset the encoding of the file
+     * @param consumer configures the parser, can be <code>null</code>
+     * @return the ordered stream of the results of the single statements
+     * @throws IOException when the file can't be opened
+     */
+    public static Stream<ParseResult> streamStatements(Path path, Charset charset,
+            Consumer<CCJSqlParser> consumer) throws IOException {
+        return stream(iterateStatements(new MappedFileProvider(path, charset), consumer));
+    }
 
-        return -1; // Return -1 if all brackets and quotes are balanced
+    private static Stream<ParseResult> stream(StatementIterator iterator) {
+        return StreamSupport
+                .stream(Spliterators.spliteratorUnknownSize(iterator,
+                        Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(iterator::close);
     }
 
+    /**
+     * Streams the statements lazily, see {@link StatementIterator}. The stream must be closed in
+     * order to close the channel. Malformed or unmappable input is replaced, like the
+     * {@link ByteArrayProvider} does, instead of ending the stream.
+     *
+     * @param channel the statements text
+     * @param charset the encoding of the statements text
+     * @param consumer configures the parser, can be <code>null</code>
+     * @return the ordered stream of the results of the single statements
+     */
+    public static Stream<ParseResult> streamStatements(ReadableByteChannel channel,
+            Charset charset, Consumer<CCJSqlParser> consumer) {
+        CharsetDecoder decoder = charset.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        return streamStatements(Channels.newReader(channel, decoder, -1), consumer);
+    }
+
+    private static StructuralIndex index(CCJSqlParser parser, String sql) {
+        return StructuralIndex.of(sql, parser.getAsBoolean(Feature.allowBackslashEscapeCharacter));
+    }
+
+    /**
+     * @param sql the statement text
+     * @return the maximum depth of parentheses outside of quotes and comments
+     * @see StructuralIndex#getMaxDepth()
+     */
+    public static int getNestingDepth(String sql) {
+        return StructuralIndex.of(sql).getMaxDepth();
+    }
+
+    /**
+     * @param text the statement text
+     * @return the position of the first unbalanced bracket or quote, or <code>-1</code> when the
+     *         text is balanced
+     * @see StructuralIndex#getUnbalancedPosition()
+     */
+    public static int getUnbalancedPosition(String text) {
+        return StructuralIndex.of(text).getUnbalancedPosition();
+    }
+
+    /**
+     * @param sqlStr a single statement text
+     * @return the text without empty lines outside of quotes
+     * @see StructuralIndex#withoutEmptyLines()
+     */
     public static String sanitizeSingleSql(String sqlStr) {
-        final Pattern SQL_DELIMITER_SPLIT =
-                Pattern.compile("((?:'[^']*+'|[^\\n])*+)");
-        final StringBuilder builder = new StringBuilder();
-        final Matcher matcher = SQL_DELIMITER_SPLIT.matcher(sqlStr);
-        while (matcher.find()) {
-            for (int i = 1; i <= matcher.groupCount(); i++) {
-                if (!matcher.group(i).isEmpty()) {
-                    builder.append("\n").append(matcher.group(i));
-                }
-            }
-        }
-        return builder.toString();
+        return StructuralIndex.of(sqlStr).withoutEmptyLines();
     }
 
 }
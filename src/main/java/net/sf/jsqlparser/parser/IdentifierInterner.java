@@ -0,0 +1,89 @@
+/*-
+ * #%L
+ * JSQLParser library
+ * %%
+ * Copyright (C) 2004 - 2025 JSQLParser
+ * %%
+ * Dual licensed under GNU LGPL 2.1 or Apache License 2.0
+ * #L%
+ */
+package net.sf.jsqlparser.parser;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import net.sf.jsqlparser.parser.feature.Feature;
+
+/**
+ * Maps equal identifiers to one shared <code>String</code> instance, so the names of schemas,
+ * tables, columns, functions and aliases are not duplicated in memory, when many parsed statements
+ * are kept.
+ * <p>
+ * The parser feeds the names through the interner chosen by {@link Feature#identifierInterning}
+ * or set by {@link CCJSqlParser#withIdentifierInterner(IdentifierInterner)}:
+ * <ul>
+ * <li>{@link Scope#NONE}: no interning at all (default)</li>
+ * <li>{@link Scope#PARSE}: the names are shared within a single parse</li>
+ * <li>{@link Scope#POOL}: the names are shared by all parses of a parser, which is kept in the
+ * {@link ParserPool} of the thread</li>
+ * <li>{@link Scope#GLOBAL}: the names are shared by all parsers, held by weak references</li>
+ * </ul>
+ *
+ * <pre>{@code
+ * Statement statement = CCJSqlParserUtil.parse(sqlStr,
+ *         parser -> parser.withIdentifierInterning(IdentifierInterner.Scope.GLOBAL));
+ * }</pre>
+ */
+@FunctionalInterface
+public interface IdentifierInterner {
+
+    enum Scope {
+        NONE, PARSE, POOL, GLOBAL;
+
+        public static Scope from(String name) {
+            return name == null ? NONE : valueOf(name.toUpperCase());
+        }
+    }
+
+    /**
+     * @param identifier the name, can be <code>null</code>
+     * @return the shared instance equal to the name
+     */
+    String intern(String identifier);
+
+    /**
+     * @return the interner, which returns every name as it is
+     */
+    static IdentifierInterner none() {
+        return identifier -> identifier;
+    }
+
+    /**
+     * @param maximumSize the number of names, after which the interner starts over
+     * @return a new interner, which must not be shared between threads
+     */
+    static IdentifierInterner bounded(int maximumSize) {
+        Map<String, String> identifiers = new HashMap<>();
+        return identifier -> {
+            if (identifier == null) {
+                return null;
+            }
+            String shared = identifiers.putIfAbsent(identifier, identifier);
+            if (shared != null) {
+                return shared;
+            }
+            if (identifiers.size() > maximumSize) {
+                identifiers.clear();
+                identifiers.put(identifier, identifier);
+            }
+            return identifier;
+        };
+    }
+
+    /**
+     * @return the interner shared by all threads, which does not keep unused names alive
+     */
+    static IdentifierInterner global() {
+        return WeakIdentifierInterner.INSTANCE;
+    }
+}
@@ -0,0 +1,272 @@
+/*-
+ * #%L
+ * JSQLParser library
+ * %%
+ * Copyright (C) 2004 - 2025 JSQLParser
+ * %%
+ * Dual licensed under GNU LGPL 2.1 or Apache License 2.0
+ * #L%
+ */
+package net.sf.jsqlparser.parser;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A perfect hash table classifying a plain ASCII word as the keyword Token kind, which the Token
+ * Manager would produce for it, or as {@link CCJSqlParserConstants#S_IDENTIFIER}.
+ * <p>
+ * The words are taken from the literal keywords of {@link CCJSqlParserConstants#tokenImage}, whose
+ * index is their kind, and the alternatives of the keyword Tokens defined by regular expressions.
+ * When several Tokens match the same word, the Token Manager picks the one defined first, which is
+ * the lowest kind. KeywordTableTest checks the table against the Token Manager for all words of
+ * the grammar, so building the table costs no lexing.
+ * <p>
+ * The table is used only by {@link SqlTokenizer#withKeywordTable(boolean)}, the Token Manager of
+ * the parser does not consult it.
+ * <p>
+ * Some words can start a longer Token, like <code>NEXT VALUE FOR</code>, <code>WITH TIES</code>
+ * or <code>TIMESTAMP WITH TIME ZONE</code>. For those, the table can't decide on the word alone
+ * and reports {@link #AMBIGUOUS}.
+ */
+final class KeywordTable {
+    /**
+     * The kind reported for a word, which only the Token Manager can classify
+     */
+    static final int AMBIGUOUS = -1;
+
+    // the single word alternatives of keyword Tokens defined by regular expressions, by kind
+    private static final Object[][] ALTERNATIVES = {
+            {CCJSqlParserConstants.K_ISOLATION, "UR", "RS", "RR", "CS"},
+            {CCJSqlParserConstants.K_SELECT, "SELECT", "SEL"},
+            {CCJSqlParserConstants.K_DATE_LITERAL, "YEAR", "MONTH", "DAY", "HOUR", "MINUTE",
+                    "SECOND"},
+            {CCJSqlParserConstants.K_TEXT_LITERAL, "TEXT", "TINYTEXT", "MEDIUMTEXT", "LONGTEXT"},
+            {CCJSqlParserConstants.K_STRING_FUNCTION_NAME, "SUBSTR", "SUBSTRING", "TRIM",
+                    "POSITION", "OVERLAY"},
+            {CCJSqlParserConstants.DATA_TYPE, "BISTRING", "BLOB", "BYTEA", "VARBINARY", "BOOL",
+                    "ENUM", "MAP", "DECIMAL", "NUMBER", "NUMERIC", "TINYINT", "INT1", "SMALLINT",
+                    "INT2", "SHORT", "INTEGER", "INT", "INT4", "BIGINT", "INT8", "LONG",
+                    "HUGEINT", "UTINYINT", "USMALLINT", "UINTEGER", "UBIGINT", "UHUGEINT", "REAL",
+                    "FLOAT4", "FLOAT", "DOUBLE", "PRECISION", "FLOAT8", "FLOAT64", "NVARCHAR",
+                    "VARCHAR", "NCHAR", "BPCHAR", "TEXT", "STRING", "VARYING", "TIMETZ",
+                    "TIMESTAMP_NS", "TIMESTAMP_MS", "TIMESTAMP_S", "UUID"}
+    };
+
+    // the words, which can be continued into a longer Token
+    private static final String[] PREFIXES = {
+            // K_NEXTVAL
+            "NEXTVAL", "NEXT",
+            // K_TIME_KEY_EXPR
+            "CURRENT", "CURRENT_TIMESTAMP", "CURRENT_TIME", "CURRENT_DATE", "CURRENT_TIMEZONE",
+            // K_WITH_TIES, K_SIMILAR_TO
+            "WITH", "SIMILAR",
+            // DT_ZONE
+            "DATE", "DATETIME", "TIME", "TIMESTAMP", "TIMESTAMPTZ"
+    };
+
+    private static final byte WORD_START = 1;
+    private static final byte WORD_PART = 2;
+
+    // the classes of the ASCII characters, the others are left to the Token Manager
+    private static final byte[] CHAR_CLASSES = new byte[0x80];
+
+    static {
+        for (char c = 0; c < CHAR_CLASSES.length; c++) {
+            if (c >= 'A' && c <= 'Z' || c >= 'a' && c <= 'z' || c == '_') {
+                CHAR_CLASSES[c] = WORD_START | WORD_PART;
+            } else if (c >= '0' && c <= '9' || c == '$' || c == '#' || c == '@') {
+                CHAR_CLASSES[c] = WORD_PART;
+            }
+        }
+    }
+
+    private static final String[] WORDS;
+    private static final int[] KINDS;
+    private static final int[] DISPLACEMENTS;
+    private static final int SLOT_MASK;
+    private static final int BUCKET_MASK;
+
+    static {
+        Map<String, Integer> kinds = classify();
+
+        int slots = Integer.highestOneBit(kinds.size() * 2 - 1) << 1;
+        int buckets = Math.max(1, slots / 4);
+        WORDS = new String[slots];
+        KINDS = new int[slots];
+        DISPLACEMENTS = new int[buckets];
+        SLOT_MASK = slots - 1;
+        BUCKET_MASK = buckets - 1;
+        build(kinds);
+    }
+
+    private KeywordTable() {}
+
+    /**
+     * @return the kinds of all words, by the same precedence as the Token Manager's
+     */
+    private static Map<String, Integer> classify() {
+        Map<String, Integer> kinds = new LinkedHashMap<>();
+        String[] images = CCJSqlParserConstants.tokenImage;
+        for (int kind = 0; kind < images.length; kind++) {
+            String image = images[kind];
+            // literal images are quoted, like "\"SELECT\"", the first definition wins
+            if (image.length() > 2 && image.charAt(0) == '"'
+                    && image.charAt(image.length() - 1) == '"') {
+                String word = image.substring(1, image.length() - 1);
+                if (isWord(word)) {
+                    kinds.putIfAbsent(word.toUpperCase(), kind);
+                }
+            }
+        }
+        for (Object[] alternatives : ALTERNATIVES) {
+            int kind = (Integer) alternatives[0];
+            for (int i = 1; i < alternatives.length; i++) {
+                kinds.merge((String) alternatives[i], kind, Math::min);
+            }
+        }
+        for (String prefix : PREFIXES) {
+            kinds.put(prefix, AMBIGUOUS);
+        }
+        return kinds;
+    }
+
+    private static boolean isWord(String word) {
+        if (word.isEmpty() || !isWordStart(word.charAt(0))) {
+            return false;
+        }
+        for (int i = 1; i < word.length(); i++) {
+            if (!isWordPart(word.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Places the words by hash and displace: the words are distributed over buckets first, then
+     * each bucket gets the displacement, which moves all its words into free slots.
+     */
+    private static void build(Map<String, Integer> kinds) {
+        List<List<String>> buckets = new ArrayList<>();
+        for (int i = 0; i <= BUCKET_MASK; i++) {
+            buckets.add(new ArrayList<>());
+        }
+        for (String word : kinds.keySet()) {
+            int hash = hash(word, 0, word.length());
+            buckets.get(mix(hash, 0) & BUCKET_MASK).add(word);
+        }
+
+        Integer[] order = new Integer[buckets.size()];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> buckets.get(b).size() - buckets.get(a).size());
+
+        for (int bucket : order) {
+            List<String> bucketWords = buckets.get(bucket);
+            if (bucketWords.isEmpty()) {
+                break;
+            }
+            int[] slots = new int[bucketWords.size()];
+            for (int displacement = 1;; displacement++) {
+                if (place(bucketWords, displacement, slots)) {
+                    DISPLACEMENTS[bucket] = displacement;
+                    for (int i = 0; i < bucketWords.size(); i++) {
+                        WORDS[slots[i]] = bucketWords.get(i);
+                        KINDS[slots[i]] = kinds.get(bucketWords.get(i));
+                    }
+                    break;
+                }
+                if (displacement == 1 << 20) {
+                    throw new IllegalStateException(
+                            "Can't place the keywords " + bucketWords + ".");
+                }
+            }
+        }
+    }
+
+    private static boolean place(List<String> words, int displacement, int[] slots) {
+        for (int i = 0; i < words.size(); i++) {
+            String word = words.get(i);
+            int slot = mix(hash(word, 0, word.length()), displacement) & SLOT_MASK;
+            if (WORDS[slot] != null) {
+                return false;
+            }
+            for (int j = 0; j < i; j++) {
+                if (slots[j] == slot) {
+                    return false;
+                }
+            }
+            slots[i] = slot;
+        }
+        return true;
+    }
+
+    private static int hash(CharSequence s, int begin, int end) {
+        int h = 0;
+        for (int i = begin; i < end; i++) {
+            h = 31 * h + fold(s.charAt(i));
+        }
+        return h;
+    }
+
+    private static int mix(int hash, int displacement) {
+        int h = hash ^ displacement * 0x9E3779B9;
+        h ^= h >>> 16;
+        h *= 0x85EBCA6B;
+        h ^= h >>> 13;
+        h *= 0xC2B2AE35;
+        return h ^ h >>> 16;
+    }
+
+    private static char fold(char c) {
+        return c >= 'a' && c <= 'z' ? (char) (c - 32) : c;
+    }
+
+    static boolean isWordStart(char c) {
+        return c < 0x80 && (CHAR_CLASSES[c] & WORD_START) != 0;
+    }
+
+    static boolean isWordPart(char c) {
+        return c < 0x80 && (CHAR_CLASSES[c] & WORD_PART) != 0;
+    }
+
+    /**
+     * @param s the text
+     * @param begin the begin of the word
+     * @param end the end of the word, exclusive
+     * @return the kind of the plain ASCII word, {@link CCJSqlParserConstants#S_IDENTIFIER} when it
+     *         is not a keyword or {@link #AMBIGUOUS} when it can start a longer Token
+     */
+    static int lookup(CharSequence s, int begin, int end) {
+        int hash = hash(s, begin, end);
+        int slot = mix(hash, DISPLACEMENTS[mix(hash, 0) & BUCKET_MASK]) & SLOT_MASK;
+        String word = WORDS[slot];
+        if (word == null || word.length() != end - begin) {
+            return CCJSqlParserConstants.S_IDENTIFIER;
+        }
+        for (int i = 0; i < word.length(); i++) {
+            if (word.charAt(i) != fold(s.charAt(begin + i))) {
+                return CCJSqlParserConstants.S_IDENTIFIER;
+            }
+        }
+        return KINDS[slot];
+    }
+
+    /**
+     * @return the number of words in the table
+     */
+    static int size() {
+        int size = 0;
+        for (String word : WORDS) {
+            if (word != null) {
+                size++;
+            }
+        }
+        return size;
+    }
+}
@@ -0,0 +1,441 @@
+/*-
+ * #%L
+ * JSQLParser library
+ * %%
+ * Copyright (C) 2004 - 2025 JSQLParser
+ * %%
+ * Dual licensed under GNU LGPL 2.1 or Apache License 2.0
+ * #L%
+ */
+package net.sf.jsqlparser.parser;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+import net.sf.jsqlparser.JSQLParserException;
+import net.sf.jsqlparser.expression.DoubleValue;
+import net.sf.jsqlparser.expression.LongValue;
+import net.sf.jsqlparser.expression.StringValue;
+import net.sf.jsqlparser.parser.feature.FrozenFeatureConfiguration;
+import net.sf.jsqlparser.statement.Statement;
+import net.sf.jsqlparser.util.ModelCopier;
+import net.sf.jsqlparser.util.ModelReflection;
+
+/**
+ * An opt-in cache of statement templates, which parses every query shape only once.
+ * <p>
+ * The statement text is lexed and all numeric and string literals are replaced by slots, so
+ * <code>WHERE id = 42</code> and <code>WHERE id = 43</code> share the same template. The template
+ * is parsed once with unique sentinel values in its slots. For every further statement of this
+ * shape, a copy of the template is handed out with the concrete literals bound into fresh
+ * {@link LongValue}, {@link DoubleValue} and {@link StringValue} nodes.
+ * <p>
+ * Literals which don't end up in such a value node (e.g. the length of a data type, an alias or a
+ * JDBC escaped <code>{d '2024-01-01'}</code>) can't be rebound and are kept as a fixed part of the
+ * template instead. Statements without literals are parsed as usual.
+ * <p>
+ * The templates are kept in the same bounded, segmented storage as by the {@link StatementCache}
+ * and handed out as private copies made by the {@link ModelCopier}, which are not linked to the
+ * AST {@link Node}s of the parser.
+ *
+ * <pre>{@code
+ * LiteralTemplateCache cache = new LiteralTemplateCache(1000);
+ * Statement statement = cache.parse("SELECT * FROM orders WHERE id = 42");
+ * }</pre>
+ */
+public class LiteralTemplateCache {
+
+    // sentinels of a fixed width, followed by the slot index
+    private static final String LONG_SENTINEL = "7318092477";
+    private static final String DOUBLE_SENTINEL = "7318092477.";
+    private static final String STRING_SENTINEL = "jsqlparser-slot-";
+    private static final int SLOT_OFFSET = 100000;
+    private static final int MAX_SLOTS = 899999;
+
+    // marks a shape, which can't be parsed with sentinels at all
+    private static final boolean[] UNCACHEABLE = new boolean[0];
+
+    private final LruSegments<Key, boolean[]> shapes;
+    private final LruSegments<Key, Statement> templates;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder bypasses = new LongAdder();
+
+    /**
+     * @param maximumSize the maximum number of cached templates
+     */
+    public LiteralTemplateCache(int maximumSize) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("The maximum size must be positive.");
+        }
+        shapes = new LruSegments<>(maximumSize);
+        templates = new LruSegments<>(maximumSize);
+    }
+
+    /**
+     * Returns the statement bound from a cached template or parses it with the default features.
+     *
+     * @param sql the statement text
+     * @return the parsed statement
+     * @throws JSQLParserException when the statement can't be parsed
+     */
+    public Statement parse(String sql) throws JSQLParserException {
+        return parse(sql, null);
+    }
+
+    /**
+     * Returns the statement bound from a cached template or parses it.
+     *
+     * @param sql the statement text
+     * @param consumer configures the parser, can be <code>null</code>
+     * @return the parsed statement
+     * @throws JSQLParserException when the statement can't be parsed
+     */
+    public Statement parse(String sql, Consumer<CCJSqlParser> consumer)
+            throws JSQLParserException {
+        if (sql == null || sql.isEmpty()) {
+            return null;
+        }
+
+        List<Token> slots = new ArrayList<>();
+        FrozenFeatureConfiguration configuration = lex(sql, consumer, slots);
+        if (configuration == null || slots.isEmpty() || slots.size() > MAX_SLOTS) {
+            bypasses.increment();
+            return CCJSqlParserUtil.parse(sql, consumer);
+        }
+
+        Key shapeKey = new Key(toTemplate(sql, slots, null), configuration);
+        boolean[] fixed = shapes.get(shapeKey);
+        boolean discovered = fixed == null;
+        if (discovered) {
+            fixed = discover(sql, shapeKey, slots, consumer);
+        }
+        if (fixed == UNCACHEABLE) {
+            bypasses.increment();
+            return CCJSqlParserUtil.parse(sql, consumer);
+        }
+
+        Key templateKey = new Key(toTemplate(sql, slots, fixed), configuration);
+        Statement template = templates.get(templateKey);
+        if (template == null) {
+            misses.increment();
+            template = CCJSqlParserUtil.parse(templateKey.sql, consumer);
+            putTemplate(templateKey, template);
+        } else if (!discovered) {
+            hits.increment();
+        }
+
+        Statement statement = ModelCopier.deepCopy(template);
+        String[] images = new String[slots.size()];
+        for (int i = 0; i < images.length; i++) {
+            images[i] = slots.get(i).image;
+        }
+        new Binder(images, null).walk(statement);
+        return statement;
+    }
+
+    /**
+     * Lexes the statement text and collects the literal Tokens.
+     *
+     * @return the configuration or <code>null</code>, when the text can't be lexed
+     */
+    private static FrozenFeatureConfiguration lex(String sql, Consumer<CCJSqlParser> consumer,
+            List<Token> slots) {
+        CCJSqlParser parser = ParserPool.acquire(sql);
+        try {
+            if (consumer != null) {
+                consumer.accept(parser);
+            }
+            for (Token token = parser.getNextToken(); token.kind != CCJSqlParserConstants.EOF;
+                    token = parser.getNextToken()) {
+                if (token.kind == CCJSqlParserConstants.S_LONG
+                        || token.kind == CCJSqlParserConstants.S_DOUBLE
+                        || token.kind == CCJSqlParserConstants.S_CHAR_LITERAL) {
+                    slots.add(token);
+                }
+            }
+            return parser.getFrozenConfiguration();
+        } catch (TokenMgrException ex) {
+            return null;
+        } finally {
+            ParserPool.release(parser);
+        }
+    }
+
+    /**
+     * Parses the shape with sentinels in all slots (or else in the numeric slots only) and finds
+     * the slots, which can be rebound. When all slots can be rebound, the parsed shape is cached
+     * as template right away.
+     */
+    private boolean[] discover(String sql, Key shapeKey, List<Token> slots,
+            Consumer<CCJSqlParser> consumer) throws JSQLParserException {
+        boolean[] fixed = UNCACHEABLE;
+        for (boolean fixStrings : new boolean[] {false, true}) {
+            boolean[] candidate = new boolean[slots.size()];
+            if (fixStrings) {
+                for (int i = 0; i < candidate.length; i++) {
+                    candidate[i] = slots.get(i).kind == CCJSqlParserConstants.S_CHAR_LITERAL;
+                }
+            }
+            String templateSql = fixStrings ? toTemplate(sql, slots, candidate) : shapeKey.sql;
+            try {
+                Statement statement = CCJSqlParserUtil.parse(templateSql, consumer);
+                boolean[] found = new boolean[slots.size()];
+                new Binder(null, found).walk(statement);
+
+                boolean complete = true;
+                for (int i = 0; i < found.length; i++) {
+                    candidate[i] = !found[i];
+                    complete &= found[i];
+                }
+                if (complete) {
+                    misses.increment();
+                    putTemplate(shapeKey, statement);
+                }
+                fixed = candidate;
+                break;
+            } catch (JSQLParserException ex) {
+                // try again with fixed string literals, e.g. for {d '2024-01-01'}
+            }
+        }
+        shapes.put(shapeKey, fixed, 1L);
+        return fixed;
+    }
+
+    private void putTemplate(Key key, Statement template) {
+        if (template instanceof ASTNodeAccess) {
+            ASTNodeAccessImpl.detach((ASTNodeAccess) template, key.sql);
+        }
+        templates.put(key, template, 1L);
+    }
+
+    private static String toTemplate(String sql, List<Token> slots, boolean[] fixed) {
+        StringBuilder builder = new StringBuilder(sql.length() + slots.size() * 16);
+        int position = 0;
+        for (int i = 0; i < slots.size(); i++) {
+            Token token = slots.get(i);
+            if (fixed != null && fixed[i]) {
+                continue;
+            }
+            // the absolute positions of the Tokens count from 1
+            builder.append(sql, position, token.absoluteBegin - 1);
+            switch (token.kind) {
+                case CCJSqlParserConstants.S_LONG:
+                    builder.append(LONG_SENTINEL).append(SLOT_OFFSET + i);
+                    break;
+                case CCJSqlParserConstants.S_DOUBLE:
+                    builder.append(DOUBLE_SENTINEL).append(SLOT_OFFSET + i);
+                    break;
+                default:
+                    builder.append('\'').append(STRING_SENTINEL).append(SLOT_OFFSET + i)
+                            .append('\'');
+            }
+            position = token.absoluteEnd - 1;
+        }
+        return builder.append(sql, position, sql.length()).toString();
+    }
+
+    private static int slotOf(String value, String sentinel) {
+        if (value != null && value.length() == sentinel.length() + 6
+                && value.startsWith(sentinel)) {
+            try {
+                return Integer.parseInt(value.substring(sentinel.length())) - SLOT_OFFSET;
+            } catch (NumberFormatException ex) {
+                return -1;
+            }
+        }
+        return -1;
+    }
+
+    private static int slotOf(Object value) {
+        if (value instanceof LongValue) {
+            return slotOf(((LongValue) value).getStringValue(), LONG_SENTINEL);
+        } else if (value instanceof DoubleValue) {
+            return slotOf(value.toString(), DOUBLE_SENTINEL);
+        } else if (value instanceof StringValue && ((StringValue) value).getPrefix() == null) {
+            return slotOf(((StringValue) value).getValue(), STRING_SENTINEL);
+        }
+        return -1;
+    }
+
+    private static Object bind(Object sentinel, String image) {
+        if (sentinel instanceof LongValue) {
+            return new LongValue(image);
+        } else if (sentinel instanceof DoubleValue) {
+            return new DoubleValue(image);
+        }
+        return new StringValue(image);
+    }
+
+    /**
+     * Walks the model by {@link ModelReflection} and either records the slots found in rebindable
+     * positions or replaces their sentinels by fresh value nodes.
+     */
+    private static final class Binder {
+        private final String[] images;
+        private final boolean[] found;
+        private final Set<Object> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+
+        private Binder(String[] images, boolean[] found) {
+            this.images = images;
+            this.found = found;
+        }
+
+        private Object replacement(Object sentinel) {
+            return images == null ? sentinel : bind(sentinel, images[slotOf(sentinel)]);
+        }
+
+        private void replaced(Object sentinel) {
+            if (found != null) {
+                found[slotOf(sentinel)] = true;
+            }
+        }
+
+        @SuppressWarnings({"unchecked", "PMD.CognitiveComplexity"})
+        private void walk(Object node) {
+            if (node == null || !visited.add(node)) {
+                return;
+            }
+            if (node instanceof List) {
+                List<Object> list = (List<Object>) node;
+                for (int i = 0; i < list.size(); i++) {
+                    Object value = list.get(i);
+                    if (slotOf(value) < 0) {
+                        walk(value);
+                        continue;
+                    }
+                    try {
+                        list.set(i, replacement(value));
+                        replaced(value);
+                    } catch (UnsupportedOperationException ex) {
+                        // immutable, so the slot stays unfound and becomes fixed
+                    }
+                }
+            } else if (node instanceof Map) {
+                for (Map.Entry<Object, Object> entry : ((Map<Object, Object>) node).entrySet()) {
+                    Object value = entry.getValue();
+                    walk(entry.getKey());
+                    if (slotOf(value) < 0) {
+                        walk(value);
+                        continue;
+                    }
+                    try {
+                        entry.setValue(replacement(value));
+                        replaced(value);
+                    } catch (UnsupportedOperationException ex) {
+                        // immutable, so the slot stays unfound and becomes fixed
+                    }
+                }
+            } else if (node instanceof Collection) {
+                // can't be replaced in place, so any sentinel stays unfound and becomes fixed
+                for (Object value : (Collection<Object>) node) {
+                    if (slotOf(value) < 0) {
+                        walk(value);
+                    }
+                }
+            } else if (node instanceof Object[]) {
+                Object[] array = (Object[]) node;
+                for (int i = 0; i < array.length; i++) {
+                    Object value = array[i];
+                    if (slotOf(value) < 0) {
+                        walk(value);
+                    } else if (array.getClass().getComponentType().isInstance(value)) {
+                        array[i] = replacement(value);
+                        replaced(value);
+                    }
+                }
+            } else if (ModelReflection.isModel(node)) {
+                walkFields(node);
+            }
+        }
+
+        private void walkFields(Object node) {
+            for (Field field : ModelReflection.children(node.getClass())) {
+                Object value = ModelReflection.get(field, node);
+                if (slotOf(value) < 0) {
+                    walk(value);
+                } else if (!Modifier.isFinal(field.getModifiers())) {
+                    ModelReflection.set(field, node, replacement(value));
+                    replaced(value);
+                }
+            }
+        }
+    }
+
+    /**
+     * Removes all cached templates, the statistics are kept.
+     */
+    public void clear() {
+        shapes.clear();
+        templates.clear();
+    }
+
+    /**
+     * @return the number of cached templates
+     */
+    public long size() {
+        return templates.size();
+    }
+
+    /**
+     * @return the number of statements bound from a cached template
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * @return the number of templates, which had to be parsed
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * @return the number of statements parsed as usual, because they have no literals or no
+     *         template could be built
+     */
+    public long getBypassCount() {
+        return bypasses.sum();
+    }
+
+    private static final class Key {
+        private final String sql;
+        private final FrozenFeatureConfiguration configuration;
+        private final int hash;
+
+        private Key(String sql, FrozenFeatureConfiguration configuration) {
+            this.sql = sql;
+            this.configuration = configuration;
+            this.hash = 31 * sql.hashCode() + configuration.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key that = (Key) o;
+            return hash == that.hash && sql.equals(that.sql)
+                    && configuration.equals(that.configuration);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
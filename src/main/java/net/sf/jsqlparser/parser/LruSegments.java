@@ -0,0 +1,151 @@
+/*-
+ * #%L
+ * JSQLParser library
+ * %%
+ * Copyright (C) 2004 - 2025 JSQLParser
+ * %%
+ * Dual licensed under GNU LGPL 2.1 or Apache License 2.0
+ * #L%
+ */
+package net.sf.jsqlparser.parser;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The bounded storage of the caches: the entries are spread over independently locked segments,
+ * each evicting its least recently used entries once the maximum weight of the segment has been
+ * exceeded.
+ *
+ * @param <K> the type of the keys
+ * @param <V> the type of the cached values
+ */
+final class LruSegments<K, V> {
+
+    private static final int MAX_SEGMENTS = 16;
+
+    private final Segment<K, V>[] segments;
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * @param maximumWeight the maximum total weight of the entries
+     */
+    @SuppressWarnings("unchecked")
+    LruSegments(long maximumWeight) {
+        if (maximumWeight <= 0) {
+            throw new IllegalArgumentException("The maximum weight must be positive.");
+        }
+
+        // small caches would suffer from the split budget
+        int segmentCount = maximumWeight < MAX_SEGMENTS * 64L ? 1 : MAX_SEGMENTS;
+        segments = new Segment[segmentCount];
+        for (int i = 0; i < segmentCount; i++) {
+            segments[i] = new Segment<>(Math.max(1L, maximumWeight / segmentCount), evictions);
+        }
+    }
+
+    private Segment<K, V> segmentFor(K key) {
+        int h = key.hashCode();
+        h ^= h >>> 16;
+        return segments[h & (segments.length - 1)];
+    }
+
+    /**
+     * @return the cached value or <code>null</code>
+     */
+    V get(K key) {
+        return segmentFor(key).get(key);
+    }
+
+    /**
+     * Caches the value, evicting the least recently used entries but never the new one.
+     */
+    void put(K key, V value, long weight) {
+        segmentFor(key).put(key, new Entry<>(value, weight));
+    }
+
+    void clear() {
+        for (Segment<K, V> segment : segments) {
+            segment.clear();
+        }
+    }
+
+    long size() {
+        long size = 0;
+        for (Segment<K, V> segment : segments) {
+            size += segment.size();
+        }
+        return size;
+    }
+
+    long getWeight() {
+        long weight = 0;
+        for (Segment<K, V> segment : segments) {
+            weight += segment.getWeight();
+        }
+        return weight;
+    }
+
+    long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    private static final class Entry<V> {
+        private final V value;
+        private final long weight;
+
+        private Entry(V value, long weight) {
+            this.value = value;
+            this.weight = weight;
+        }
+    }
+
+    private static final class Segment<K, V> {
+        private final long maximumWeight;
+        private final LongAdder evictions;
+        private final LinkedHashMap<K, Entry<V>> entries = new LinkedHashMap<>(16, 0.75f, true);
+        private long weight = 0;
+
+        private Segment(long maximumWeight, LongAdder evictions) {
+            this.maximumWeight = maximumWeight;
+            this.evictions = evictions;
+        }
+
+        private synchronized V get(K key) {
+            Entry<V> entry = entries.get(key);
+            return entry != null ? entry.value : null;
+        }
+
+        private synchronized void put(K key, Entry<V> entry) {
+            Entry<V> previous = entries.put(key, entry);
+            if (previous != null) {
+                weight -= previous.weight;
+            }
+            weight += entry.weight;
+
+            // evict the least recently used entries, but never the new entry itself
+            Iterator<Map.Entry<K, Entry<V>>> iterator = entries.entrySet().iterator();
+            while (weight > maximumWeight && entries.size() > 1) {
+                Entry<V> eldest = iterator.next().getValue();
+                iterator.remove();
+                weight -= eldest.weight;
+                evictions.increment();
+            }
+        }
+
+        private synchronized void clear() {
+            entries.clear();
+            weight = 0;
+        }
+
+        private synchronized int size() {
+            return entries.size();
+        }
+
+        private synchronized long getWeight() {
+            return weight;
+        }
+    }
+}
@@ -0,0 +1,178 @@
+/*-
+ * #%L
+ * JSQLParser library
+ * %%
+ * Copyright (C) 2004 - 2025 JSQLParser
+ * %%
+ * Dual licensed under GNU LGPL 2.1 or Apache License 2.0
+ * #L%
+ */
+package net.sf.jsqlparser.parser;
+
+import java.io.IOException;
+import java.nio.CharBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * A {@link Provider} reading a file through a sliding, memory-mapped window, so even files larger
+ * than the heap can be parsed. The bytes are decoded straight into the buffer of the
+ * {@link SimpleCharStream} without any intermediate copy.
+ * <p>
+ * ISO-8859-1 is widened byte by byte, runs of ASCII characters in UTF-8 and US-ASCII are widened
+ * the same way and only the remaining bytes go through the {@link CharsetDecoder}. Malformed input
+ * is replaced, the same way a {@link java.io.InputStreamReader} does.
+ *
+ * <pre>{@code
+ * try (Stream<ParseResult> results =
+ *         CCJSqlParserUtil.streamStatements(Paths.get("dump.sql"), StandardCharsets.UTF_8, null)) {
+ *     results.forEach(...);
+ * }
+ * }</pre>
+ */
+public class MappedFileProvider implements Provider {
+    /**
+     * The default size of the mapped window, 64 MB
+     */
+    public static final int DEFAULT_WINDOW_SIZE = 64 * 1024 * 1024;
+
+    private final FileChannel channel;
+    private final long fileSize;
+    private final int windowSize;
+    private final CharsetDecoder decoder;
+    private final boolean singleByte;
+    private final boolean asciiCompatible;
+
+    private MappedByteBuffer window;
+    private long windowStart = 0;
+    private boolean flushed = false;
+    private final CharBuffer pending = CharBuffer.allocate(2).flip();
+
+    public MappedFileProvider(Path path, Charset charset) throws IOException {
+        this(path, charset, DEFAULT_WINDOW_SIZE);
+    }
+
+    /**
+     * @param path the file to read
+     * @param charset the encoding of the file
+     * @param windowSize the number of bytes mapped at once
+     * @throws IOException when the file can't be opened or mapped
+     */
+    public MappedFileProvider(Path path, Charset charset, int windowSize) throws IOException {
+        if (windowSize < 16) {
+            throw new IllegalArgumentException("The window size must be at least 16 bytes.");
+        }
+        this.channel = FileChannel.open(path, StandardOpenOption.READ);
+        this.fileSize = channel.size();
+        this.windowSize = windowSize;
+        this.decoder = charset.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        this.singleByte = StandardCharsets.ISO_8859_1.equals(charset);
+        this.asciiCompatible = StandardCharsets.UTF_8.equals(charset)
+                || StandardCharsets.US_ASCII.equals(charset);
+        map(0);
+    }
+
+    private void map(long position) throws IOException {
+        windowStart = position;
+        window = channel.map(FileChannel.MapMode.READ_ONLY, position,
+                Math.min(windowSize, fileSize - position));
+    }
+
+    private boolean isLastWindow() {
+        return windowStart + window.limit() == fileSize;
+    }
+
+    /**
+     * @return the size of the file in bytes
+     */
+    public long getFileSize() {
+        return fileSize;
+    }
+
+    /**
+     * @return the number of bytes consumed so far, also after closing
+     */
+    public long getPosition() {
+        return window != null ? windowStart + window.position() : windowStart;
+    }
+
+    @Override
+    public int read(char[] buffer, int offset, int len) throws IOException {
+        if (window == null) {
+            // closed already
+            return -1;
+        }
+        if (len == 0) {
+            return 0;
+        }
+
+        int count = 0;
+        if (pending.hasRemaining()) {
+            // the low surrogate, which did not fit into the previous buffer
+            buffer[offset] = pending.get();
+            count = 1;
+        }
+        if (flushed) {
+            return count > 0 ? count : -1;
+        }
+
+        if (!window.hasRemaining() && !isLastWindow()) {
+            map(getPosition());
+        }
+
+        if (singleByte || asciiCompatible) {
+            int n = count + Math.min(len - count, window.remaining());
+            for (; count < n; count++) {
+                byte b = window.get();
+                if (b < 0 && !singleByte) {
+                    // not ASCII, let the decoder handle the rest
+                    window.position(window.position() - 1);
+                    break;
+                }
+                buffer[offset + count] = (char) (b & 0xFF);
+            }
+            if (singleByte || count == len) {
+                return count > 0 ? count : -1;
+            }
+        }
+
+        CharBuffer out = CharBuffer.wrap(buffer, offset + count, len - count);
+        CoderResult result = decoder.decode(window, out, isLastWindow());
+        if (result.isUnderflow() && !isLastWindow()) {
+            // a character may be split by the window's end, so move the window onto it
+            map(getPosition());
+            result = decoder.decode(window, out, isLastWindow());
+        }
+        if (result.isOverflow() && out.position() == offset) {
+            // a surrogate pair does not fit into a single char
+            pending.clear();
+            decoder.decode(window, pending, isLastWindow());
+            pending.flip();
+            out.put(pending.get());
+        }
+        if (!window.hasRemaining() && isLastWindow() && !flushed && out.hasRemaining()) {
+            flushed = true;
+            decoder.flush(out);
+        }
+
+        count = out.position() - offset;
+        return count > 0 ? count : -1;
+    }
+
+    @Override
+    public void close() throws IOException {
+        // keep the position for reporting, the window is released
+        windowStart = getPosition();
+        window = null;
+        channel.close();
+    }
+}
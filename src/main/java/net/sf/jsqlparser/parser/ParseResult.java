@@ -0,0 +1,100 @@
+/*-
+ * #%L
+ * JSQLParser library
+ * %%
+ * Copyright (C) 2004 - 2025 JSQLParser
+ * %%
+ * Dual licensed under GNU LGPL 2.1 or Apache License 2.0
+ * #L%
+ */
+package net.sf.jsqlparser.parser;
+
+import net.sf.jsqlparser.JSQLParserException;
+import net.sf.jsqlparser.statement.Statement;
+
+/**
+ * The outcome of parsing a single statement of a stream, see {@link StatementIterator}: either the
+ * {@link Statement} or the {@link JSQLParserException} of a failed statement, together with the
+ * span of the statement text within the stream.
+ */
+public final class ParseResult {
+    private final Statement statement;
+    private final JSQLParserException exception;
+    private final long beginOffset;
+    private final long endOffset;
+    private final int beginLine;
+    private final int beginColumn;
+    private final int endLine;
+    private final int endColumn;
+
+    ParseResult(Statement statement, JSQLParserException exception, Token begin, Token end) {
+        this.statement = statement;
+        this.exception = exception;
+        // the absolute positions of the Tokens count from 1
+        this.beginOffset = Math.max(0, begin.getAbsoluteBegin() - 1);
+        this.endOffset = Math.max(0, end.getAbsoluteEnd() - 1);
+        this.beginLine = begin.beginLine;
+        this.beginColumn = begin.beginColumn;
+        this.endLine = end.endLine;
+        this.endColumn = end.endColumn;
+    }
+
+    /**
+     * @return <code>true</code> when the statement was parsed
+     */
+    public boolean isSuccess() {
+        return exception == null;
+    }
+
+    /**
+     * @return the parsed statement or <code>null</code>, when the statement failed, still linked
+     *         to the Tokens of the stream, see {@link StatementIterator}
+     */
+    public Statement getStatement() {
+        return statement;
+    }
+
+    /**
+     * @return the reason of the failure or <code>null</code>, when the statement was parsed
+     */
+    public JSQLParserException getException() {
+        return exception;
+    }
+
+    /**
+     * @return the offset of the first character of the statement text within the stream
+     */
+    public long getBeginOffset() {
+        return beginOffset;
+    }
+
+    /**
+     * @return the offset after the last character of the statement text within the stream,
+     *         without the delimiter
+     */
+    public long getEndOffset() {
+        return endOffset;
+    }
+
+    public int getBeginLine() {
+        return beginLine;
+    }
+
+    public int getBeginColumn() {
+        return beginColumn;
+    }
+
+    public int getEndLine() {
+        return endLine;
+    }
+
+    public int getEndColumn() {
+        return endColumn;
+    }
+
+    @Override
+    public String toString() {
+        return (isSuccess() ? String.valueOf(statement) : "Failed: " + exception.getMessage())
+                + " [" + beginLine + ":" + beginColumn + " - " + endLine + ":" + endColumn + "]";
+    }
+}
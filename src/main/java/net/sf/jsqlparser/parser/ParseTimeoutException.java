@@ -0,0 +1,35 @@
+/*-
+ * #%L
+ * JSQLParser library
+ * %%
+ * Copyright (C) 2004 - 2025 JSQLParser
+ * %%
+ * Dual licensed under GNU LGPL 2.1 or Apache License 2.0
+ * #L%
+ */
+package net.sf.jsqlparser.parser;
+
+/**
+ * Thrown by the {@link CCJSqlParser} running in the caller's thread, when the deadline armed by
+ * {@link CCJSqlParser#withDeadline(long)} has passed. The parser stops immediately and can't
+ * continue afterwards.
+ * <p>
+ * This is an unchecked exception on purpose, so it can't be swallowed by the error recovery of the
+ * grammar, which catches {@link ParseException} only.
+ */
+public class ParseTimeoutException extends RuntimeException {
+
+    private final long timeOut;
+
+    public ParseTimeoutException(long timeOut) {
+        super("Time out of " + timeOut + " ms occurred.");
+        this.timeOut = timeOut;
+    }
+
+    /**
+     * @return the exceeded time out in milliseconds
+     */
+    public long getTimeOut() {
+        return timeOut;
+    }
+}
@@ -0,0 +1,229 @@
+/*-
+ * #%L
+ * JSQLParser library
+ * %%
+ * Copyright (C) 2004 - 2025 JSQLParser
+ * %%
+ * Dual licensed under GNU LGPL 2.1 or Apache License 2.0
+ * #L%
+ */
+package net.sf.jsqlparser.parser;
+
+import java.util.Locale;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import net.sf.jsqlparser.parser.feature.Feature;
+import net.sf.jsqlparser.parser.feature.FeatureConfiguration;
+
+/**
+ * Process wide execution engine for the static entry points of {@link CCJSqlParserUtil}.
+ * <p>
+ * Enforcing {@link Feature#timeOut} requires running the parser in a separate thread. Instead of
+ * creating (and tearing down) a new platform thread for every single statement, the parse tasks
+ * are handed to one of the following executors, selected by {@link Feature#parserExecutor}:
+ * <ul>
+ * <li>{@link Mode#SHARED}: a bounded pool of daemon threads with a bounded queue, shared by all
+ * parsers (default)</li>
+ * <li>{@link Mode#VIRTUAL}: a new virtual thread per parse on JDK 21+, falls back to
+ * {@link Mode#SHARED} on older JDKs</li>
+ * <li>{@link Mode#DEDICATED}: a new single thread executor per parse, which is shut down afterwards
+ * (the legacy behaviour)</li>
+ * <li>{@link Mode#CALLER}: no executor at all, the parser runs in the caller's thread and checks a
+ * cooperative deadline instead, throwing a {@link ParseTimeoutException} once it has passed</li>
+ * </ul>
+ * <p>
+ * The time out of a parse handed to an executor starts when the parse starts running, not when it
+ * is queued, and the parser checks it cooperatively, so it gives its thread back once the time out
+ * has passed. When the queue of the {@link Mode#SHARED} pool is full, the caller runs the parse
+ * itself. A parse, which still occupies its thread after the time out, is replaced by an extra
+ * thread until it finally ends, so a few pathological statements can't starve all the others.
+ *
+ * <pre>{@code
+ * Statement stmt = CCJSqlParserUtil.parse(sqlStr,
+ *         parser -> parser.withParserExecutor(ParserExecutor.Mode.VIRTUAL));
+ * }</pre>
+ */
+public final class ParserExecutor {
+    private static final Logger LOGGER = Logger.getLogger(ParserExecutor.class.getName());
+
+    /**
+     * System property to override the number of threads of the {@link Mode#SHARED} pool, defaults
+     * to the number of available processors
+     */
+    public static final String POOL_SIZE_PROPERTY = "jsqlparser.executor.poolSize";
+
+    /**
+     * System property to override the number of parse tasks queued per thread of the
+     * {@link Mode#SHARED} pool, before the callers run them by themselves, defaults to 16
+     */
+    public static final String QUEUE_SIZE_PROPERTY = "jsqlparser.executor.queueSize";
+
+    public enum Mode {
+        SHARED, VIRTUAL, DEDICATED, CALLER;
+
+        public static Mode from(String name) {
+            return name == null ? SHARED : valueOf(name.toUpperCase(Locale.ROOT));
+        }
+    }
+
+    private ParserExecutor() {}
+
+    /**
+     * @param configuration the parser's feature configuration
+     * @return the {@link Mode} configured by {@link Feature#parserExecutor}
+     */
+    public static Mode getMode(FeatureConfiguration configuration) {
+        return Mode.from(configuration.getAsString(Feature.parserExecutor));
+    }
+
+    /**
+     * @return the bounded thread pool shared by all parsers
+     */
+    public static ExecutorService getSharedExecutor() {
+        return SharedHolder.EXECUTOR;
+    }
+
+    /**
+     * @return an executor starting a new virtual thread per parse, or the
+     *         {@link #getSharedExecutor()} when virtual threads are not supported by the JDK
+     */
+    public static ExecutorService getVirtualExecutor() {
+        return VirtualHolder.EXECUTOR != null ? VirtualHolder.EXECUTOR : getSharedExecutor();
+    }
+
+    /**
+     * @return <code>true</code> when the running JDK supports virtual threads (JDK 21+)
+     */
+    public static boolean isVirtualThreadSupported() {
+        return VirtualHolder.EXECUTOR != null;
+    }
+
+    /**
+     * Provides the executor for the given mode. Executors obtained here must be handed back to
+     * {@link #release(Mode, ExecutorService)} once the parse has finished.
+     *
+     * @param mode the execution mode
+     * @return the executor to submit the parse task to or <code>null</code> for
+     *         {@link Mode#CALLER}
+     */
+    public static ExecutorService acquire(Mode mode) {
+        switch (mode) {
+            case CALLER:
+                return null;
+            case VIRTUAL:
+                return getVirtualExecutor();
+            case DEDICATED:
+                return Executors.newSingleThreadExecutor();
+            default:
+                return getSharedExecutor();
+        }
+    }
+
+    /**
+     * Shuts down executors created for a single parse, shared executors stay alive.
+     *
+     * @param mode the execution mode the executor was acquired for
+     * @param executorService the executor returned by {@link #acquire(Mode)}
+     */
+    public static void release(Mode mode, ExecutorService executorService) {
+        if (mode == Mode.DEDICATED) {
+            executorService.shutdown();
+        }
+    }
+
+    /**
+     * Adds an extra thread to the {@link Mode#SHARED} pool, while a parse occupies its thread
+     * beyond the time out. The pool grows to twice its size at most.
+     *
+     * @param executorService the executor running the stuck parse
+     * @return <code>true</code> when a thread has been added, which must be removed by
+     *         {@link #removeReplacement(ExecutorService)} once the stuck parse has ended
+     */
+    static boolean addReplacement(ExecutorService executorService) {
+        if (executorService != SharedHolder.EXECUTOR) {
+            return false;
+        }
+        ThreadPoolExecutor executor = SharedHolder.EXECUTOR;
+        synchronized (executor) {
+            int poolSize = executor.getCorePoolSize();
+            if (poolSize >= 2 * SharedHolder.POOL_SIZE) {
+                return false;
+            }
+            // the maximum must never be less than the core size
+            executor.setMaximumPoolSize(poolSize + 1);
+            executor.setCorePoolSize(poolSize + 1);
+            return true;
+        }
+    }
+
+    /**
+     * @param executorService the executor, which has run the stuck parse
+     * @see #addReplacement(ExecutorService)
+     */
+    static void removeReplacement(ExecutorService executorService) {
+        ThreadPoolExecutor executor = (ThreadPoolExecutor) executorService;
+        synchronized (executor) {
+            int poolSize = executor.getCorePoolSize() - 1;
+            executor.setCorePoolSize(poolSize);
+            executor.setMaximumPoolSize(poolSize);
+        }
+    }
+
+    private static int getProperty(String property, int defaultValue) {
+        String value = System.getProperty(property);
+        if (value != null) {
+            try {
+                return Math.max(1, Integer.parseInt(value.trim()));
+            } catch (NumberFormatException ex) {
+                LOGGER.log(Level.WARNING, "Invalid " + property + ": " + value, ex);
+            }
+        }
+        return defaultValue;
+    }
+
+    private static final class SharedHolder {
+        private static final int POOL_SIZE =
+                getProperty(POOL_SIZE_PROPERTY, Runtime.getRuntime().availableProcessors());
+        private static final ThreadPoolExecutor EXECUTOR = createSharedExecutor();
+
+        private static ThreadPoolExecutor createSharedExecutor() {
+            AtomicInteger threadCount = new AtomicInteger();
+            ThreadFactory threadFactory = runnable -> {
+                Thread thread =
+                        new Thread(runnable, "jsqlparser-" + threadCount.incrementAndGet());
+                // never prevent the JVM from exiting
+                thread.setDaemon(true);
+                return thread;
+            };
+            ThreadPoolExecutor executor = new ThreadPoolExecutor(POOL_SIZE, POOL_SIZE, 60L,
+                    TimeUnit.SECONDS,
+                    new ArrayBlockingQueue<>(POOL_SIZE * getProperty(QUEUE_SIZE_PROPERTY, 16)),
+                    threadFactory, new ThreadPoolExecutor.CallerRunsPolicy());
+            executor.allowCoreThreadTimeOut(true);
+            return executor;
+        }
+    }
+
+    private static final class VirtualHolder {
+        private static final ExecutorService EXECUTOR = createVirtualExecutor();
+
+        // JSQLParser targets Java 11, so the JDK 21 API is looked up reflectively
+        private static ExecutorService createVirtualExecutor() {
+            try {
+                return (ExecutorService) Executors.class
+                        .getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+            } catch (ReflectiveOperationException | RuntimeException ex) {
+                LOGGER.log(Level.FINE, "Virtual Threads are not supported", ex);
+                return null;
+            }
+        }
+    }
+}
@@ -0,0 +1,117 @@
+/*-
+ * #%L
+ * JSQLParser library
+ * %%
+ * Copyright (C) 2004 - 2025 JSQLParser
+ * %%
+ * Dual licensed under GNU LGPL 2.1 or Apache License 2.0
+ * #L%
+ */
+package net.sf.jsqlparser.parser;
+
+import java.util.ArrayDeque;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Thread confined pool of {@link CCJSqlParser} instances, used by the static entry points of
+ * {@link CCJSqlParserUtil}.
+ * <p>
+ * Each thread keeps a few idle parsers, which are {@link CCJSqlParser#reset(Provider) reset} when
+ * released and only pointed to the new input when acquired again. This way the Token Manager, the
+ * {@link SimpleCharStream} buffers and the
+ * {@link net.sf.jsqlparser.parser.feature.FeatureConfiguration} are allocated once per thread
+ * instead of once per parse. Buffers grown by a huge token or statement are allocated again in
+ * their default size on reset, so they are not retained by the idle parsers. Parsers in use are
+ * never part of the pool, so nested parsing within the same thread is safe.
+ * <p>
+ * A released parser is reused by the next parse of the thread, so neither the parser nor any of
+ * its parts, e.g. its Token Manager or its configuration, must be kept after the release. This
+ * applies to the parsers handed to the consumers of {@link CCJSqlParserUtil} as well.
+ *
+ * <pre>{@code
+ * CCJSqlParser parser = ParserPool.acquire(sqlStr);
+ * try {
+ *     Statement statement = CCJSqlParserUtil.parseStatement(parser, null);
+ * } finally {
+ *     ParserPool.release(parser);
+ * }
+ * }</pre>
+ */
+public final class ParserPool {
+    private static final Logger LOGGER = Logger.getLogger(ParserPool.class.getName());
+
+    /**
+     * System property to override the number of idle parsers kept per thread, defaults to 4 and
+     * <code>0</code> disables the pooling
+     */
+    public static final String POOL_SIZE_PROPERTY = "jsqlparser.parserPool.size";
+
+    private static final int POOL_SIZE = getPoolSize();
+
+    private static final ThreadLocal<ArrayDeque<CCJSqlParser>> IDLE_PARSERS =
+            ThreadLocal.withInitial(ArrayDeque::new);
+
+    private ParserPool() {}
+
+    /**
+     * Provides an idle parser of the current thread reset onto the given input, or a new parser
+     * when no idle parser is left. The parser must be handed back to {@link #release(CCJSqlParser)}
+     * once the parse has finished.
+     *
+     * @param sql the statement text
+     * @return a parser with all features set to their defaults
+     */
+    public static CCJSqlParser acquire(String sql) {
+        return acquire(new StringProvider(sql));
+    }
+
+    /**
+     * Provides an idle parser of the current thread reset onto the given input, e.g. a
+     * {@link ByteArrayProvider}, or a new parser when no idle parser is left.
+     *
+     * @param provider the statement text
+     * @return a parser with all features set to their defaults
+     * @see #acquire(String)
+     */
+    public static CCJSqlParser acquire(Provider provider) {
+        CCJSqlParser parser = POOL_SIZE > 0 ? IDLE_PARSERS.get().pollFirst() : null;
+        if (parser == null) {
+            return new CCJSqlParser(provider);
+        }
+        // the parser has been reset when released
+        parser.ReInit(provider);
+        return parser;
+    }
+
+    /**
+     * Hands a parser obtained by {@link #acquire(String)} back to the pool of the current thread.
+     * Interrupted parsers may still be running in another thread and are discarded.
+     *
+     * @param parser the parser to release, can be <code>null</code>
+     */
+    public static void release(CCJSqlParser parser) {
+        if (parser == null || parser.interrupted) {
+            return;
+        }
+        ArrayDeque<CCJSqlParser> idleParsers = IDLE_PARSERS.get();
+        if (idleParsers.size() < POOL_SIZE) {
+            // drop the reference to the last input and AST before idling
+            parser.reset(new StringProvider(""));
+            idleParsers.offerFirst(parser);
+        }
+    }
+
+    private static int getPoolSize() {
+        int poolSize = 4;
+        String value = System.getProperty(POOL_SIZE_PROPERTY);
+        if (value != null) {
+            try {
+                poolSize = Integer.parseInt(value.trim());
+            } catch (NumberFormatException ex) {
+                LOGGER.log(Level.WARNING, "Invalid " + POOL_SIZE_PROPERTY + ": " + value, ex);
+            }
+        }
+        return Math.max(0, poolSize);
+    }
+}
@@ -36,12 +36,30 @@ public class SimpleCharStream {
     protected int inBuf = 0;
     protected int tabSize = 1;
     protected boolean trackLineColumn = true;
-    protected int totalCharsRead = 0;
-    protected int absoluteTokenBegin = 0;
+    // the position-light mode, see setTrackLineColumn()
+    private long[] lineStarts = new long[64];
+    private int lineCount = 1;
+    private int lineBase = 0;
+    private int lineHint = 0;
+    private long tokenBeginOffset = 0;
+    private int firstLine = 1;
+    private int firstColumn = 1;
+    // 64 bit, since the stream may be larger than 2 GB
+    protected long totalCharsRead = 0;
+    protected long absoluteTokenBegin = 0;
     int bufsize;
     int available;
     int tokenBegin;
 
+    // the largest buffers kept by ReInit(), larger ones are allocated again in their default size
+    static final int MAX_RETAINED_BUFFER_SIZE = 64 * 1024;
+    private static final int MAX_RETAINED_LINE_STARTS = 4096;
+
+    // direct-mapped cache of the recent token images, kept when the stream is re-initialised
+    private static final int IMAGE_CACHE_SIZE = 1024;
+    private static final int MAX_CACHED_IMAGE_LENGTH = 32;
+    private final String[] imageCache = new String[IMAGE_CACHE_SIZE];
+
     /**
      * Constructor.
      */
@@ -54,6 +72,8 @@ public class SimpleCharStream {
         buffer = new char[buffersize];
         bufline = new int[buffersize];
         bufcolumn = new int[buffersize];
+        firstLine = startline;
+        firstColumn = startcolumn;
     }
 
     /**
@@ -79,13 +99,22 @@ public class SimpleCharStream {
     }
 
     public final int getAbsoluteTokenBegin() {
+        return (int) Math.min(absoluteTokenBegin, Integer.MAX_VALUE);
+    }
+
+    /**
+     * @return the absolute offset of the current Token, also beyond 2 GB
+     */
+    public final long getAbsoluteTokenBeginLong() {
         return absoluteTokenBegin;
     }
 
     protected void ExpandBuff(boolean wrapAround) {
-        char[] newbuffer = new char[bufsize + 2048];
-        int[] newbufline = new int[bufsize + 2048];
-        int[] newbufcolumn = new int[bufsize + 2048];
+        // grow geometrically, so a huge token costs linear instead of quadratic copying
+        int newSize = Math.max(bufsize + 2048, bufsize << 1);
+        char[] newbuffer = new char[newSize];
+        int[] newbufline = trackLineColumn ? new int[newSize] : null;
+        int[] newbufcolumn = trackLineColumn ? new int[newSize] : null;
 
         try {
             if (wrapAround) {
@@ -93,24 +122,30 @@ public class SimpleCharStream {
                 System.arraycopy(buffer, 0, newbuffer, bufsize - tokenBegin, bufpos);
                 buffer = newbuffer;
 
-                System.arraycopy(bufline, tokenBegin, newbufline, 0, bufsize - tokenBegin);
-                System.arraycopy(bufline, 0, newbufline, bufsize - tokenBegin, bufpos);
-                bufline = newbufline;
+                if (trackLineColumn) {
+                    System.arraycopy(bufline, tokenBegin, newbufline, 0, bufsize - tokenBegin);
+                    System.arraycopy(bufline, 0, newbufline, bufsize - tokenBegin, bufpos);
+                    bufline = newbufline;
 
-                System.arraycopy(bufcolumn, tokenBegin, newbufcolumn, 0, bufsize - tokenBegin);
-                System.arraycopy(bufcolumn, 0, newbufcolumn, bufsize - tokenBegin, bufpos);
-                bufcolumn = newbufcolumn;
+                    System.arraycopy(bufcolumn, tokenBegin, newbufcolumn, 0,
+                            bufsize - tokenBegin);
+                    System.arraycopy(bufcolumn, 0, newbufcolumn, bufsize - tokenBegin, bufpos);
+                    bufcolumn = newbufcolumn;
+                }
 
                 maxNextCharInd = bufpos += bufsize - tokenBegin;
             } else {
                 System.arraycopy(buffer, tokenBegin, newbuffer, 0, bufsize - tokenBegin);
                 buffer = newbuffer;
 
-                System.arraycopy(bufline, tokenBegin, newbufline, 0, bufsize - tokenBegin);
-                bufline = newbufline;
+                if (trackLineColumn) {
+                    System.arraycopy(bufline, tokenBegin, newbufline, 0, bufsize - tokenBegin);
+                    bufline = newbufline;
 
-                System.arraycopy(bufcolumn, tokenBegin, newbufcolumn, 0, bufsize - tokenBegin);
-                bufcolumn = newbufcolumn;
+                    System.arraycopy(bufcolumn, tokenBegin, newbufcolumn, 0,
+                            bufsize - tokenBegin);
+                    bufcolumn = newbufcolumn;
+                }
 
                 maxNextCharInd = bufpos -= tokenBegin;
             }
@@ -119,7 +154,7 @@ public class SimpleCharStream {
         }
 
 
-        bufsize += 2048;
+        bufsize = newSize;
         available = bufsize;
         tokenBegin = 0;
     }
@@ -157,6 +192,7 @@ public class SimpleCharStream {
             backup(0);
             if (tokenBegin == -1) {
                 tokenBegin = bufpos;
+                tokenBeginOffset = totalCharsRead - 1;
             }
             throw e;
         }
@@ -171,6 +207,7 @@ public class SimpleCharStream {
         tokenBegin = bufpos;
 
         absoluteTokenBegin = totalCharsRead;
+        tokenBeginOffset = totalCharsRead - 1;
 
         return c;
     }
@@ -233,7 +270,11 @@ public class SimpleCharStream {
 
         char c = buffer[bufpos];
 
-        UpdateLineColumn(c);
+        if (trackLineColumn) {
+            UpdateLineColumn(c);
+        } else {
+            indexLineStart(c);
+        }
         return c;
     }
 
@@ -244,7 +285,7 @@ public class SimpleCharStream {
      */
 
     public int getColumn() {
-        return bufcolumn[bufpos];
+        return getEndColumn();
     }
 
     @Deprecated
@@ -254,35 +295,35 @@ public class SimpleCharStream {
      */
 
     public int getLine() {
-        return bufline[bufpos];
+        return getEndLine();
     }
 
     /**
      * Get token end column number.
      */
     public int getEndColumn() {
-        return bufcolumn[bufpos];
+        return trackLineColumn ? bufcolumn[bufpos] : columnAt(totalCharsRead - 1);
     }
 
     /**
      * Get token end line number.
      */
     public int getEndLine() {
-        return bufline[bufpos];
+        return trackLineColumn ? bufline[bufpos] : lineAt(totalCharsRead - 1);
     }
 
     /**
      * Get token beginning column number.
      */
     public int getBeginColumn() {
-        return bufcolumn[tokenBegin];
+        return trackLineColumn ? bufcolumn[tokenBegin] : columnAt(tokenBeginOffset);
     }
 
     /**
      * Get token beginning line number.
      */
     public int getBeginLine() {
-        return bufline[tokenBegin];
+        return trackLineColumn ? bufline[tokenBegin] : lineAt(tokenBeginOffset);
     }
 
     /**
@@ -305,14 +346,26 @@ public class SimpleCharStream {
         line = startline;
         column = startcolumn - 1;
 
-        if (buffer == null || buffersize != buffer.length) {
-            available = bufsize = buffersize;
+        // keep grown buffers when the stream is reused, unless a huge token or statement has
+        // grown them beyond the limit, which would keep them allocated for the life of the stream
+        if (buffer == null || buffersize > buffer.length
+                || buffer.length > Math.max(buffersize, MAX_RETAINED_BUFFER_SIZE)) {
             buffer = new char[buffersize];
-            bufline = new int[buffersize];
-            bufcolumn = new int[buffersize];
         }
+        if (trackLineColumn && (bufline == null || bufline.length != buffer.length)) {
+            bufline = new int[buffer.length];
+            bufcolumn = new int[buffer.length];
+        }
+        if (lineStarts.length > MAX_RETAINED_LINE_STARTS) {
+            lineStarts = new long[64];
+        }
+        available = bufsize = buffer.length;
+        firstLine = startline;
+        firstColumn = startcolumn;
+        clearLineStarts();
         prevCharIsLF = prevCharIsCR = false;
         tokenBegin = inBuf = maxNextCharInd = 0;
+        totalCharsRead = absoluteTokenBegin = tokenBeginOffset = 0;
         bufpos = -1;
     }
 
@@ -333,16 +386,46 @@ public class SimpleCharStream {
 
     /**
      * Get token literal value.
+     * <p>
+     * Short images are looked up in a small cache first, so repeated keywords, identifiers and
+     * literals share a single String instead of allocating a new one per Token.
      */
     public String GetImage() {
         if (bufpos >= tokenBegin) {
-            return new String(buffer, tokenBegin, bufpos - tokenBegin + 1);
+            int length = bufpos - tokenBegin + 1;
+            if (length > MAX_CACHED_IMAGE_LENGTH) {
+                return new String(buffer, tokenBegin, length);
+            }
+
+            // the same hash as String.hashCode(), which is cached by the String
+            int hash = 0;
+            for (int i = tokenBegin; i <= bufpos; i++) {
+                hash = 31 * hash + buffer[i];
+            }
+            int slot = (hash ^ (hash >>> 16)) & (IMAGE_CACHE_SIZE - 1);
+            String cached = imageCache[slot];
+            if (cached != null && cached.length() == length && cached.hashCode() == hash
+                    && isImage(cached)) {
+                return cached;
+            }
+            String image = new String(buffer, tokenBegin, length);
+            imageCache[slot] = image;
+            return image;
         } else {
             return new String(buffer, tokenBegin, bufsize - tokenBegin)
                     + new String(buffer, 0, bufpos + 1);
         }
     }
 
+    private boolean isImage(String cached) {
+        for (int i = 0, j = tokenBegin; j <= bufpos; i++, j++) {
+            if (cached.charAt(i) != buffer[j]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     /**
      * Get the suffix.
      */
@@ -372,6 +455,10 @@ public class SimpleCharStream {
      * Method to adjust line and column numbers for the start of a token.
      */
     public void adjustBeginLineColumn(int newLine, int newCol) {
+        if (!trackLineColumn) {
+            // the positions are derived from the line starts and can't be adjusted
+            return;
+        }
         int start = tokenBegin;
         int len;
 
@@ -416,8 +503,98 @@ public class SimpleCharStream {
         return trackLineColumn;
     }
 
+    /**
+     * Switches between tracking the line and column of every buffered character (the default) and
+     * the position-light mode, which only indexes the offsets of the line starts and derives the
+     * positions of the tokens from them. The light mode saves two <code>int</code> arrays as large
+     * as the buffer and their updates per character, but does not expand tabs. It must be chosen
+     * before reading.
+     */
     void setTrackLineColumn(boolean tlc) {
+        if (tlc == trackLineColumn) {
+            return;
+        }
         trackLineColumn = tlc;
+        if (tlc) {
+            bufline = new int[bufsize];
+            bufcolumn = new int[bufsize];
+        } else {
+            bufline = null;
+            bufcolumn = null;
+            clearLineStarts();
+        }
+    }
+
+    private void clearLineStarts() {
+        lineStarts[0] = 0;
+        lineCount = 1;
+        lineBase = 0;
+        lineHint = 0;
+        prevCharIsCR = false;
+    }
+
+    private void indexLineStart(char c) {
+        long next = totalCharsRead;
+        if (c == '\n') {
+            if (prevCharIsCR && lineStarts[lineCount - 1] == next - 1) {
+                // \r\n is a single line break
+                lineStarts[lineCount - 1] = next;
+            } else {
+                addLineStart(next);
+            }
+            prevCharIsCR = false;
+        } else if (c == '\r') {
+            addLineStart(next);
+            prevCharIsCR = true;
+        } else {
+            prevCharIsCR = false;
+        }
+    }
+
+    private void addLineStart(long offset) {
+        if (lineCount == lineStarts.length) {
+            // forget the lines before the current token, no position before it is asked for
+            int keep = lineIndexOf(tokenBeginOffset);
+            if (keep > 0) {
+                System.arraycopy(lineStarts, keep, lineStarts, 0, lineCount - keep);
+                lineCount -= keep;
+                lineBase += keep;
+                lineHint = 0;
+            } else {
+                lineStarts = java.util.Arrays.copyOf(lineStarts, lineCount << 1);
+            }
+        }
+        lineStarts[lineCount++] = offset;
+    }
+
+    private int lineIndexOf(long offset) {
+        // the tokens move forward, so the last line found is the best guess
+        int i = lineHint;
+        if (lineStarts[i] <= offset) {
+            while (i + 1 < lineCount && lineStarts[i + 1] <= offset) {
+                i++;
+                if (i - lineHint > 4) {
+                    i = lineCount - 1;
+                    break;
+                }
+            }
+        }
+        if (lineStarts[i] > offset || i + 1 < lineCount && lineStarts[i + 1] <= offset) {
+            i = java.util.Arrays.binarySearch(lineStarts, 0, lineCount, offset);
+            i = i >= 0 ? i : -i - 2;
+        }
+        lineHint = Math.max(i, 0);
+        return lineHint;
+    }
+
+    private int lineAt(long offset) {
+        return firstLine + lineBase + lineIndexOf(offset);
+    }
+
+    private int columnAt(long offset) {
+        int i = lineIndexOf(offset);
+        int column = (int) (offset - lineStarts[i]) + 1;
+        return lineBase == 0 && i == 0 ? column + firstColumn - 1 : column;
     }
 }
 /* JavaCC - OriginalChecksum=0cd74e5ad7a4ccb9188541ab8f8b35eb (do not edit this line) */
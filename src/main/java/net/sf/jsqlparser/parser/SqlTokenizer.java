@@ -0,0 +1,255 @@
+/*-
+ * #%L
+ * JSQLParser library
+ * %%
+ * Copyright (C) 2004 - 2025 JSQLParser
+ * %%
+ * Dual licensed under GNU LGPL 2.1 or Apache License 2.0
+ * #L%
+ */
+package net.sf.jsqlparser.parser;
+
+import java.io.IOException;
+
+import net.sf.jsqlparser.JSQLParserException;
+import net.sf.jsqlparser.parser.feature.Feature;
+import net.sf.jsqlparser.parser.feature.FeatureConfiguration;
+
+/**
+ * Tokenizes statement texts with the Token Manager of the parser, but without parsing and without
+ * building any AST, e.g. for fingerprinting, highlighting or classifying statements.
+ * <p>
+ * The Tokens are written into a reusable {@link SqlTokens} array instead of being kept as objects.
+ * Whitespace is skipped, comments are reported only on request. The lexical features
+ * {@link Feature#allowSquareBracketQuotation} and {@link Feature#allowBackslashEscapeCharacter}
+ * apply the same way as for parsing.
+ * <p>
+ * With {@link #withKeywordTable(boolean)}, plain ASCII words are scanned by the tokenizer itself
+ * and classified through a perfect hash table of the keywords, while everything else is still left
+ * to the Token Manager. The Tokens are the same either way. This speeds up the tokenizer only, the
+ * parser keeps lexing through the Token Manager.
+ * <p>
+ * A tokenizer keeps its Token Manager and buffers between the calls and must not be shared between
+ * threads.
+ *
+ * <pre>{@code
+ * SqlTokenizer tokenizer = new SqlTokenizer().withSquareBracketQuotation(true);
+ * SqlTokens tokens = new SqlTokens();
+ * String sql = "SELECT [a] FROM t";
+ * tokenizer.tokenize(sql, tokens);
+ * for (int i = 0; i < tokens.size(); i++) {
+ *     System.out.println(tokens.getKind(i) + ": " + tokens.getText(i, sql));
+ * }
+ * }</pre>
+ */
+public final class SqlTokenizer {
+    private static final boolean[] KEYWORDS = new boolean[CCJSqlParserConstants.tokenImage.length];
+
+    static {
+        for (int kind = 0; kind < KEYWORDS.length; kind++) {
+            String image = CCJSqlParserConstants.tokenImage[kind];
+            // keywords are literal images made of letters, like "\"SELECT\""
+            boolean keyword = image.length() > 2 && image.charAt(0) == '"'
+                    && image.charAt(image.length() - 1) == '"';
+            for (int i = 1; keyword && i < image.length() - 1; i++) {
+                char c = image.charAt(i);
+                keyword = Character.isLetter(c) || c == '_' && i > 1;
+            }
+            KEYWORDS[kind] = keyword;
+        }
+    }
+
+    private final SimpleCharStream stream = new SimpleCharStream(new StringProvider(""));
+    private final CCJSqlParserTokenManager tokenManager = new CCJSqlParserTokenManager(stream);
+    private boolean comments = false;
+    private boolean keywordTable = false;
+
+    public SqlTokenizer() {
+        // the offsets are all we need, so don't record lines and columns per character
+        stream.setTrackLineColumn(false);
+    }
+
+    /**
+     * @param kind the kind of a Token
+     * @return <code>true</code> when the kind is a keyword, like <code>SELECT</code>
+     */
+    public static boolean isKeyword(int kind) {
+        return kind >= 0 && kind < KEYWORDS.length && KEYWORDS[kind];
+    }
+
+    public SqlTokenizer withConfiguration(FeatureConfiguration configuration) {
+        tokenManager.configuration = configuration;
+        return this;
+    }
+
+    public FeatureConfiguration getConfiguration() {
+        return tokenManager.configuration;
+    }
+
+    public SqlTokenizer withSquareBracketQuotation(boolean allowSquareBracketQuotation) {
+        tokenManager.configuration.setValue(Feature.allowSquareBracketQuotation,
+                allowSquareBracketQuotation);
+        return this;
+    }
+
+    public SqlTokenizer withBackslashEscapeCharacter(boolean allowBackslashEscapeCharacter) {
+        tokenManager.configuration.setValue(Feature.allowBackslashEscapeCharacter,
+                allowBackslashEscapeCharacter);
+        return this;
+    }
+
+    /**
+     * @param comments <code>true</code> for reporting the comments as Tokens of the kinds
+     *        {@link CCJSqlParserConstants#LINE_COMMENT} and
+     *        {@link CCJSqlParserConstants#MULTI_LINE_COMMENT}
+     * @return <code>this</code>
+     */
+    public SqlTokenizer withComments(boolean comments) {
+        this.comments = comments;
+        return this;
+    }
+
+    /**
+     * @param keywordTable <code>true</code> for scanning plain words without the Token Manager and
+     *        looking them up in the keyword table instead
+     * @return <code>this</code>
+     */
+    public SqlTokenizer withKeywordTable(boolean keywordTable) {
+        this.keywordTable = keywordTable;
+        return this;
+    }
+
+    /**
+     * @param sql the statement text
+     * @return the Tokens of the statement text
+     * @throws JSQLParserException when the statement text contains an invalid Token
+     */
+    public SqlTokens tokenize(String sql) throws JSQLParserException {
+        return tokenize(sql, new SqlTokens());
+    }
+
+    /**
+     * @param sql the statement text
+     * @param tokens the array to fill, which is cleared first
+     * @return the filled array
+     * @throws JSQLParserException when the statement text contains an invalid Token
+     */
+    public SqlTokens tokenize(String sql, SqlTokens tokens) throws JSQLParserException {
+        tokens.clear();
+        stream.ReInit(new StringProvider(sql));
+        tokenManager.ReInit(stream);
+
+        try {
+            if (keywordTable) {
+                tokenizeWords(sql, tokens);
+            } else {
+                Token token;
+                int position = 0;
+                do {
+                    token = tokenManager.getNextToken();
+                    position = add(sql, token, position, tokens);
+                } while (token.kind != CCJSqlParserConstants.EOF);
+            }
+        } catch (TokenMgrException ex) {
+            throw new JSQLParserException(ex);
+        } finally {
+            // don't hold on to the statement text
+            stream.ReInit(new StringProvider(""));
+        }
+        return tokens;
+    }
+
+    @SuppressWarnings({"PMD.CyclomaticComplexity"})
+    private void tokenizeWords(String sql, SqlTokens tokens) {
+        int position = 0;
+        try {
+            while (true) {
+                char c = stream.BeginToken();
+                if (c == ' ' || c == '\t' || c == '\r') {
+                    continue;
+                }
+                if (c == '\n') {
+                    char next = stream.readChar();
+                    stream.backup(1);
+                    // unless it is "\n\n\n", "\n/\n" or "\ngo\n", a new line is just whitespace
+                    if (next != '\n' && next != '/' && next != 'g' && next != 'G') {
+                        continue;
+                    }
+                } else if (KeywordTable.isWordStart(c)) {
+                    int begin = stream.getAbsoluteTokenBegin() - 1;
+                    int length = scanWord();
+                    int kind = KeywordTable.lookup(sql, begin, begin + length);
+                    if (kind != KeywordTable.AMBIGUOUS && isWordEnd(sql, begin + length)) {
+                        position = begin + length;
+                        tokens.add(kind, begin, position);
+                        continue;
+                    }
+                    // let the Token Manager decide on the longest Token
+                    stream.backup(length - 1);
+                }
+
+                stream.backup(1);
+                Token token = tokenManager.getNextToken();
+                position = add(sql, token, position, tokens);
+                if (token.kind == CCJSqlParserConstants.EOF) {
+                    return;
+                }
+            }
+        } catch (IOException ex) {
+            // the end of the statement text
+        }
+    }
+
+    private int scanWord() {
+        int length = 1;
+        try {
+            while (KeywordTable.isWordPart(stream.readChar())) {
+                length++;
+            }
+            stream.backup(1);
+        } catch (IOException ex) {
+            // the word ends the statement text
+        }
+        return length;
+    }
+
+    private static boolean isWordEnd(String sql, int end) {
+        if (end == sql.length()) {
+            return true;
+        }
+        char c = sql.charAt(end);
+        // a quote may turn the word into a prefixed literal like N'...' or X'...'
+        return c != '\'' && c < 0x80;
+    }
+
+    private int add(String sql, Token token, int position, SqlTokens tokens) {
+        int end = position;
+        if (comments && token.specialToken != null) {
+            end = addComments(sql, token.specialToken, end, tokens);
+        }
+        if (token.kind != CCJSqlParserConstants.EOF) {
+            // the absolute positions of the Tokens count from 1
+            int begin = token.absoluteBegin - 1;
+            end = token.absoluteEnd - 1;
+            tokens.add(token.kind, begin, end);
+        }
+        return end;
+    }
+
+    private static int addComments(String sql, Token specialToken, int position,
+            SqlTokens tokens) {
+        Token comment = specialToken;
+        while (comment.specialToken != null) {
+            comment = comment.specialToken;
+        }
+
+        // comments don't get an absolute position, but can only be preceded by whitespace
+        int end = position;
+        for (; comment != null; comment = comment.next) {
+            int begin = sql.indexOf(comment.image, end);
+            end = begin + comment.image.length();
+            tokens.add(comment.kind, begin, end);
+        }
+        return end;
+    }
+}
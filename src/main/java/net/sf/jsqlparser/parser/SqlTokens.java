@@ -0,0 +1,128 @@
+/*-
+ * #%L
+ * JSQLParser library
+ * %%
+ * Copyright (C) 2004 - 2025 JSQLParser
+ * %%
+ * Dual licensed under GNU LGPL 2.1 or Apache License 2.0
+ * #L%
+ */
+package net.sf.jsqlparser.parser;
+
+import java.util.Arrays;
+
+/**
+ * The Tokens of a statement text as filled by the {@link SqlTokenizer}: kind, begin and end offset
+ * of every Token packed into a single, growing <code>int</code> array, which can be reused for
+ * any number of statement texts.
+ * <p>
+ * The kinds are the constants of {@link CCJSqlParserConstants}.
+ */
+public final class SqlTokens {
+    private static final int KIND = 0;
+    private static final int BEGIN = 1;
+    private static final int END = 2;
+    private static final int STRIDE = 3;
+
+    private int[] data;
+    private int size = 0;
+
+    public SqlTokens() {
+        this(256);
+    }
+
+    /**
+     * @param initialCapacity the number of Tokens to reserve space for
+     */
+    public SqlTokens(int initialCapacity) {
+        data = new int[Math.max(1, initialCapacity) * STRIDE];
+    }
+
+    void add(int kind, int begin, int end) {
+        int index = size * STRIDE;
+        if (index == data.length) {
+            data = Arrays.copyOf(data, data.length << 1);
+        }
+        data[index + KIND] = kind;
+        data[index + BEGIN] = begin;
+        data[index + END] = end;
+        size++;
+    }
+
+    /**
+     * Forgets all Tokens, but keeps the allocated space.
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * @return the number of Tokens
+     */
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    private int checkIndex(int i) {
+        if (i < 0 || i >= size) {
+            throw new IndexOutOfBoundsException("Index: " + i + ", Size: " + size);
+        }
+        return i * STRIDE;
+    }
+
+    /**
+     * @param i the index of the Token
+     * @return the kind of the Token, one of the constants of {@link CCJSqlParserConstants}
+     */
+    public int getKind(int i) {
+        return data[checkIndex(i) + KIND];
+    }
+
+    /**
+     * @param i the index of the Token
+     * @return the offset of the first character of the Token within the statement text
+     */
+    public int getBegin(int i) {
+        return data[checkIndex(i) + BEGIN];
+    }
+
+    /**
+     * @param i the index of the Token
+     * @return the offset after the last character of the Token within the statement text
+     */
+    public int getEnd(int i) {
+        return data[checkIndex(i) + END];
+    }
+
+    /**
+     * @param i the index of the Token
+     * @param sql the statement text, which was tokenized
+     * @return the text of the Token
+     */
+    public String getText(int i, String sql) {
+        int index = checkIndex(i);
+        return sql.substring(data[index + BEGIN], data[index + END]);
+    }
+
+    /**
+     * @param i the index of the Token
+     * @return <code>true</code> when the Token is a comment
+     */
+    public boolean isComment(int i) {
+        int kind = getKind(i);
+        return kind == CCJSqlParserConstants.LINE_COMMENT
+                || kind == CCJSqlParserConstants.MULTI_LINE_COMMENT;
+    }
+
+    /**
+     * @param i the index of the Token
+     * @return <code>true</code> when the Token is a keyword, like <code>SELECT</code>
+     */
+    public boolean isKeyword(int i) {
+        return SqlTokenizer.isKeyword(getKind(i));
+    }
+}
@@ -0,0 +1,247 @@
+/*-
+ * #%L
+ * JSQLParser library
+ * %%
+ * Copyright (C) 2004 - 2025 JSQLParser
+ * %%
+ * Dual licensed under GNU LGPL 2.1 or Apache License 2.0
+ * #L%
+ */
+package net.sf.jsqlparser.parser;
+
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.ToLongFunction;
+
+import net.sf.jsqlparser.JSQLParserException;
+import net.sf.jsqlparser.parser.feature.FeatureConfiguration;
+import net.sf.jsqlparser.parser.feature.FrozenFeatureConfiguration;
+import net.sf.jsqlparser.statement.Statement;
+import net.sf.jsqlparser.util.ModelCopier;
+
+/**
+ * An opt-in, bounded cache of parsed statements, keyed by the exact statement text and the
+ * {@link FeatureConfiguration} used for parsing.
+ * <p>
+ * The entries are spread over independently locked segments, each evicting its least recently used
+ * entries once either the maximum number of entries or the maximum weight (e.g. the length of the
+ * statement texts) has been exceeded. Failing statements are never cached.
+ * <p>
+ * Since the model is mutable, the {@link Sharing} decides how cached statements are handed out:
+ * either as private copies made by the {@link ModelCopier} (the default) or as the same instance
+ * to all callers. The cached statements are detached from the AST {@link Node}s of the parser, see
+ * {@link ASTNodeAccessImpl#detach(ASTNodeAccess, String)}, so the cache does not retain the Tokens.
+ * <p>
+ * Only the features are part of the key, so the consumer configuring the parser must not enable
+ * the error recovery or set an {@link IdentifierInterner}. The consumer runs on a pooled parser for
+ * every lookup, which {@link #parse(String, FrozenFeatureConfiguration)} avoids.
+ *
+ * <pre>{@code
+ * StatementCache cache = new StatementCache(10000);
+ * Statement statement = cache.parse(sqlStr, parser -> parser.withSquareBracketQuotation(true));
+ * }</pre>
+ */
+public class StatementCache {
+
+    public enum Sharing {
+        /**
+         * every caller gets its own copy of the cached statement, which can be modified safely
+         */
+        COPY,
+
+        /**
+         * all callers get the very same statement instance, which must never be modified
+         */
+        SHARED
+    }
+
+    private final LruSegments<Key, Statement> statements;
+    private final Sharing sharing;
+    private final ToLongFunction<String> weigher;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * @param maximumSize the maximum number of cached statements
+     */
+    public StatementCache(int maximumSize) {
+        this(maximumSize, sql -> 1L, Sharing.COPY);
+    }
+
+    /**
+     * @param maximumWeight the maximum total weight of the cached statements
+     * @param weigher the weight of a statement text, e.g. <code>String::length</code>
+     * @param sharing how cached statements are handed out
+     */
+    public StatementCache(long maximumWeight, ToLongFunction<String> weigher, Sharing sharing) {
+        this.statements = new LruSegments<>(maximumWeight);
+        this.weigher = weigher;
+        this.sharing = sharing;
+    }
+
+    /**
+     * Returns the cached statement or parses it with the default features.
+     *
+     * @param sql the statement text
+     * @return the parsed statement
+     * @throws JSQLParserException when the statement can't be parsed
+     */
+    public Statement parse(String sql) throws JSQLParserException {
+        return parse(sql, new FeatureConfiguration().freeze());
+    }
+
+    /**
+     * Returns the cached statement or parses it.
+     *
+     * @param sql the statement text
+     * @param consumer configures the parser, can be <code>null</code>
+     * @return the parsed statement
+     * @throws JSQLParserException when the statement can't be parsed
+     */
+    public Statement parse(String sql, Consumer<CCJSqlParser> consumer)
+            throws JSQLParserException {
+        if (sql == null || sql.isEmpty()) {
+            return null;
+        }
+        return parse(sql, getConfiguration(consumer));
+    }
+
+    /**
+     * Returns the cached statement or parses it with the given features, without running any
+     * consumer for the lookup.
+     *
+     * @param sql the statement text
+     * @param configuration the features of the parser
+     * @return the parsed statement
+     * @throws JSQLParserException when the statement can't be parsed
+     */
+    public Statement parse(String sql, FrozenFeatureConfiguration configuration)
+            throws JSQLParserException {
+        if (sql == null || sql.isEmpty()) {
+            return null;
+        }
+
+        Key key = new Key(sql, configuration);
+        Statement cached = statements.get(key);
+        if (cached != null) {
+            hits.increment();
+            return handOut(cached);
+        }
+
+        misses.increment();
+        Statement statement =
+                CCJSqlParserUtil.parse(sql, parser -> parser.withConfiguration(configuration));
+        if (statement != null) {
+            if (statement instanceof ASTNodeAccess) {
+                ASTNodeAccessImpl.detach((ASTNodeAccess) statement, sql);
+            }
+            statements.put(key, statement, weigher.applyAsLong(sql));
+            if (sharing == Sharing.COPY) {
+                // the cached statement must not be handed out
+                return ModelCopier.deepCopy(statement);
+            }
+        }
+        return statement;
+    }
+
+    /**
+     * Runs the consumer on a pooled parser for its features.
+     */
+    private static FrozenFeatureConfiguration getConfiguration(Consumer<CCJSqlParser> consumer) {
+        if (consumer == null) {
+            return new FeatureConfiguration().freeze();
+        }
+        CCJSqlParser parser = ParserPool.acquire("");
+        try {
+            consumer.accept(parser);
+            if (parser.errorRecovery || parser.getIdentifierInterner() != null) {
+                throw new IllegalArgumentException(
+                        "Only the features of the parser can be configured for a StatementCache.");
+            }
+            return parser.getFrozenConfiguration();
+        } finally {
+            ParserPool.release(parser);
+        }
+    }
+
+    private Statement handOut(Statement statement) {
+        return sharing == Sharing.SHARED ? statement : ModelCopier.deepCopy(statement);
+    }
+
+    /**
+     * Removes all cached statements, the statistics are kept.
+     */
+    public void clear() {
+        statements.clear();
+    }
+
+    /**
+     * @return the number of cached statements
+     */
+    public long size() {
+        return statements.size();
+    }
+
+    /**
+     * @return the total weight of the cached statements
+     */
+    public long getWeight() {
+        return statements.getWeight();
+    }
+
+    /**
+     * @return the number of statements served from the cache
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * @return the number of statements which had to be parsed
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * @return the number of statements evicted from the cache
+     */
+    public long getEvictionCount() {
+        return statements.getEvictionCount();
+    }
+
+    public Sharing getSharing() {
+        return sharing;
+    }
+
+    private static final class Key {
+        private final String sql;
+        private final FrozenFeatureConfiguration configuration;
+        private final int hash;
+
+        private Key(String sql, FrozenFeatureConfiguration configuration) {
+            this.sql = sql;
+            this.configuration = configuration;
+            this.hash = 31 * sql.hashCode() + configuration.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key that = (Key) o;
+            return hash == that.hash && sql.equals(that.sql)
+                    && configuration.equals(that.configuration);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
@@ -0,0 +1,165 @@
+/*-
+ * #%L
+ * JSQLParser library
+ * %%
+ * Copyright (C) 2004 - 2025 JSQLParser
+ * %%
+ * Dual licensed under GNU LGPL 2.1 or Apache License 2.0
+ * #L%
+ */
+package net.sf.jsqlparser.parser;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import net.sf.jsqlparser.JSQLParserException;
+import net.sf.jsqlparser.statement.Statement;
+
+/**
+ * Pulls the statements of a stream one at a time, so a script of any size is parsed with constant
+ * memory as long as the caller does not hold on to the results.
+ * <p>
+ * A statement, which can't be parsed, does not abort the iteration: it is reported as a failed
+ * {@link ParseResult} and the parser continues after the next delimiter. Only when the input
+ * can't be tokenized any further, the failure is reported and the iteration ends.
+ * <p>
+ * Unlike {@link CCJSqlParserUtil#parseStatements(String)}, no time out is applied and each
+ * statement is parsed only once with the configured features.
+ * <p>
+ * The statements keep their AST {@link Node}s and, through them, the linked list of
+ * {@link Token}s from their first Token up to the current position of the parser. So a statement
+ * held for longer should be copied by the {@link net.sf.jsqlparser.util.ModelCopier}, which leaves
+ * out the Nodes.
+ *
+ * <pre>{@code
+ * try (Stream<ParseResult> results = CCJSqlParserUtil.streamStatements(reader, null)) {
+ *     results.filter(ParseResult::isSuccess).limit(100).forEach(...);
+ * }
+ * }</pre>
+ */
+public final class StatementIterator implements Iterator<ParseResult>, Closeable {
+    private final CCJSqlParser parser;
+    private final Closeable source;
+
+    private ParseResult next;
+    private boolean finished = false;
+
+    /**
+     * @param parser the parser armed with the stream
+     * @param source the stream to close, can be <code>null</code>
+     */
+    public StatementIterator(CCJSqlParser parser, Closeable source) {
+        this.parser = parser;
+        this.source = source;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next == null && !finished) {
+            next = parseNext();
+        }
+        return next != null;
+    }
+
+    @Override
+    public ParseResult next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        ParseResult result = next;
+        next = null;
+        return result;
+    }
+
+    private ParseResult parseNext() {
+        Token begin = parser.token;
+        try {
+            while (parser.getToken(1).kind == CCJSqlParserConstants.ST_SEMICOLON) {
+                parser.getNextToken();
+            }
+            begin = parser.getToken(1);
+            if (begin.kind == CCJSqlParserConstants.EOF) {
+                finished = true;
+                return null;
+            }
+
+            try {
+                Statement statement = parser.Statement();
+                ParseException recovered = pollParseError();
+                if (recovered != null) {
+                    return new ParseResult(null, new JSQLParserException(recovered), begin,
+                            lastToken(begin));
+                }
+                return new ParseResult(statement, null, begin, lastToken(begin));
+            } catch (ParseException ex) {
+                skipStatement();
+                return new ParseResult(null, new JSQLParserException(ex), begin,
+                        lastToken(begin));
+            } finally {
+                // don't pile up the AST roots of all the statements
+                parser.jjtree.reset();
+            }
+        } catch (TokenMgrException ex) {
+            // the Token Manager can't recover from a lexical error
+            finished = true;
+            return new ParseResult(null, new JSQLParserException(ex), begin, parser.token);
+        }
+    }
+
+    private ParseException pollParseError() {
+        // with error recovery enabled, the parser collects the errors instead of throwing them
+        List<ParseException> parseErrors = parser.getParseErrors();
+        if (parseErrors.isEmpty()) {
+            return null;
+        }
+        ParseException ex = parseErrors.get(parseErrors.size() - 1);
+        parseErrors.clear();
+        return ex;
+    }
+
+    private void skipStatement() {
+        Token token;
+        do {
+            token = parser.getNextToken();
+        } while (token.kind != CCJSqlParserConstants.ST_SEMICOLON
+                && token.kind != CCJSqlParserConstants.EOF);
+        parser.bracketsCounter = 0;
+        parser.caseCounter = 0;
+    }
+
+    private Token lastToken(Token begin) {
+        Token last = parser.token;
+        if (last.kind != CCJSqlParserConstants.ST_SEMICOLON
+                && last.kind != CCJSqlParserConstants.EOF) {
+            return last;
+        }
+        // the last token before the delimiter
+        Token token = begin;
+        while (token.next != null && token.next != last) {
+            token = token.next;
+        }
+        return token;
+    }
+
+    /**
+     * Closes the underlying stream.
+     *
+     * @throws UncheckedIOException when closing the stream fails
+     */
+    @Override
+    public void close() {
+        finished = true;
+        next = null;
+        if (source != null) {
+            try {
+                source.close();
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }
+    }
+}
@@ -0,0 +1,349 @@
+/*-
+ * #%L
+ * JSQLParser library
+ * %%
+ * Copyright (C) 2004 - 2025 JSQLParser
+ * %%
+ * Dual licensed under GNU LGPL 2.1 or Apache License 2.0
+ * #L%
+ */
+package net.sf.jsqlparser.parser;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Splits a script into its top-level statements without parsing it, so the statements can be
+ * parsed independently, e.g. by {@link CCJSqlParserUtil#parseStatementsParallel(String)}.
+ * <p>
+ * The splitter skips the quotes, quoted identifiers, dollar quotes and comments found by the
+ * {@link StructuralIndex} of the script and only splits at a delimiter outside of
+ * <code>BEGIN ... END</code> blocks and <code>CASE ... END</code> expressions. The delimiter is <code>;</code> or a line
+ * holding just <code>/</code> or <code>GO</code>, and can be changed by the MySQL
+ * <code>DELIMITER</code> command, which itself is dropped from the statements.
+ * <p>
+ * The splitter is conservative: when in doubt, it does not split and leaves the separation to the
+ * parser. So a chunk may still hold more than one statement, but a statement never spans two
+ * chunks.
+ */
+public final class StatementSplitter {
+
+    private StatementSplitter() {}
+
+    /**
+     * A top-level statement text and its position within the script.
+     */
+    public static final class Chunk {
+        private final String text;
+        private final int offset;
+        private final int line;
+        private final int column;
+
+        private Chunk(String text, int offset, int line, int column) {
+            this.text = text;
+            this.offset = offset;
+            this.line = line;
+            this.column = column;
+        }
+
+        /**
+         * @return the statement text without its delimiter
+         */
+        public String getText() {
+            return text;
+        }
+
+        /**
+         * @return the offset of the statement text within the script
+         */
+        public int getOffset() {
+            return offset;
+        }
+
+        /**
+         * @return the line of the statement text within the script, starting at 1
+         */
+        public int getLine() {
+            return line;
+        }
+
+        /**
+         * @return the column of the statement text within its first line, starting at 1
+         */
+        public int getColumn() {
+            return column;
+        }
+
+        @Override
+        public String toString() {
+            return text;
+        }
+    }
+
+    /**
+     * Splits the script, where a backslash does not escape a quote.
+     *
+     * @param sqls the script
+     * @return the top-level statement texts in order, without empty ones
+     */
+    public static List<Chunk> split(String sqls) {
+        return split(sqls, false);
+    }
+
+    /**
+     * Splits the script.
+     *
+     * @param sqls the script
+     * @param backslashEscapes <code>true</code> when a backslash escapes a quote, see
+     *        {@link net.sf.jsqlparser.parser.feature.Feature#allowBackslashEscapeCharacter}
+     * @return the top-level statement texts in order, without empty ones
+     */
+    public static List<Chunk> split(String sqls, boolean backslashEscapes) {
+        return split(StructuralIndex.of(sqls, backslashEscapes));
+    }
+
+    /**
+     * Splits the script, reusing its index.
+     *
+     * @param index the index of the script
+     * @return the top-level statement texts in order, without empty ones
+     */
+    public static List<Chunk> split(StructuralIndex index) {
+        return new Scanner(index).split();
+    }
+
+    @SuppressWarnings({"PMD.CyclomaticComplexity", "PMD.ExcessiveMethodLength"})
+    private static final class Scanner {
+        private final StructuralIndex index;
+        private final String sql;
+        private final int length;
+        private final List<Chunk> chunks = new ArrayList<>();
+
+        // the next quote or comment of the index
+        private int range = 0;
+
+        private String delimiter = ";";
+        private int depth = 0;
+        private boolean pendingDeclare = false;
+
+        // the current chunk
+        private int start = 0;
+        private boolean significant = false;
+
+        // the line counting, which only moves forward
+        private int countedTo = 0;
+        private int line = 1;
+        private int lineStart = 0;
+
+        private Scanner(StructuralIndex index) {
+            this.index = index;
+            this.sql = index.getSql();
+            this.length = sql.length();
+        }
+
+        private List<Chunk> split() {
+            int i = 0;
+            while (i < length) {
+                char c = sql.charAt(i);
+
+                if (!significant && isLineStart(i) && startsWithWord(i, "DELIMITER")) {
+                    i = changeDelimiter(i + "DELIMITER".length());
+                    continue;
+                }
+
+                int end = delimiterEnd(i);
+                if (end > 0) {
+                    if (!significant) {
+                        // nothing but blanks and comments so far
+                        start = end;
+                    } else if (!startsWithElse(end)) {
+                        emit(i);
+                        start = end;
+                        significant = false;
+                        depth = 0;
+                        pendingDeclare = false;
+                    }
+                    i = end;
+                    continue;
+                }
+
+                int skipped = skipQuoteOrComment(i);
+                if (skipped > i) {
+                    boolean comment = c == '-' || c == '/';
+                    i = Math.min(skipped, length);
+                    if (comment) {
+                        continue;
+                    }
+                } else if (Character.isLetter(c) || c == '_') {
+                    i = word(i);
+                } else if (!Character.isWhitespace(c)) {
+                    i++;
+                } else {
+                    i++;
+                    continue;
+                }
+                significant = true;
+            }
+            if (significant) {
+                emit(length);
+            }
+            return chunks;
+        }
+
+        /**
+         * @return the end of the quote or comment of the index starting at the position, or
+         *         <code>-1</code>
+         */
+        private int skipQuoteOrComment(int i) {
+            int rangeCount = index.getRangeCount();
+            while (range < rangeCount && index.getRangeBegin(range) < i) {
+                range++;
+            }
+            if (range < rangeCount && index.getRangeBegin(range) == i) {
+                return index.getRangeEnd(range++);
+            }
+            if (range > 0 && index.getRangeEnd(range - 1) > i) {
+                // within a range of the index, which was entered elsewhere, e.g. the $$ of a
+                // DELIMITER command taken as a dollar quote, so scan this position by itself
+                return StructuralIndex.skipQuoteOrComment(sql, i, index.isBackslashEscapes());
+            }
+            return -1;
+        }
+
+        private void emit(int end) {
+            advanceLines(start);
+            chunks.add(new Chunk(sql.substring(start, end), start, line, start - lineStart + 1));
+        }
+
+        private void advanceLines(int position) {
+            for (; countedTo < position; countedTo++) {
+                if (sql.charAt(countedTo) == '\n') {
+                    line++;
+                    lineStart = countedTo + 1;
+                }
+            }
+        }
+
+        /**
+         * @return the end of the delimiter at the position, or <code>-1</code>
+         */
+        private int delimiterEnd(int i) {
+            if (!";".equals(delimiter)) {
+                // a custom delimiter is chosen to enclose blocks, so it always splits
+                return sql.startsWith(delimiter, i) ? i + delimiter.length() : -1;
+            }
+            if (depth > 0) {
+                return -1;
+            }
+            char c = sql.charAt(i);
+            if (c == ';') {
+                return i + 1;
+            }
+            if ((c == '/' || c == 'g' || c == 'G') && isLineStart(i)) {
+                // a line holding just "/" or "GO"
+                int end = c == '/' ? i + 1 : startsWithWord(i, "GO") ? i + 2 : -1;
+                if (end > 0) {
+                    int lineEnd = skipBlanks(end);
+                    if (lineEnd == length || sql.charAt(lineEnd) == '\n'
+                            || sql.charAt(lineEnd) == '\r') {
+                        return lineEnd;
+                    }
+                }
+            }
+            return -1;
+        }
+
+        private int changeDelimiter(int i) {
+            int begin = skipBlanks(i);
+            int end = begin;
+            while (end < length && !Character.isWhitespace(sql.charAt(end))) {
+                end++;
+            }
+            if (end > begin) {
+                delimiter = sql.substring(begin, end);
+            }
+            int lineEnd = skipLine(end);
+            // the DELIMITER command is not part of any statement
+            start = lineEnd;
+            return lineEnd;
+        }
+
+        private int word(int i) {
+            int end = i;
+            while (end < length && isPartOfWord(end)) {
+                end++;
+            }
+            if (end - i == 3 && sql.regionMatches(true, i, "END", 0, 3)) {
+                if (depth > 0 && !isFollowedBy(end, "IF", "LOOP", "WHILE", "REPEAT", "FOR")) {
+                    depth--;
+                }
+            } else if (end - i == 4 && sql.regionMatches(true, i, "CASE", 0, 4)) {
+                depth++;
+            } else if (end - i == 5 && sql.regionMatches(true, i, "BEGIN", 0, 5)) {
+                int next = skipBlanks(end);
+                boolean transaction = next == length || sql.charAt(next) == ';'
+                        || isFollowedBy(end, "TRANSACTION", "TRAN", "WORK", "DISTRIBUTED");
+                if (pendingDeclare) {
+                    // the DECLARE section opened the block already
+                    pendingDeclare = false;
+                } else if (!transaction) {
+                    depth++;
+                }
+            } else if (end - i == 7 && sql.regionMatches(true, i, "DECLARE", 0, 7)
+                    && depth == 0 && !significant) {
+                // an anonymous block like DECLARE ... BEGIN ... END
+                pendingDeclare = true;
+                depth++;
+            }
+            return end;
+        }
+
+        private int skipLine(int i) {
+            int j = sql.indexOf('\n', i);
+            return j < 0 ? length : j + 1;
+        }
+
+        private int skipBlanks(int i) {
+            int j = i;
+            while (j < length && (sql.charAt(j) == ' ' || sql.charAt(j) == '\t')) {
+                j++;
+            }
+            return j;
+        }
+
+        private boolean isPartOfWord(int i) {
+            return StructuralIndex.isPartOfWord(sql, i);
+        }
+
+        private boolean isLineStart(int i) {
+            int j = i - 1;
+            while (j >= 0 && (sql.charAt(j) == ' ' || sql.charAt(j) == '\t')) {
+                j--;
+            }
+            return j < 0 || sql.charAt(j) == '\n' || sql.charAt(j) == '\r';
+        }
+
+        private boolean startsWithWord(int i, String word) {
+            return sql.regionMatches(true, i, word, 0, word.length())
+                    && !isPartOfWord(i + word.length());
+        }
+
+        private boolean isFollowedBy(int i, String... words) {
+            int j = i;
+            while (j < length && Character.isWhitespace(sql.charAt(j))) {
+                j++;
+            }
+            for (String word : words) {
+                if (startsWithWord(j, word)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private boolean startsWithElse(int i) {
+            // IF ... ; ELSE ... ; is a single statement
+            return isFollowedBy(i, "ELSE");
+        }
+    }
+}
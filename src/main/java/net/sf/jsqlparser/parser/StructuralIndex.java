@@ -0,0 +1,399 @@
+/*-
+ * #%L
+ * JSQLParser library
+ * %%
+ * Copyright (C) 2004 - 2025 JSQLParser
+ * %%
+ * Dual licensed under GNU LGPL 2.1 or Apache License 2.0
+ * #L%
+ */
+package net.sf.jsqlparser.parser;
+
+import java.util.Arrays;
+
+/**
+ * The structure of a statement text gathered in a single pass without parsing: the ranges of
+ * quotes and comments, the nesting depth of the parentheses and the first unbalanced bracket or
+ * quote.
+ * <p>
+ * The index is built once per input and shared by its consumers: the {@link AdaptiveParseStrategy}
+ * derives the shape from it, the nesting guard of {@link CCJSqlParserUtil} reads its depth and the
+ * {@link StatementSplitter} skips its quotes and comments.
+ * <p>
+ * Brackets and delimiters inside of quotes and comments are ignored. The lexical rules are the
+ * ones of the {@link StatementSplitter}: <code>'...'</code> strings, <code>"..."</code> and
+ * <code>`...`</code> identifiers, <code>$tag$...$tag$</code> dollar quotes, Oracle
+ * <code>q'[...]'</code> quotes and <code>--</code>, <code>//</code> and <code>/* ... *&#47;</code>
+ * comments.
+ *
+ * <pre>{@code
+ * StructuralIndex index = StructuralIndex.of(sql);
+ * if (index.getUnbalancedPosition() >= 0) {
+ *     ...
+ * }
+ * }</pre>
+ */
+public final class StructuralIndex {
+    public static final byte STRING = 1;
+    public static final byte QUOTED_IDENTIFIER = 2;
+    public static final byte COMMENT = 3;
+
+    private final String sql;
+    private final boolean backslashEscapes;
+
+    // the quotes and comments as pairs of begin and end
+    private int[] ranges = new int[16];
+    private byte[] kinds = new byte[8];
+    private int rangeCount = 0;
+
+    private int maxDepth = 0;
+    private int depth = 0;
+    private int unbalancedPosition = -1;
+
+    private StructuralIndex(String sql, boolean backslashEscapes) {
+        this.sql = sql;
+        this.backslashEscapes = backslashEscapes;
+    }
+
+    /**
+     * Indexes the statement text, where a backslash does not escape a quote.
+     *
+     * @param sql the statement text
+     * @return the index of the statement text
+     */
+    public static StructuralIndex of(String sql) {
+        return of(sql, false);
+    }
+
+    /**
+     * @param sql the statement text
+     * @param backslashEscapes <code>true</code> when a backslash escapes a quote, see
+     *        {@link net.sf.jsqlparser.parser.feature.Feature#allowBackslashEscapeCharacter}
+     * @return the index of the statement text
+     */
+    public static StructuralIndex of(String sql, boolean backslashEscapes) {
+        StructuralIndex index = new StructuralIndex(sql, backslashEscapes);
+        index.scan();
+        return index;
+    }
+
+    private void scan() {
+        int length = sql.length();
+        // the open brackets, without boxing
+        char[] brackets = new char[16];
+        int[] openedAt = new int[16];
+        int open = 0;
+
+        int i = 0;
+        while (i < length) {
+            char c = sql.charAt(i);
+            int end = skipQuoteOrComment(sql, i, backslashEscapes);
+            if (end > i) {
+                byte kind = kindOf(c);
+                if (end > length && kind != COMMENT) {
+                    // a quote never closed
+                    unbalanced(i);
+                }
+                addRange(i, Math.min(end, length), kind);
+                i = Math.min(end, length);
+                continue;
+            }
+
+            switch (c) {
+                case '(':
+                case '[':
+                case '{':
+                    if (c == '(') {
+                        maxDepth = Math.max(maxDepth, ++depth);
+                    }
+                    if (open == brackets.length) {
+                        brackets = Arrays.copyOf(brackets, open * 2);
+                        openedAt = Arrays.copyOf(openedAt, open * 2);
+                    }
+                    brackets[open] = c;
+                    openedAt[open++] = i;
+                    break;
+                case ')':
+                case ']':
+                case '}':
+                    if (c == ')' && depth > 0) {
+                        depth--;
+                    }
+                    if (open == 0 || brackets[open - 1] != opening(c)) {
+                        unbalanced(i);
+                    } else {
+                        open--;
+                    }
+                    break;
+                default:
+                    break;
+            }
+            i++;
+        }
+
+        if (open > 0) {
+            // the innermost bracket, which has not been closed
+            unbalanced(openedAt[open - 1]);
+        }
+    }
+
+    private void addRange(int begin, int end, byte kind) {
+        if (rangeCount == kinds.length) {
+            ranges = Arrays.copyOf(ranges, rangeCount * 4);
+            kinds = Arrays.copyOf(kinds, rangeCount * 2);
+        }
+        ranges[2 * rangeCount] = begin;
+        ranges[2 * rangeCount + 1] = end;
+        kinds[rangeCount++] = kind;
+    }
+
+    private void unbalanced(int position) {
+        if (unbalancedPosition < 0 || position < unbalancedPosition) {
+            unbalancedPosition = position;
+        }
+    }
+
+    private static char opening(char c) {
+        return c == ')' ? '(' : c == ']' ? '[' : '{';
+    }
+
+    private static byte kindOf(char c) {
+        switch (c) {
+            case '"':
+            case '`':
+                return QUOTED_IDENTIFIER;
+            case '-':
+            case '/':
+                return COMMENT;
+            default:
+                return STRING;
+        }
+    }
+
+    /**
+     * @param sql the text
+     * @param i the position within the text
+     * @param backslashEscapes <code>true</code> when a backslash escapes a quote
+     * @return the end of the quote or comment starting at the position, the length of the text
+     *         plus one when it is never closed or <code>-1</code> when none starts there; a line
+     *         comment ends before its line break
+     */
+    static int skipQuoteOrComment(String sql, int i, boolean backslashEscapes) {
+        int length = sql.length();
+        char c = sql.charAt(i);
+        char next = i + 1 < length ? sql.charAt(i + 1) : 0;
+        switch (c) {
+            case '\'':
+                return skipString(sql, i, backslashEscapes);
+            case '"':
+            case '`':
+                return skipTo(sql, i + 1, String.valueOf(c));
+            case '-':
+                return next == '-' ? skipLine(sql, i) : -1;
+            case '/':
+                return next == '/' ? skipLine(sql, i)
+                        : next == '*' ? skipTo(sql, i + 2, "*/") : -1;
+            case '$':
+                return isPartOfWord(sql, i - 1) ? -1 : skipDollarQuote(sql, i);
+            case 'q':
+            case 'Q':
+                return next == '\'' && i + 2 < length && !isPartOfWord(sql, i - 1)
+                        ? skipQuoteOperator(sql, i)
+                        : -1;
+            default:
+                return -1;
+        }
+    }
+
+    private static int skipString(String sql, int i, boolean backslashEscapes) {
+        int length = sql.length();
+        int j = i + 1;
+        while (j < length) {
+            char c = sql.charAt(j);
+            if (c == '\\' && backslashEscapes) {
+                j += 2;
+                continue;
+            }
+            if (c == '\'') {
+                if (j + 1 < length && sql.charAt(j + 1) == '\'') {
+                    j += 2;
+                    continue;
+                }
+                return j + 1;
+            }
+            j++;
+        }
+        return length + 1;
+    }
+
+    private static int skipDollarQuote(String sql, int i) {
+        // $tag$ ... $tag$, but not a $1 parameter
+        int length = sql.length();
+        int j = i + 1;
+        while (j < length && (Character.isLetter(sql.charAt(j)) || sql.charAt(j) == '_')) {
+            j++;
+        }
+        if (j < length && sql.charAt(j) == '$') {
+            return skipTo(sql, j + 1, sql.substring(i, j + 1));
+        }
+        return -1;
+    }
+
+    private static int skipQuoteOperator(String sql, int i) {
+        // Oracle q'{...}', q'(...)', q'[...]' and q'<...>'
+        char open = sql.charAt(i + 2);
+        char close;
+        switch (open) {
+            case '{':
+                close = '}';
+                break;
+            case '(':
+                close = ')';
+                break;
+            case '[':
+                close = ']';
+                break;
+            case '<':
+                close = '>';
+                break;
+            default:
+                close = open;
+        }
+        return skipTo(sql, i + 3, close + "'");
+    }
+
+    private static int skipTo(String sql, int i, String end) {
+        int j = sql.indexOf(end, i);
+        return j < 0 ? sql.length() + 1 : j + end.length();
+    }
+
+    private static int skipLine(String sql, int i) {
+        int j = sql.indexOf('\n', i);
+        return j < 0 ? sql.length() : j;
+    }
+
+    static boolean isPartOfWord(String sql, int i) {
+        if (i < 0 || i >= sql.length()) {
+            return false;
+        }
+        char c = sql.charAt(i);
+        return Character.isLetterOrDigit(c) || c == '_' || c == '$';
+    }
+
+    public String getSql() {
+        return sql;
+    }
+
+    /**
+     * @return <code>true</code> when a backslash escapes a quote
+     */
+    public boolean isBackslashEscapes() {
+        return backslashEscapes;
+    }
+
+    /**
+     * @return the maximum depth of parentheses outside of quotes and comments
+     */
+    public int getMaxDepth() {
+        return maxDepth;
+    }
+
+    /**
+     * @return the number of parentheses left open at the end of the text
+     */
+    public int getOpenDepth() {
+        return depth;
+    }
+
+    /**
+     * @return the position of the first closing bracket without its opening bracket, of the
+     *         innermost opening bracket never closed or of a quote never closed, or <code>-1</code>
+     *         when the text is balanced
+     */
+    public int getUnbalancedPosition() {
+        return unbalancedPosition;
+    }
+
+    /**
+     * @return the number of quotes and comments
+     */
+    public int getRangeCount() {
+        return rangeCount;
+    }
+
+    public int getRangeBegin(int i) {
+        return ranges[2 * checkRange(i)];
+    }
+
+    public int getRangeEnd(int i) {
+        return ranges[2 * checkRange(i) + 1];
+    }
+
+    /**
+     * @param i the index of the range
+     * @return {@link #STRING}, {@link #QUOTED_IDENTIFIER} or {@link #COMMENT}
+     */
+    public byte getRangeKind(int i) {
+        return kinds[checkRange(i)];
+    }
+
+    private int checkRange(int i) {
+        if (i < 0 || i >= rangeCount) {
+            throw new IndexOutOfBoundsException("Range " + i + " of " + rangeCount);
+        }
+        return i;
+    }
+
+    /**
+     * @param position the position within the text
+     * @return the index of the quote or comment containing the position, or <code>-1</code>
+     */
+    public int rangeAt(int position) {
+        int low = 0;
+        int high = rangeCount - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (ranges[2 * mid + 1] <= position) {
+                low = mid + 1;
+            } else if (ranges[2 * mid] > position) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Removes the empty lines outside of quotes, so a single statement does not get split at
+     * <code>"\n\n\n"</code>, which the parser takes as a delimiter.
+     *
+     * @return the text with every line prefixed by a line break and without the empty lines
+     */
+    public String withoutEmptyLines() {
+        StringBuilder builder = new StringBuilder(sql.length() + 1);
+        int length = sql.length();
+        int range = 0;
+        int lineStart = 0;
+        int i = 0;
+        while (i < length) {
+            if (range < rangeCount && ranges[2 * range] == i) {
+                // a quote or comment may span lines
+                i = ranges[2 * range + 1];
+                range++;
+                continue;
+            }
+            if (sql.charAt(i) == '\n') {
+                if (i > lineStart) {
+                    builder.append('\n').append(sql, lineStart, i);
+                }
+                lineStart = i + 1;
+            }
+            i++;
+        }
+        if (length > lineStart) {
+            builder.append('\n').append(sql, lineStart, length);
+        }
+        return builder.toString();
+    }
+}
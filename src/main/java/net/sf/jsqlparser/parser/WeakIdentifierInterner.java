@@ -0,0 +1,53 @@
+/*-
+ * #%L
+ * JSQLParser library
+ * %%
+ * Copyright (C) 2004 - 2025 JSQLParser
+ * %%
+ * Dual licensed under GNU LGPL 2.1 or Apache License 2.0
+ * #L%
+ */
+package net.sf.jsqlparser.parser;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * The {@link IdentifierInterner#global()} interner, which holds the names by weak references only,
+ * so names no longer referenced by any parsed statement can be garbage collected.
+ */
+final class WeakIdentifierInterner implements IdentifierInterner {
+    static final WeakIdentifierInterner INSTANCE = new WeakIdentifierInterner();
+
+    // striped by the hash of the name, so concurrent parsers rarely contend
+    private static final int STRIPES = 16;
+
+    @SuppressWarnings("unchecked")
+    private final Map<String, WeakReference<String>>[] identifiers = new Map[STRIPES];
+
+    private WeakIdentifierInterner() {
+        for (int i = 0; i < STRIPES; i++) {
+            identifiers[i] = new WeakHashMap<>();
+        }
+    }
+
+    @Override
+    public String intern(String identifier) {
+        if (identifier == null) {
+            return null;
+        }
+        Map<String, WeakReference<String>> stripe =
+                identifiers[(identifier.hashCode() & 0x7FFFFFFF) % STRIPES];
+        synchronized (stripe) {
+            WeakReference<String> reference = stripe.get(identifier);
+            String shared = reference != null ? reference.get() : null;
+            if (shared == null) {
+                stripe.put(identifier, new WeakReference<>(identifier));
+                shared = identifier;
+            }
+            return shared;
+        }
+    }
+
+}
@@ -781,8 +781,20 @@ public enum Feature {
      */
     allowUnsupportedStatements(false),
 
+    /**
+     * the milliseconds a parse may run, which start when the {@link #parserExecutor} starts the
+     * parse; a parse waiting longer than this in the queue of a saturated executor fails as well
+     */
     timeOut(8000),
 
+    /**
+     * the executor running the parser when enforcing the {@link #timeOut}: "SHARED", "VIRTUAL",
+     * "DEDICATED" or "CALLER" for a cooperative deadline in the caller's thread
+     *
+     * @see net.sf.jsqlparser.parser.ParserExecutor.Mode
+     */
+    parserExecutor("SHARED"),
+
     /**
      * allows Backslash '\' as Escape Character
      */
@@ -798,6 +810,29 @@ public enum Feature {
      */
     allowedNestingDepth(10),
 
+    /**
+     * remembers whether SIMPLE or COMPLEX parsing succeeded for a statement shape and goes straight
+     * to the right mode next time, instead of always trying SIMPLE parsing first
+     *
+     * @see net.sf.jsqlparser.parser.AdaptiveParseStrategy
+     */
+    adaptiveParsing(false),
+
+    /**
+     * builds the jjtree nodes and links them to the parsed objects, can be switched off when
+     * {@link net.sf.jsqlparser.parser.ASTNodeAccess#getASTNode()} is never used, so no nodes and
+     * Tokens are retained by the parsed objects
+     */
+    buildAST(true),
+
+    /**
+     * shares equal names of schemas, tables, columns, functions and aliases: "NONE", "PARSE",
+     * "POOL" or "GLOBAL"
+     *
+     * @see net.sf.jsqlparser.parser.IdentifierInterner.Scope
+     */
+    identifierInterning("NONE"),
+
     dialect(null),
 
     /**
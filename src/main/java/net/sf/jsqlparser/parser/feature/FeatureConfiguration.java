@@ -10,8 +10,6 @@
 package net.sf.jsqlparser.parser.feature;
 
 import java.util.EnumMap;
-import java.util.EnumSet;
-import java.util.Map;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -19,12 +17,58 @@ public class FeatureConfiguration {
 
     private static final Logger LOG = Logger.getLogger(FeatureConfiguration.class.getName());
 
-    private final Map<Feature, Object> featureEnabled = new EnumMap<>(Feature.class);
+    // default-value for all switchable features, collected only once
+    private static final EnumMap<Feature, Object> DEFAULTS = new EnumMap<>(Feature.class);
 
-    public FeatureConfiguration() {
-        // set default-value for all switchable features
-        EnumSet.allOf(Feature.class).stream().filter(Feature::isConfigurable)
-                .forEach(f -> setValue(f, f.getDefaultValue()));
+    static {
+        for (Feature feature : Feature.values()) {
+            if (feature.isConfigurable()) {
+                DEFAULTS.put(feature, feature.getDefaultValue());
+            }
+        }
+    }
+
+    private static final FrozenFeatureConfiguration FROZEN_DEFAULTS =
+            new FrozenFeatureConfiguration(DEFAULTS);
+
+    // the compiled snapshot of the current values, derived from the previous one on every change
+    private FrozenFeatureConfiguration frozen = FROZEN_DEFAULTS;
+
+    public FeatureConfiguration() {}
+
+    /**
+     * @param frozen the snapshot providing the initial values, which is shared without copying
+     */
+    public FeatureConfiguration(FrozenFeatureConfiguration frozen) {
+        this.frozen = frozen;
+    }
+
+    /**
+     * Sets all switchable features back to their default-value.
+     *
+     * @return <code>this</code>
+     */
+    public FeatureConfiguration reset() {
+        frozen = FROZEN_DEFAULTS;
+        return this;
+    }
+
+    /**
+     * Sets all switchable features to the values of a snapshot.
+     *
+     * @param frozen the snapshot, which is shared without copying
+     * @return <code>this</code>
+     */
+    public FeatureConfiguration reset(FrozenFeatureConfiguration frozen) {
+        this.frozen = frozen;
+        return this;
+    }
+
+    /**
+     * @return the immutable snapshot of the current values, which is compiled only once per change
+     */
+    public FrozenFeatureConfiguration freeze() {
+        return frozen;
     }
 
     /**
@@ -34,7 +78,7 @@ public class FeatureConfiguration {
      */
     public FeatureConfiguration setValue(Feature feature, Object value) {
         if (feature.isConfigurable()) {
-            featureEnabled.put(feature, value);
+            frozen = frozen.with(feature, value);
         } else {
             if (LOG.isLoggable(Level.WARNING)) {
                 LOG.warning(feature.name() + " is not switchable - cannot set enabled = " + value);
@@ -49,27 +93,23 @@ public class FeatureConfiguration {
      * @throws IllegalStateException - if given {@link Feature#isConfigurable()} == false
      */
     public Object getValue(Feature feature) {
-        if (feature.isConfigurable()) {
-            return featureEnabled.get(feature);
-        } else {
-            throw new IllegalStateException("The feature " + feature + " is not configurable!");
-        }
+        return frozen.getValue(feature);
     }
 
     public boolean getAsBoolean(Feature f) {
-        return Boolean.parseBoolean(String.valueOf(getValue(f)));
+        return freeze().getAsBoolean(f);
     }
 
     public Long getAsLong(Feature f) {
-        return Long.valueOf(String.valueOf(getValue(f)));
+        return freeze().getAsLong(f);
     }
 
     public int getAsInt(Feature f) {
-        return Integer.parseInt(String.valueOf(getValue(f)));
+        return freeze().getAsInt(f);
     }
 
     public Integer getAsInteger(Feature f) {
-        return Integer.parseInt(String.valueOf(getValue(f)));
+        return freeze().getAsInt(f);
     }
 
     public String getAsString(Feature f) {
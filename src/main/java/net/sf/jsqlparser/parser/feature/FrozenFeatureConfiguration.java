@@ -0,0 +1,192 @@
+/*-
+ * #%L
+ * JSQLParser library
+ * %%
+ * Copyright (C) 2004 - 2025 JSQLParser
+ * %%
+ * Dual licensed under GNU LGPL 2.1 or Apache License 2.0
+ * #L%
+ */
+package net.sf.jsqlparser.parser.feature;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * An immutable snapshot of a {@link FeatureConfiguration}, compiled into a bitset for the boolean
+ * features and primitive values for the numeric features. It is read by the parser within its
+ * semantic LOOKAHEADs and Token actions, without any String conversion.
+ * <p>
+ * Being immutable, a snapshot can be shared by any number of threads and parsers.
+ *
+ * <pre>{@code
+ * FrozenFeatureConfiguration configuration =
+ *         new FeatureConfiguration().setValue(Feature.allowSquareBracketQuotation, true).freeze();
+ * CCJSqlParser parser = CCJSqlParserUtil.newParser(sqlStr).withConfiguration(configuration);
+ * }</pre>
+ *
+ * @see FeatureConfiguration#freeze()
+ */
+public final class FrozenFeatureConfiguration {
+    private static final Feature[] FEATURES = Feature.values();
+    private static final int WORDS = (FEATURES.length + 63) >>> 6;
+
+    private final EnumMap<Feature, Object> values;
+    private final long[] configurable = new long[WORDS];
+    private final long[] booleans = new long[WORDS];
+    private final long[] numeric = new long[WORDS];
+    private final long[] numbers = new long[FEATURES.length];
+
+    // lazily computed like String.hashCode(), racy but idempotent
+    private int hash;
+
+    // the snapshots differing by a single boolean feature, see with(), racy but idempotent
+    private FrozenFeatureConfiguration[] toggled;
+
+    FrozenFeatureConfiguration(Map<Feature, Object> values) {
+        this.values = new EnumMap<>(Feature.class);
+        this.values.putAll(values);
+        for (Map.Entry<Feature, Object> entry : this.values.entrySet()) {
+            int ordinal = entry.getKey().ordinal();
+            String value = String.valueOf(entry.getValue());
+            configurable[ordinal >>> 6] |= 1L << ordinal;
+            if (Boolean.parseBoolean(value)) {
+                booleans[ordinal >>> 6] |= 1L << ordinal;
+            }
+            if (entry.getValue() instanceof Number || isNumeric(value)) {
+                try {
+                    numbers[ordinal] = Long.parseLong(value);
+                    numeric[ordinal >>> 6] |= 1L << ordinal;
+                } catch (NumberFormatException ex) {
+                    // not a whole number, getAsLong() will fail like FeatureConfiguration does
+                }
+            }
+        }
+    }
+
+    private static boolean isNumeric(String value) {
+        return !value.isEmpty()
+                && (Character.isDigit(value.charAt(0)) || value.charAt(0) == '-'
+                        || value.charAt(0) == '+');
+    }
+
+    private static boolean isSet(long[] bits, int ordinal) {
+        return (bits[ordinal >>> 6] & (1L << ordinal)) != 0;
+    }
+
+    private int checkConfigurable(Feature feature) {
+        int ordinal = feature.ordinal();
+        if (!isSet(configurable, ordinal)) {
+            throw new IllegalStateException("The feature " + feature + " is not configurable!");
+        }
+        return ordinal;
+    }
+
+    /**
+     * @param feature
+     * @return the configured feature value - can be <code>null</code>
+     * @throws IllegalStateException - if given {@link Feature#isConfigurable()} == false
+     */
+    public Object getValue(Feature feature) {
+        checkConfigurable(feature);
+        return values.get(feature);
+    }
+
+    public boolean getAsBoolean(Feature f) {
+        return isSet(booleans, checkConfigurable(f));
+    }
+
+    public long getAsLong(Feature f) {
+        int ordinal = checkConfigurable(f);
+        if (isSet(numeric, ordinal)) {
+            return numbers[ordinal];
+        }
+        // fail the same way as the String conversion always did
+        return Long.parseLong(String.valueOf(values.get(f)));
+    }
+
+    public int getAsInt(Feature f) {
+        int ordinal = checkConfigurable(f);
+        long number = numbers[ordinal];
+        if (isSet(numeric, ordinal) && number == (int) number) {
+            return (int) number;
+        }
+        return Integer.parseInt(String.valueOf(values.get(f)));
+    }
+
+    public String getAsString(Feature f) {
+        Object value = getValue(f);
+        return value == null ? null : String.valueOf(value);
+    }
+
+    /**
+     * Derives the snapshot with a changed feature, which is how a parser changes its features
+     * without thawing its snapshot. Switching a boolean feature back and forth compiles the
+     * snapshots only once.
+     *
+     * @param feature a configurable feature
+     * @param value the new value
+     * @return this snapshot, when the feature has the value already, otherwise a snapshot with the
+     *         new value
+     */
+    public FrozenFeatureConfiguration with(Feature feature, Object value) {
+        Object current = values.get(feature);
+        if (!feature.isConfigurable() || Objects.equals(current, value)) {
+            return this;
+        }
+        if (!(current instanceof Boolean) || !(value instanceof Boolean)) {
+            return compile(feature, value);
+        }
+
+        FrozenFeatureConfiguration[] snapshots = toggled;
+        if (snapshots == null) {
+            snapshots = new FrozenFeatureConfiguration[FEATURES.length];
+            toggled = snapshots;
+        }
+        FrozenFeatureConfiguration snapshot = snapshots[feature.ordinal()];
+        if (snapshot == null) {
+            snapshot = compile(feature, value);
+            // switching back returns this snapshot
+            snapshot.toggled = new FrozenFeatureConfiguration[FEATURES.length];
+            snapshot.toggled[feature.ordinal()] = this;
+            snapshots[feature.ordinal()] = snapshot;
+        }
+        return snapshot;
+    }
+
+    private FrozenFeatureConfiguration compile(Feature feature, Object value) {
+        EnumMap<Feature, Object> changed = new EnumMap<>(values);
+        changed.put(feature, value);
+        return new FrozenFeatureConfiguration(changed);
+    }
+
+    /**
+     * @return a new, modifiable {@link FeatureConfiguration} with the values of this snapshot
+     */
+    public FeatureConfiguration thaw() {
+        return new FeatureConfiguration(this);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof FrozenFeatureConfiguration)) {
+            return false;
+        }
+        FrozenFeatureConfiguration that = (FrozenFeatureConfiguration) o;
+        return hashCode() == that.hashCode() && values.equals(that.values);
+    }
+
+    @Override
+    public int hashCode() {
+        int h = hash;
+        if (h == 0) {
+            h = values.hashCode();
+            hash = h;
+        }
+        return h;
+    }
+}
@@ -9,6 +9,7 @@
  */
 package net.sf.jsqlparser.schema;
 
+import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -25,12 +26,10 @@ public class Column extends ASTNodeAccessImpl implements Expression, MultiPartNa
 
     private Table table;
     private String columnName;
-    private String commentText;
-    private ArrayConstructor arrayConstructor;
     private String tableDelimiter = ".";
 
-    // holds the physical table when resolved against an actual schema information
-    private Table resolvedTable = null;
+    // the rarely used parts, allocated only when one of them is set
+    private RareParts rare;
 
     public Column() {}
 
@@ -57,11 +56,13 @@ public class Column extends ASTNodeAccessImpl implements Expression, MultiPartNa
     }
 
     public ArrayConstructor getArrayConstructor() {
-        return arrayConstructor;
+        return rare != null ? rare.arrayConstructor : null;
     }
 
     public Column setArrayConstructor(ArrayConstructor arrayConstructor) {
-        this.arrayConstructor = arrayConstructor;
+        if (arrayConstructor != null || rare != null) {
+            rare().arrayConstructor = arrayConstructor;
+        }
         return this;
     }
 
@@ -170,13 +171,13 @@ public class Column extends ASTNodeAccessImpl implements Expression, MultiPartNa
             fqn.append(columnName);
         }
 
-        if (commentText != null) {
+        if (rare != null && rare.commentText != null) {
             fqn.append(" COMMENT ");
-            fqn.append(commentText);
+            fqn.append(rare.commentText);
         }
 
-        if (arrayConstructor != null) {
-            fqn.append(arrayConstructor);
+        if (rare != null && rare.arrayConstructor != null) {
+            fqn.append(rare.arrayConstructor);
         }
 
         return fqn.toString();
@@ -196,7 +197,7 @@ public class Column extends ASTNodeAccessImpl implements Expression, MultiPartNa
     @Override
     public String toString() {
         return getFullyQualifiedName(true)
-                + (commentText != null ? " /* " + commentText + "*/ " : "");
+                + (getCommentText() != null ? " /* " + getCommentText() + "*/ " : "");
     }
 
     public Column withTable(Table table) {
@@ -220,11 +221,13 @@ public class Column extends ASTNodeAccessImpl implements Expression, MultiPartNa
     }
 
     public String getCommentText() {
-        return commentText;
+        return rare != null ? rare.commentText : null;
     }
 
     public void setCommentText(String commentText) {
-        this.commentText = commentText;
+        if (commentText != null || rare != null) {
+            rare().commentText = commentText;
+        }
     }
 
     /**
@@ -233,7 +236,7 @@ public class Column extends ASTNodeAccessImpl implements Expression, MultiPartNa
      * @return the actual table when resolved against a physical schema information
      */
     public Table getResolvedTable() {
-        return resolvedTable;
+        return rare != null ? rare.resolvedTable : null;
     }
 
     /**
@@ -243,7 +246,24 @@ public class Column extends ASTNodeAccessImpl implements Expression, MultiPartNa
      * @return this column
      */
     public Column setResolvedTable(Table resolvedTable) {
-        this.resolvedTable = resolvedTable;
+        if (resolvedTable != null || rare != null) {
+            rare().resolvedTable = resolvedTable;
+        }
         return this;
     }
+
+    private RareParts rare() {
+        if (rare == null) {
+            rare = new RareParts();
+        }
+        return rare;
+    }
+
+    private static final class RareParts implements Serializable {
+        private String commentText;
+        private ArrayConstructor arrayConstructor;
+
+        // holds the physical table when resolved against an actual schema information
+        private Table resolvedTable;
+    }
 }
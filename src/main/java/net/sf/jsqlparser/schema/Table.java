@@ -9,6 +9,8 @@
  */
 package net.sf.jsqlparser.schema;
 
+import java.io.Serializable;
+import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -41,24 +43,16 @@ public class Table extends ASTNodeAccessImpl implements ErrorDestination, FromIt
 
     private static final int SERVER_IDX = 3;
 
-    private List<String> partItems = new ArrayList<>();
+    // shared immutable lists until modified, a single name part is held by a singleton list,
+    // the lists are handed out only through the live NamePartsView
+    private List<String> partItems = Collections.emptyList();
 
-    private List<String> partDelimiters = new ArrayList<>();
+    private List<String> partDelimiters = Collections.emptyList();
 
     private Alias alias;
 
-    private SampleClause sampleClause;
-
-    private Pivot pivot;
-
-    private UnPivot unpivot;
-
-    private MySQLIndexHint mysqlHints;
-
-    private SQLServerHints sqlServerHints;
-
-    // holds the physical table when resolved against an actual schema information
-    private Table resolvedTable = null;
+    // the rarely used clauses, allocated only when one of them is set
+    private RareClauses rare;
 
     public Table() {}
 
@@ -198,7 +192,7 @@ public class Table extends ASTNodeAccessImpl implements ErrorDestination, FromIt
                         .contains(System.getProperty("SPLIT_NAMES_ON_DELIMITER"));
 
         if (MultiPartName.isQuoted(name) && name.contains(".") && splitNamesOnDelimiter) {
-            partItems.clear();
+            partItems = new ArrayList<>();
             for (String unquotedIdentifier : MultiPartName.unquote(name).split("\\.")) {
                 partItems.add("\"" + unquotedIdentifier + "\"");
             }
@@ -235,6 +229,13 @@ public class Table extends ASTNodeAccessImpl implements ErrorDestination, FromIt
     }
 
     private void setIndex(int idx, String value) {
+        if (idx == NAME_IDX && partItems.size() <= 1) {
+            partItems = value != null
+                    ? Collections.singletonList(value)
+                    : Collections.emptyList();
+            return;
+        }
+        List<String> partItems = mutableParts();
         int size = partItems.size();
         for (int i = 0; i < idx - size + 1; i++) {
             partItems.add(null);
@@ -259,14 +260,14 @@ public class Table extends ASTNodeAccessImpl implements ErrorDestination, FromIt
     public String getFullyQualifiedName() {
         StringBuilder fqn = new StringBuilder();
 
-        // remove any leading empty items
+        // skip any leading empty items
         // only middle items can be suppressed (e.g. dbo..MY_TABLE )
-        while (!partItems.isEmpty() && (partItems.get(partItems.size() - 1) == null
-                || partItems.get(partItems.size() - 1).isEmpty())) {
-            partItems.remove(partItems.size() - 1);
+        int first = partItems.size() - 1;
+        while (first >= 0 && (partItems.get(first) == null || partItems.get(first).isEmpty())) {
+            first--;
         }
 
-        for (int i = partItems.size() - 1; i >= 0; i--) {
+        for (int i = first; i >= 0; i--) {
             String part = partItems.get(i);
             if (part == null) {
                 part = "";
@@ -296,26 +297,30 @@ public class Table extends ASTNodeAccessImpl implements ErrorDestination, FromIt
 
     @Override
     public Pivot getPivot() {
-        return pivot;
+        return rare != null ? rare.pivot : null;
     }
 
     @Override
     public void setPivot(Pivot pivot) {
-        this.pivot = pivot;
+        if (pivot != null || rare != null) {
+            rare().pivot = pivot;
+        }
     }
 
     @Override
     public UnPivot getUnPivot() {
-        return this.unpivot;
+        return rare != null ? rare.unpivot : null;
     }
 
     @Override
     public void setUnPivot(UnPivot unpivot) {
-        this.unpivot = unpivot;
+        if (unpivot != null || rare != null) {
+            rare().unpivot = unpivot;
+        }
     }
 
     public MySQLIndexHint getIndexHint() {
-        return mysqlHints;
+        return rare != null ? rare.mysqlHints : null;
     }
 
     public Table withHint(MySQLIndexHint hint) {
@@ -324,23 +329,29 @@ public class Table extends ASTNodeAccessImpl implements ErrorDestination, FromIt
     }
 
     public void setHint(MySQLIndexHint hint) {
-        this.mysqlHints = hint;
+        if (hint != null || rare != null) {
+            rare().mysqlHints = hint;
+        }
     }
 
     public SQLServerHints getSqlServerHints() {
-        return sqlServerHints;
+        return rare != null ? rare.sqlServerHints : null;
     }
 
     public void setSqlServerHints(SQLServerHints sqlServerHints) {
-        this.sqlServerHints = sqlServerHints;
+        if (sqlServerHints != null || rare != null) {
+            rare().sqlServerHints = sqlServerHints;
+        }
     }
 
     public SampleClause getSampleClause() {
-        return sampleClause;
+        return rare != null ? rare.sampleClause : null;
     }
 
     public Table setSampleClause(SampleClause sampleClause) {
-        this.sampleClause = sampleClause;
+        if (sampleClause != null || rare != null) {
+            rare().sampleClause = sampleClause;
+        }
         return this;
     }
 
@@ -350,24 +361,28 @@ public class Table extends ASTNodeAccessImpl implements ErrorDestination, FromIt
             builder.append(alias);
         }
 
-        if (sampleClause != null) {
-            sampleClause.appendTo(builder);
+        if (rare == null) {
+            return builder;
+        }
+
+        if (rare.sampleClause != null) {
+            rare.sampleClause.appendTo(builder);
         }
 
-        if (pivot != null) {
-            builder.append(" ").append(pivot);
+        if (rare.pivot != null) {
+            builder.append(" ").append(rare.pivot);
         }
 
-        if (unpivot != null) {
-            builder.append(" ").append(unpivot);
+        if (rare.unpivot != null) {
+            builder.append(" ").append(rare.unpivot);
         }
 
-        if (mysqlHints != null) {
-            builder.append(mysqlHints);
+        if (rare.mysqlHints != null) {
+            builder.append(rare.mysqlHints);
         }
 
-        if (sqlServerHints != null) {
-            builder.append(sqlServerHints);
+        if (rare.sqlServerHints != null) {
+            builder.append(rare.sqlServerHints);
         }
         return builder;
     }
@@ -397,21 +412,96 @@ public class Table extends ASTNodeAccessImpl implements ErrorDestination, FromIt
         return this;
     }
 
+    /**
+     * @return a live, modifiable view of the name parts, starting with the name, which follows any
+     *         later change of the name
+     */
     public List<String> getNameParts() {
-        return partItems;
+        return new NamePartsView(false);
     }
 
+    /**
+     * @return a live, modifiable view of the delimiters between the name parts
+     */
     public List<String> getNamePartDelimiters() {
+        return new NamePartsView(true);
+    }
+
+    private List<String> mutableParts() {
+        if (!(partItems instanceof ArrayList)) {
+            partItems = new ArrayList<>(partItems);
+        }
+        return partItems;
+    }
+
+    private List<String> mutableDelimiters() {
+        if (!(partDelimiters instanceof ArrayList)) {
+            partDelimiters = new ArrayList<>(partDelimiters);
+        }
         return partDelimiters;
     }
 
+    /**
+     * Reads the current list and copies it only when it gets modified, so the getters never write
+     * the fields of a possibly shared Table.
+     */
+    private final class NamePartsView extends AbstractList<String> {
+        private final boolean delimiters;
+
+        private NamePartsView(boolean delimiters) {
+            this.delimiters = delimiters;
+        }
+
+        private List<String> current() {
+            return delimiters ? partDelimiters : partItems;
+        }
+
+        private List<String> modifiable() {
+            return delimiters ? mutableDelimiters() : mutableParts();
+        }
+
+        @Override
+        public String get(int index) {
+            return current().get(index);
+        }
+
+        @Override
+        public int size() {
+            return current().size();
+        }
+
+        @Override
+        public String set(int index, String element) {
+            return modifiable().set(index, element);
+        }
+
+        @Override
+        public void add(int index, String element) {
+            modCount++;
+            modifiable().add(index, element);
+        }
+
+        @Override
+        public String remove(int index) {
+            modCount++;
+            return modifiable().remove(index);
+        }
+    }
+
+    private RareClauses rare() {
+        if (rare == null) {
+            rare = new RareClauses();
+        }
+        return rare;
+    }
+
     /**
      * Gets the actual table when resolved against a physical schema information.
      *
      * @return the actual table when resolved against a physical schema information
      */
     public Table getResolvedTable() {
-        return resolvedTable;
+        return rare != null ? rare.resolvedTable : null;
     }
 
     /**
@@ -421,7 +511,20 @@ public class Table extends ASTNodeAccessImpl implements ErrorDestination, FromIt
      * @return this table
      */
     public Table setResolvedTable(Table resolvedTable) {
-        this.resolvedTable = resolvedTable;
+        if (resolvedTable != null || rare != null) {
+            rare().resolvedTable = resolvedTable;
+        }
         return this;
     }
+
+    private static final class RareClauses implements Serializable {
+        private SampleClause sampleClause;
+        private Pivot pivot;
+        private UnPivot unpivot;
+        private MySQLIndexHint mysqlHints;
+        private SQLServerHints sqlServerHints;
+
+        // holds the physical table when resolved against an actual schema information
+        private Table resolvedTable;
+    }
 }
@@ -167,6 +167,9 @@ public final class SetStatement implements Statement {
         ExpressionList expressions;
         boolean useEqual;
 
+        // for the reflective copies, see net.sf.jsqlparser.util.ModelCopier
+        private NameExpr() {}
+
         public NameExpr(Object name, ExpressionList<?> expressions, boolean useEqual) {
             this.name = name;
             this.expressions = expressions;
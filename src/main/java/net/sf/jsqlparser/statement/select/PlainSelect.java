@@ -17,6 +17,7 @@ import net.sf.jsqlparser.expression.PreferringClause;
 import net.sf.jsqlparser.expression.WindowDefinition;
 import net.sf.jsqlparser.schema.Table;
 
+import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -31,7 +32,6 @@ import static java.util.stream.Collectors.joining;
 public class PlainSelect extends Select {
 
     private Distinct distinct = null;
-    private BigQuerySelectQualifier bigQuerySelectQualifier = null;
     private List<SelectItem<?>> selectItems;
     private List<Table> intoTables;
     private FromItem fromItem;
@@ -40,21 +40,10 @@ public class PlainSelect extends Select {
     private Expression where;
     private GroupByElement groupBy;
     private Expression having;
-    private Expression qualify;
-    private OptimizeFor optimizeFor;
-    private Skip skip;
     private boolean mySqlHintStraightJoin;
-    private First first;
     private Top top;
-    private OracleHierarchicalExpression oracleHierarchical = null;
-    private PreferringClause preferringClause = null;
-    private OracleHint oracleHint = null;
     private boolean mySqlSqlCalcFoundRows = false;
-    private MySqlSqlCacheFlags mySqlCacheFlag = null;
-    private String forXmlPath;
-    private KSQLWindow ksqlWindow = null;
     private boolean emitChanges = false;
-    private List<WindowDefinition> windowDefinitions;
     /**
      * @see <a href=
      *      'https://clickhouse.com/docs/en/sql-reference/statements/select/from#final-modifier'>Clickhouse
@@ -63,7 +52,9 @@ public class PlainSelect extends Select {
     private boolean isUsingFinal = false;
     private boolean isUsingOnly = false;
     private boolean useWithNoLog = false;
-    private Table intoTempTable = null;
+
+    // the rarely used clauses, allocated only when one of them is set
+    private RareClauses rare;
 
     public PlainSelect() {}
 
@@ -302,11 +293,13 @@ public class PlainSelect extends Select {
     }
 
     public Table getIntoTempTable() {
-        return intoTempTable;
+        return rare != null ? rare.intoTempTable : null;
     }
 
     public void setIntoTempTable(Table intoTempTable) {
-        this.intoTempTable = intoTempTable;
+        if (intoTempTable != null || rare != null) {
+            rare().intoTempTable = intoTempTable;
+        }
     }
 
     public PlainSelect withIntoTempTable(Table intoTempTable) {
@@ -335,11 +328,13 @@ public class PlainSelect extends Select {
     }
 
     public OptimizeFor getOptimizeFor() {
-        return optimizeFor;
+        return rare != null ? rare.optimizeFor : null;
     }
 
     public void setOptimizeFor(OptimizeFor optimizeFor) {
-        this.optimizeFor = optimizeFor;
+        if (optimizeFor != null || rare != null) {
+            rare().optimizeFor = optimizeFor;
+        }
     }
 
     public Top getTop() {
@@ -351,11 +346,13 @@ public class PlainSelect extends Select {
     }
 
     public Skip getSkip() {
-        return skip;
+        return rare != null ? rare.skip : null;
     }
 
     public void setSkip(Skip skip) {
-        this.skip = skip;
+        if (skip != null || rare != null) {
+            rare().skip = skip;
+        }
     }
 
     public boolean getMySqlHintStraightJoin() {
@@ -367,11 +364,13 @@ public class PlainSelect extends Select {
     }
 
     public First getFirst() {
-        return first;
+        return rare != null ? rare.first : null;
     }
 
     public void setFirst(First first) {
-        this.first = first;
+        if (first != null || rare != null) {
+            rare().first = first;
+        }
     }
 
     public Distinct getDistinct() {
@@ -383,11 +382,13 @@ public class PlainSelect extends Select {
     }
 
     public BigQuerySelectQualifier getBigQuerySelectQualifier() {
-        return bigQuerySelectQualifier;
+        return rare != null ? rare.bigQuerySelectQualifier : null;
     }
 
     public PlainSelect setBigQuerySelectQualifier(BigQuerySelectQualifier bigQuerySelectQualifier) {
-        this.bigQuerySelectQualifier = bigQuerySelectQualifier;
+        if (bigQuerySelectQualifier != null || rare != null) {
+            rare().bigQuerySelectQualifier = bigQuerySelectQualifier;
+        }
         return this;
     }
 
@@ -400,11 +401,13 @@ public class PlainSelect extends Select {
     }
 
     public Expression getQualify() {
-        return qualify;
+        return rare != null ? rare.qualify : null;
     }
 
     public PlainSelect setQualify(Expression qualify) {
-        this.qualify = qualify;
+        if (qualify != null || rare != null) {
+            rare().qualify = qualify;
+        }
         return this;
     }
 
@@ -429,43 +432,53 @@ public class PlainSelect extends Select {
     }
 
     public OracleHierarchicalExpression getOracleHierarchical() {
-        return oracleHierarchical;
+        return rare != null ? rare.oracleHierarchical : null;
     }
 
     public void setOracleHierarchical(OracleHierarchicalExpression oracleHierarchical) {
-        this.oracleHierarchical = oracleHierarchical;
+        if (oracleHierarchical != null || rare != null) {
+            rare().oracleHierarchical = oracleHierarchical;
+        }
     }
 
     public PreferringClause getPreferringClause() {
-        return preferringClause;
+        return rare != null ? rare.preferringClause : null;
     }
 
     public void setPreferringClause(PreferringClause preferringClause) {
-        this.preferringClause = preferringClause;
+        if (preferringClause != null || rare != null) {
+            rare().preferringClause = preferringClause;
+        }
     }
 
     public OracleHint getOracleHint() {
-        return oracleHint;
+        return rare != null ? rare.oracleHint : null;
     }
 
     public void setOracleHint(OracleHint oracleHint) {
-        this.oracleHint = oracleHint;
+        if (oracleHint != null || rare != null) {
+            rare().oracleHint = oracleHint;
+        }
     }
 
     public String getForXmlPath() {
-        return forXmlPath;
+        return rare != null ? rare.forXmlPath : null;
     }
 
     public void setForXmlPath(String forXmlPath) {
-        this.forXmlPath = forXmlPath;
+        if (forXmlPath != null || rare != null) {
+            rare().forXmlPath = forXmlPath;
+        }
     }
 
     public KSQLWindow getKsqlWindow() {
-        return ksqlWindow;
+        return rare != null ? rare.ksqlWindow : null;
     }
 
     public void setKsqlWindow(KSQLWindow ksqlWindow) {
-        this.ksqlWindow = ksqlWindow;
+        if (ksqlWindow != null || rare != null) {
+            rare().ksqlWindow = ksqlWindow;
+        }
     }
 
     public boolean isEmitChanges() {
@@ -477,11 +490,13 @@ public class PlainSelect extends Select {
     }
 
     public List<WindowDefinition> getWindowDefinitions() {
-        return windowDefinitions;
+        return rare != null ? rare.windowDefinitions : null;
     }
 
     public void setWindowDefinitions(List<WindowDefinition> windowDefinitions) {
-        this.windowDefinitions = windowDefinitions;
+        if (windowDefinitions != null || rare != null) {
+            rare().windowDefinitions = windowDefinitions;
+        }
     }
 
     @SuppressWarnings({"PMD.CyclomaticComplexity", "PMD.ExcessiveMethodLength",
@@ -493,24 +508,24 @@ public class PlainSelect extends Select {
             builder.append("STRAIGHT_JOIN ");
         }
 
-        if (oracleHint != null) {
-            builder.append(oracleHint).append(" ");
+        if (getOracleHint() != null) {
+            builder.append(getOracleHint()).append(" ");
         }
 
-        if (skip != null) {
-            builder.append(skip).append(" ");
+        if (getSkip() != null) {
+            builder.append(getSkip()).append(" ");
         }
 
-        if (first != null) {
-            builder.append(first).append(" ");
+        if (getFirst() != null) {
+            builder.append(getFirst()).append(" ");
         }
 
         if (distinct != null) {
             builder.append(distinct).append(" ");
         }
 
-        if (bigQuerySelectQualifier != null) {
-            switch (bigQuerySelectQualifier) {
+        if (getBigQuerySelectQualifier() != null) {
+            switch (getBigQuerySelectQualifier()) {
                 case AS_STRUCT:
                     builder.append("AS STRUCT ");
                     break;
@@ -523,8 +538,8 @@ public class PlainSelect extends Select {
         if (top != null) {
             builder.append(top).append(" ");
         }
-        if (mySqlCacheFlag != null) {
-            builder.append(mySqlCacheFlag.name()).append(" ");
+        if (getMySqlSqlCacheFlag() != null) {
+            builder.append(getMySqlSqlCacheFlag().name()).append(" ");
         }
         if (mySqlSqlCalcFoundRows) {
             builder.append("SQL_CALC_FOUND_ROWS").append(" ");
@@ -566,17 +581,17 @@ public class PlainSelect extends Select {
                 builder.append(" FINAL");
             }
 
-            if (ksqlWindow != null) {
-                builder.append(" WINDOW ").append(ksqlWindow);
+            if (getKsqlWindow() != null) {
+                builder.append(" WINDOW ").append(getKsqlWindow());
             }
             if (where != null) {
                 builder.append(" WHERE ").append(where);
             }
-            if (oracleHierarchical != null) {
-                builder.append(oracleHierarchical);
+            if (getOracleHierarchical() != null) {
+                builder.append(getOracleHierarchical());
             }
-            if (preferringClause != null) {
-                builder.append(" ").append(preferringClause);
+            if (getPreferringClause() != null) {
+                builder.append(" ").append(getPreferringClause());
             }
             if (groupBy != null) {
                 builder.append(" ").append(groupBy);
@@ -584,12 +599,12 @@ public class PlainSelect extends Select {
             if (having != null) {
                 builder.append(" HAVING ").append(having);
             }
-            if (qualify != null) {
-                builder.append(" QUALIFY ").append(qualify);
+            if (getQualify() != null) {
+                builder.append(" QUALIFY ").append(getQualify());
             }
-            if (windowDefinitions != null) {
+            if (getWindowDefinitions() != null) {
                 builder.append(" WINDOW ");
-                builder.append(windowDefinitions.stream().map(WindowDefinition::toString)
+                builder.append(getWindowDefinitions().stream().map(WindowDefinition::toString)
                         .collect(joining(", ")));
             }
             if (emitChanges) {
@@ -601,8 +616,8 @@ public class PlainSelect extends Select {
                 builder.append(" WHERE ").append(where);
             }
         }
-        if (intoTempTable != null) {
-            builder.append(" INTO TEMP ").append(intoTempTable);
+        if (getIntoTempTable() != null) {
+            builder.append(" INTO TEMP ").append(getIntoTempTable());
         }
         if (useWithNoLog) {
             builder.append(" WITH NO LOG");
@@ -617,12 +632,12 @@ public class PlainSelect extends Select {
         StringBuilder builder = new StringBuilder();
         super.appendTo(builder);
 
-        if (optimizeFor != null) {
-            builder.append(optimizeFor);
+        if (getOptimizeFor() != null) {
+            builder.append(getOptimizeFor());
         }
 
-        if (forXmlPath != null) {
-            builder.append(" FOR XML PATH(").append(forXmlPath).append(")");
+        if (getForXmlPath() != null) {
+            builder.append(" FOR XML PATH(").append(getForXmlPath()).append(")");
         }
 
         return builder.toString();
@@ -647,11 +662,13 @@ public class PlainSelect extends Select {
     }
 
     public MySqlSqlCacheFlags getMySqlSqlCacheFlag() {
-        return this.mySqlCacheFlag;
+        return rare != null ? rare.mySqlCacheFlag : null;
     }
 
     public void setMySqlSqlCacheFlag(MySqlSqlCacheFlags sqlCacheFlag) {
-        this.mySqlCacheFlag = sqlCacheFlag;
+        if (sqlCacheFlag != null || rare != null) {
+            rare().mySqlCacheFlag = sqlCacheFlag;
+        }
     }
 
     public PlainSelect withDistinct(Distinct distinct) {
@@ -774,4 +791,27 @@ public class PlainSelect extends Select {
     public enum BigQuerySelectQualifier {
         AS_STRUCT, AS_VALUE
     }
+
+    private RareClauses rare() {
+        if (rare == null) {
+            rare = new RareClauses();
+        }
+        return rare;
+    }
+
+    private static final class RareClauses implements Serializable {
+        private BigQuerySelectQualifier bigQuerySelectQualifier;
+        private Expression qualify;
+        private OptimizeFor optimizeFor;
+        private Skip skip;
+        private First first;
+        private OracleHierarchicalExpression oracleHierarchical;
+        private PreferringClause preferringClause;
+        private OracleHint oracleHint;
+        private MySqlSqlCacheFlags mySqlCacheFlag;
+        private String forXmlPath;
+        private KSQLWindow ksqlWindow;
+        private List<WindowDefinition> windowDefinitions;
+        private Table intoTempTable;
+    }
 }
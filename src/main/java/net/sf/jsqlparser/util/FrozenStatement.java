@@ -0,0 +1,477 @@
+/*-
+ * #%L
+ * JSQLParser library
+ * %%
+ * Copyright (C) 2004 - 2025 JSQLParser
+ * %%
+ * Dual licensed under GNU LGPL 2.1 or Apache License 2.0
+ * #L%
+ */
+package net.sf.jsqlparser.util;
+
+import java.lang.reflect.Field;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+import net.sf.jsqlparser.parser.ASTNodeAccess;
+import net.sf.jsqlparser.parser.ASTNodeAccessImpl;
+import net.sf.jsqlparser.parser.StatementCache;
+import net.sf.jsqlparser.statement.Statement;
+
+/**
+ * An immutable handle of a parsed {@link Statement}, which can be shared by many threads without
+ * locks, e.g. when served by a {@link StatementCache} with {@link StatementCache.Sharing#SHARED}.
+ * <p>
+ * The model itself stays mutable, so the statement returned by {@link #get()} must never be
+ * modified. Instead, rewrites are done copy-on-write: {@link #update(Object, Consumer)} copies only
+ * the objects on the path from the root down to the changed object and returns a new
+ * {@link FrozenStatement}, which shares all the other objects with this one. The objects to change
+ * are looked up by a walk over the whole statement, so such a rewrite takes time linear in the
+ * size of the statement. When the caller knows the ancestors of the object, e.g. from its own
+ * visitor, {@link #update(List, Object, Consumer)} rewrites just the path in time linear in its
+ * depth.
+ *
+ * <pre>{@code
+ * FrozenStatement<Select> frozen = FrozenStatement.freeze((Select) cache.parse(sqlStr));
+ * FrozenStatement<Select> filtered = frozen.updateAll(PlainSelect.class,
+ *         select -> select.setWhere(select.getWhere() == null
+ *                 ? tenantFilter
+ *                 : new AndExpression(select.getWhere(), tenantFilter)));
+ * FrozenStatement<Select> renamed = frozen.update(List.of(frozen.get()),
+ *         (Table) frozen.get().getPlainSelect().getFromItem(), table -> table.setSchemaName("s"));
+ * }</pre>
+ * <p>
+ * The copies are made reflectively and, like serialized objects, neither carry the transient AST
+ * {@link net.sf.jsqlparser.parser.Node}s nor the spans of {@link ASTNodeAccessImpl#detach(String)}.
+ * <p>
+ * Since it is never modified, a frozen statement caches its text and its structural hash code, so
+ * it can serve as the key of a map, see {@link ModelEquivalence}.
+ *
+ * @param <T> the type of the statement
+ */
+public final class FrozenStatement<T extends Statement> {
+
+    private final T statement;
+
+    // computed on demand, racy but idempotent like String.hashCode()
+    private String sql;
+    private int hash;
+
+    private FrozenStatement(T statement) {
+        this.statement = Objects.requireNonNull(statement);
+    }
+
+    /**
+     * Freezes a statement, which must not be modified anymore afterwards.
+     *
+     * @param statement the statement
+     * @param <T> the type of the statement
+     * @return the frozen statement
+     */
+    public static <T extends Statement> FrozenStatement<T> freeze(T statement) {
+        return new FrozenStatement<>(statement);
+    }
+
+    /**
+     * Detaches a parsed statement from its AST {@link net.sf.jsqlparser.parser.Node}s and freezes
+     * it, so the frozen statement does not retain the Tokens of the parser.
+     *
+     * @param statement the statement
+     * @param sql the text, which has been parsed
+     * @param <T> the type of the statement
+     * @return the frozen statement
+     * @see ASTNodeAccessImpl#detach(ASTNodeAccess, String)
+     */
+    public static <T extends Statement> FrozenStatement<T> freeze(T statement, String sql) {
+        if (statement instanceof ASTNodeAccess) {
+            ASTNodeAccessImpl.detach((ASTNodeAccess) statement, sql);
+        }
+        return new FrozenStatement<>(statement);
+    }
+
+    /**
+     * @return the shared statement, which must never be modified
+     */
+    public T get() {
+        return statement;
+    }
+
+    /**
+     * Rewrites a single object of the statement. The change is applied to a copy of the object,
+     * whose referenced objects are still shared and therefore must be replaced instead of being
+     * modified.
+     *
+     * @param node an object of this statement
+     * @param change modifies the copy of the object
+     * @param <N> the type of the object
+     * @return the rewritten statement
+     * @throws IllegalArgumentException when the object is not part of this statement
+     */
+    @SuppressWarnings("unchecked")
+    public <N> FrozenStatement<T> update(N node, Consumer<? super N> change) {
+        return rewrite(candidate -> candidate == node, (original, current) -> {
+            N copy = current == original ? ModelReflection.shallowCopy((N) original) : (N) current;
+            change.accept(copy);
+            return copy;
+        }, true);
+    }
+
+    /**
+     * Rewrites a single object of the statement, whose ancestors are known, without walking the
+     * statement. The change is applied to a copy of the object, whose referenced objects are still
+     * shared and therefore must be replaced instead of being modified.
+     *
+     * @param ancestors the objects from the statement down to the one referencing the object,
+     *        where each one references the next either directly or as an element of a list, map
+     *        or array, empty for the statement itself
+     * @param node an object of this statement
+     * @param change modifies the copy of the object
+     * @param <N> the type of the object
+     * @return the rewritten statement
+     * @throws IllegalArgumentException when the ancestors don't lead to the object
+     */
+    public <N> FrozenStatement<T> update(List<?> ancestors, N node, Consumer<? super N> change) {
+        N copy = ModelReflection.shallowCopy(node);
+        change.accept(copy);
+        return rewritePath(ancestors, node, copy);
+    }
+
+    /**
+     * Replaces a single object of the statement, whose ancestors are known, without walking the
+     * statement.
+     *
+     * @param ancestors the objects from the statement down to the one referencing the object, see
+     *        {@link #update(List, Object, Consumer)}
+     * @param node an object of this statement
+     * @param replacement the replacing object
+     * @return the rewritten statement
+     * @throws IllegalArgumentException when the ancestors don't lead to the object or when the
+     *         statement itself would be replaced by an object of another type
+     */
+    public FrozenStatement<T> replace(List<?> ancestors, Object node, Object replacement) {
+        return rewritePath(ancestors, node, replacement);
+    }
+
+    /**
+     * Replaces a single object of the statement.
+     *
+     * @param node an object of this statement
+     * @param replacement the replacing object
+     * @return the rewritten statement
+     * @throws IllegalArgumentException when the object is not part of this statement or when the
+     *         statement itself would be replaced by an object of another type
+     */
+    public FrozenStatement<T> replace(Object node, Object replacement) {
+        if (node == statement && !statement.getClass().isInstance(replacement)) {
+            throw new IllegalArgumentException(
+                    "The statement can only be replaced by another " + statement.getClass());
+        }
+        return rewrite(candidate -> candidate == node, (original, current) -> replacement, true);
+    }
+
+    /**
+     * Rewrites all objects of the given type, the nested ones before their enclosing ones. Each
+     * change is applied to a copy of the object, whose referenced objects are still shared and
+     * therefore must be replaced instead of being modified.
+     *
+     * @param type the type of the objects
+     * @param change modifies the copies of the objects
+     * @param <N> the type of the objects
+     * @return the rewritten statement or this one, when there is no such object
+     */
+    public <N> FrozenStatement<T> updateAll(Class<N> type, Consumer<? super N> change) {
+        return rewrite(type::isInstance, (original, current) -> {
+            N copy = type.cast(
+                    current == original ? ModelReflection.shallowCopy(original) : current);
+            change.accept(copy);
+            return copy;
+        }, false);
+    }
+
+    /**
+     * Copies the ancestors bottom-up, each one referencing the copy of its child.
+     */
+    @SuppressWarnings("unchecked")
+    private FrozenStatement<T> rewritePath(List<?> ancestors, Object node, Object replacement) {
+        Object root = ancestors.isEmpty() ? node : ancestors.get(0);
+        if (root != statement) {
+            throw new IllegalArgumentException("The path does not start at the statement.");
+        }
+        Object child = node;
+        Object current = replacement;
+        for (int i = ancestors.size() - 1; i >= 0; i--) {
+            Object parent = ancestors.get(i);
+            Object copy = ModelReflection.shallowCopy(parent);
+            if (!replaceReference(parent, copy, child, current)) {
+                throw new IllegalArgumentException(
+                        "The " + parent.getClass().getSimpleName() + " does not reference the "
+                                + child.getClass().getSimpleName() + ".");
+            }
+            child = parent;
+            current = copy;
+        }
+        if (!statement.getClass().isInstance(current)) {
+            throw new IllegalArgumentException(
+                    "The statement can only be replaced by another " + statement.getClass());
+        }
+        return new FrozenStatement<>((T) current);
+    }
+
+    /**
+     * Replaces the reference to the child within the shallow copy of its parent.
+     *
+     * @return <code>false</code>, when the parent does not reference the child
+     */
+    @SuppressWarnings("unchecked")
+    private static boolean replaceReference(Object parent, Object copy, Object child,
+            Object replacement) {
+        if (parent instanceof List) {
+            int index = indexOf((List<Object>) parent, child);
+            if (index >= 0) {
+                ((List<Object>) copy).set(index, replacement);
+                return true;
+            }
+        }
+        for (Field field : ModelReflection.children(parent.getClass())) {
+            Object value = ModelReflection.get(field, parent);
+            if (value == child) {
+                ModelReflection.set(field, copy, replacement);
+                return true;
+            } else if (ModelReflection.isPrivateState(field) && value != null) {
+                // e.g. the rare clauses of a Table, copied along with the parent
+                if (replaceReference(value, ModelReflection.get(field, copy), child,
+                        replacement)) {
+                    return true;
+                }
+            } else if (value instanceof List) {
+                List<Object> list = (List<Object>) value;
+                int index = indexOf(list, child);
+                if (index >= 0) {
+                    // the shallow copy holds a copy of a plain list already, but shares an
+                    // ExpressionList
+                    List<Object> listCopy = ModelReflection.isModel(list)
+                            ? ModelReflection.shallowCopy(list)
+                            : (List<Object>) ModelReflection.get(field, copy);
+                    listCopy.set(index, replacement);
+                    ModelReflection.set(field, copy, listCopy);
+                    return true;
+                }
+            } else if (value instanceof Map && !ModelReflection.isModel(value)) {
+                Map<Object, Object> map = (Map<Object, Object>) ModelReflection.get(field, copy);
+                for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                    if (entry.getValue() == child) {
+                        map.put(entry.getKey(), replacement);
+                        return true;
+                    }
+                }
+            } else if (value instanceof Object[]) {
+                Object[] array = (Object[]) value;
+                for (int i = 0; i < array.length; i++) {
+                    if (array[i] == child) {
+                        Object[] arrayCopy = array.clone();
+                        arrayCopy[i] = replacement;
+                        ModelReflection.set(field, copy, arrayCopy);
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    private static int indexOf(List<?> list, Object element) {
+        for (int i = 0; i < list.size(); i++) {
+            if (list.get(i) == element) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @SuppressWarnings("unchecked")
+    private FrozenStatement<T> rewrite(Predicate<Object> selector, Rewrite rewrite,
+            boolean single) {
+        PathCopier copier = new PathCopier(selector, rewrite);
+        Object root = copier.copy(statement);
+        if (!copier.found) {
+            if (single) {
+                throw new IllegalArgumentException("The object is not part of the statement.");
+            }
+            return this;
+        }
+        return new FrozenStatement<>((T) root);
+    }
+
+    /**
+     * @return the deparsed statement, computed only once
+     */
+    @Override
+    public String toString() {
+        String s = sql;
+        if (s == null) {
+            s = statement.toString();
+            sql = s;
+        }
+        return s;
+    }
+
+    /**
+     * @return the structural hash code of the statement, computed only once
+     * @see ModelEquivalence#hash(Object)
+     */
+    @Override
+    public int hashCode() {
+        int h = hash;
+        if (h == 0) {
+            h = ModelEquivalence.hash(statement);
+            hash = h;
+        }
+        return h;
+    }
+
+    /**
+     * Compares the statements structurally, which is cheap for the objects shared by rewritten
+     * statements.
+     *
+     * @see ModelEquivalence#equals(Object, Object)
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof FrozenStatement)) {
+            return false;
+        }
+        FrozenStatement<?> that = (FrozenStatement<?>) o;
+        return hashCode() == that.hashCode()
+                && ModelEquivalence.equals(statement, that.statement);
+    }
+
+    @FunctionalInterface
+    private interface Rewrite {
+        /**
+         * @param original the selected object of the frozen statement
+         * @param current the original or, when some of its referenced objects have been
+         *        rewritten, its copy
+         * @return the object, which replaces the original
+         */
+        Object apply(Object original, Object current);
+    }
+
+    /**
+     * Walks the statement reflectively and copies every object, which references a rewritten one,
+     * while all the others are returned as they are.
+     */
+    private static final class PathCopier {
+        private final Predicate<Object> selector;
+        private final Rewrite rewrite;
+
+        // the replacements of the visited objects, so shared objects are rewritten only once
+        private final Map<Object, Object> copies = new IdentityHashMap<>();
+        private boolean found;
+
+        private PathCopier(Predicate<Object> selector, Rewrite rewrite) {
+            this.selector = selector;
+            this.rewrite = rewrite;
+        }
+
+        private Object copy(Object node) {
+            if (node == null) {
+                return null;
+            }
+            if (copies.containsKey(node)) {
+                return copies.get(node);
+            }
+            boolean model = ModelReflection.isModel(node);
+            if (!model && !(node instanceof List) && !(node instanceof Map)
+                    && !(node instanceof Object[])) {
+                return node;
+            }
+            // guards against cycles, e.g. through a resolved table
+            copies.put(node, node);
+
+            Object current = model ? copyFields(node) : node;
+            if (node instanceof List) {
+                current = copyElements((List<?>) node, current);
+            } else if (node instanceof Map) {
+                current = copyValues((Map<?, ?>) node);
+            } else if (node instanceof Object[]) {
+                current = copyArray((Object[]) node);
+            }
+
+            if (model && selector.test(node)) {
+                current = rewrite.apply(node, current);
+                found = true;
+            }
+            copies.put(node, current);
+            return current;
+        }
+
+        private Object copyFields(Object node) {
+            Object current = node;
+            for (Field field : ModelReflection.children(node.getClass())) {
+                Object value = ModelReflection.get(field, node);
+                Object copy = copy(value);
+                if (copy != value) {
+                    if (current == node) {
+                        current = ModelReflection.shallowCopy(node);
+                    }
+                    ModelReflection.set(field, current, copy);
+                }
+            }
+            return current;
+        }
+
+        @SuppressWarnings("unchecked")
+        private Object copyElements(List<?> list, Object current) {
+            List<Object> copy = current != list ? (List<Object>) current : null;
+            for (int i = 0; i < list.size(); i++) {
+                Object value = list.get(i);
+                Object element = copy(value);
+                if (element != value) {
+                    if (copy == null) {
+                        copy = ModelReflection.isModel(list)
+                                ? ModelReflection.shallowCopy((List<Object>) list)
+                                : ModelReflection.copyList(list);
+                    }
+                    copy.set(i, element);
+                }
+            }
+            return copy != null ? copy : list;
+        }
+
+        private Object copyValues(Map<?, ?> map) {
+            Map<Object, Object> copy = null;
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                Object value = entry.getValue();
+                Object element = copy(value);
+                if (element != value) {
+                    if (copy == null) {
+                        copy = ModelReflection.copyMap(map);
+                    }
+                    copy.put(entry.getKey(), element);
+                }
+            }
+            return copy != null ? copy : map;
+        }
+
+        private Object copyArray(Object[] array) {
+            Object[] copy = null;
+            for (int i = 0; i < array.length; i++) {
+                Object element = copy(array[i]);
+                if (element != array[i]) {
+                    if (copy == null) {
+                        copy = array.clone();
+                    }
+                    copy[i] = element;
+                }
+            }
+            return copy != null ? copy : array;
+        }
+    }
+}
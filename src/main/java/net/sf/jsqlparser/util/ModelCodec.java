@@ -0,0 +1,720 @@
+/*-
+ * #%L
+ * JSQLParser library
+ * %%
+ * Copyright (C) 2004 - 2025 JSQLParser
+ * %%
+ * Dual licensed under GNU LGPL 2.1 or Apache License 2.0
+ * #L%
+ */
+package net.sf.jsqlparser.util;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import net.sf.jsqlparser.statement.Statement;
+import net.sf.jsqlparser.statement.Statements;
+
+/**
+ * A compact, versioned binary encoding of parsed statements, which can be stored or sent to other
+ * services and decoded without parsing the statements again.
+ * <p>
+ * The encoding starts with a header of all the identifiers and other strings and of all the
+ * classes with the names of their fields, followed by the statements, which refer to them by
+ * varint encoded indexes. Objects referenced more than once are encoded only once. Since the
+ * fields are matched by name, fields added or removed by another version of JSqlParser are
+ * skipped or keep their defaults. Like the serialization, the encoding skips the transient state,
+ * e.g. the AST {@link net.sf.jsqlparser.parser.Node}s.
+ * <p>
+ * Only the classes of the expression, schema and statement packages are encoded and decoded
+ * field by field, besides strings, numbers, dates and the collections of the JDK. The decoder
+ * rejects any other class by its name before loading it, creates the instances of the model by
+ * their no-argument constructors or factories only, see {@link ModelReflection}, and checks every
+ * index, length, element type and the nesting depth, so a malformed buffer fails with an
+ * {@link IllegalArgumentException}.
+ * <p>
+ * Each statement is encoded independently, so {@link #open(ByteBuffer)} decodes the header only
+ * and every statement on demand.
+ *
+ * <pre>{@code
+ * ByteBuffer buffer = ModelCodec.encode(CCJSqlParserUtil.parseStatements(sqlScript));
+ * ModelCodec.Decoded decoded = ModelCodec.open(buffer);
+ * Statement third = decoded.get(2);
+ * }</pre>
+ */
+public final class ModelCodec {
+
+    public static final int VERSION = 1;
+
+    private static final int MAGIC = 0x4A535142; // "JSQB"
+
+    /**
+     * The maximum nesting of the encoded values, which keeps the recursive encoder and decoder
+     * well within the stack.
+     */
+    public static final int MAX_DEPTH = 2048;
+
+    // the packages of the classes encoded field by field
+    private static final List<String> PACKAGES = List.of("net.sf.jsqlparser.expression.",
+            "net.sf.jsqlparser.schema.", "net.sf.jsqlparser.statement.");
+
+    private static final int NULL = 0;
+    private static final int REFERENCE = 1;
+    private static final int OBJECT = 2;
+    private static final int STRING = 3;
+    private static final int TRUE = 4;
+    private static final int FALSE = 5;
+    private static final int INTEGER = 6;
+    private static final int LONG = 7;
+    private static final int DOUBLE = 8;
+    private static final int FLOAT = 9;
+    private static final int CHARACTER = 10;
+    private static final int ENUM = 11;
+    private static final int LIST = 12;
+    private static final int SET = 13;
+    private static final int MAP = 14;
+    private static final int ENTRY = 15;
+    private static final int ARRAY = 16;
+    private static final int DATE = 17;
+    private static final int TIME = 18;
+    private static final int TIMESTAMP = 19;
+
+    private ModelCodec() {}
+
+    /**
+     * @param statement the statement
+     * @return the encoded statement, ready to be read
+     * @throws IllegalArgumentException when the statement holds values, which can't be encoded
+     */
+    public static ByteBuffer encode(Statement statement) {
+        return encode(Collections.singletonList(statement));
+    }
+
+    /**
+     * @param statements the statements, e.g. {@link Statements}
+     * @return the encoded statements, ready to be read
+     * @throws IllegalArgumentException when a statement holds values, which can't be encoded
+     */
+    public static ByteBuffer encode(Collection<? extends Statement> statements) {
+        Encoder encoder = new Encoder();
+        List<Output> bodies = new ArrayList<>(statements.size());
+        for (Statement statement : statements) {
+            bodies.add(encoder.encodeStatement(statement));
+        }
+
+        Output output = new Output();
+        output.writeInt(MAGIC);
+        output.writeVarInt(VERSION);
+        output.writeVarInt(encoder.strings.size());
+        for (String string : encoder.strings.keySet()) {
+            byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+            output.writeVarInt(bytes.length);
+            output.write(bytes, 0, bytes.length);
+        }
+        output.writeVarInt(encoder.classes.size());
+        for (Class<?> type : encoder.classes.keySet()) {
+            output.writeVarInt(encoder.strings.get(type.getName()));
+            Field[] fields = fieldsOf(type);
+            output.writeVarInt(fields.length);
+            for (Field field : fields) {
+                output.writeVarInt(encoder.strings.get(field.getName()));
+            }
+        }
+        output.writeVarInt(bodies.size());
+        for (Output body : bodies) {
+            output.writeVarInt(body.size);
+        }
+        for (Output body : bodies) {
+            output.write(body.bytes, 0, body.size);
+        }
+        return ByteBuffer.wrap(output.bytes, 0, output.size);
+    }
+
+    /**
+     * @param buffer the encoded statements
+     * @return the first encoded statement
+     * @throws IllegalArgumentException when the buffer does not hold encoded statements
+     */
+    public static Statement decode(ByteBuffer buffer) {
+        Decoded decoded = open(buffer);
+        return decoded.size() > 0 ? decoded.get(0) : null;
+    }
+
+    /**
+     * Decodes the header of the encoded statements, while the statements themselves are decoded
+     * on demand.
+     *
+     * @param buffer the encoded statements, which must not be modified afterwards
+     * @return the encoded statements
+     * @throws IllegalArgumentException when the buffer does not hold encoded statements of a
+     *         supported version
+     */
+    public static Decoded open(ByteBuffer buffer) {
+        return new Decoded(buffer.duplicate());
+    }
+
+    private static Field[] fieldsOf(Class<?> type) {
+        return isModelClass(type.getName()) ? ModelReflection.fields(type) : new Field[0];
+    }
+
+    private static boolean isModelClass(String name) {
+        for (String prefix : PACKAGES) {
+            if (name.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @param name the name of a class of the header
+     * @return <code>true</code> for the classes of the model and the component types of arrays,
+     *         which the encoding supports
+     */
+    private static boolean isEncodable(String name) {
+        return isModelClass(name) || name.equals(String.class.getName())
+                || name.equals(Object.class.getName());
+    }
+
+    /**
+     * The encoded statements with their decoded header.
+     */
+    public static final class Decoded {
+        private final ByteBuffer buffer;
+        private final String[] strings;
+        private final ClassDescriptor[] classes;
+        private final int[] offsets;
+
+        private Decoded(ByteBuffer buffer) {
+            this.buffer = buffer;
+            try {
+                if (buffer.remaining() < 4 || buffer.getInt() != MAGIC) {
+                    throw new IllegalArgumentException("The buffer holds no encoded statements.");
+                }
+                int version = readVarInt(buffer);
+                if (version < 1 || version > VERSION) {
+                    throw new IllegalArgumentException(
+                            "The encoding version " + version + " is not supported.");
+                }
+
+                strings = new String[readLength(buffer, 1)];
+                for (int i = 0; i < strings.length; i++) {
+                    byte[] bytes = new byte[readLength(buffer, 1)];
+                    buffer.get(bytes);
+                    strings[i] = new String(bytes, StandardCharsets.UTF_8);
+                }
+                classes = new ClassDescriptor[readLength(buffer, 2)];
+                for (int i = 0; i < classes.length; i++) {
+                    String name = strings[readIndex(buffer, strings.length)];
+                    String[] fieldNames = new String[readLength(buffer, 1)];
+                    for (int j = 0; j < fieldNames.length; j++) {
+                        fieldNames[j] = strings[readIndex(buffer, strings.length)];
+                    }
+                    classes[i] = new ClassDescriptor(name, fieldNames);
+                }
+
+                offsets = new int[readLength(buffer, 1) + 1];
+                offsets[0] = 0;
+                for (int i = 1; i < offsets.length; i++) {
+                    int length = readLength(buffer, 1);
+                    if (length > buffer.remaining() - offsets[i - 1]) {
+                        throw new IllegalArgumentException("The buffer is truncated.");
+                    }
+                    offsets[i] = offsets[i - 1] + length;
+                }
+            } catch (BufferUnderflowException ex) {
+                throw new IllegalArgumentException("The buffer is truncated.", ex);
+            }
+            int start = buffer.position();
+            if (offsets[offsets.length - 1] > buffer.remaining()) {
+                throw new IllegalArgumentException("The buffer is truncated.");
+            }
+            for (int i = 0; i < offsets.length; i++) {
+                offsets[i] += start;
+            }
+        }
+
+        /**
+         * @return the number of encoded statements
+         */
+        public int size() {
+            return offsets.length - 1;
+        }
+
+        /**
+         * Decodes a statement, every call returns a new copy.
+         *
+         * @param index the index of the statement
+         * @return the decoded statement
+         * @throws IllegalArgumentException when the encoded statement is malformed
+         */
+        public Statement get(int index) {
+            if (index < 0 || index >= size()) {
+                throw new IndexOutOfBoundsException(
+                        "Index " + index + " out of bounds for " + size() + " statements");
+            }
+            ByteBuffer body = buffer.duplicate();
+            body.limit(offsets[index + 1]);
+            body.position(offsets[index]);
+            Object statement;
+            try {
+                statement = new Decoder(body).read();
+            } catch (BufferUnderflowException ex) {
+                throw new IllegalArgumentException("The statement " + index + " is truncated.",
+                        ex);
+            }
+            if (!(statement instanceof Statement) || body.hasRemaining()) {
+                throw new IllegalArgumentException("The statement " + index + " is malformed.");
+            }
+            return (Statement) statement;
+        }
+
+        /**
+         * @return all decoded statements
+         */
+        public Statements getAll() {
+            Statements statements = new Statements();
+            for (int i = 0; i < size(); i++) {
+                statements.add(get(i));
+            }
+            return statements;
+        }
+
+        private final class Decoder {
+            private final ByteBuffer body;
+            private final List<Object> objects = new ArrayList<>();
+            private int depth = 0;
+
+            private Decoder(ByteBuffer body) {
+                this.body = body;
+            }
+
+            private Object read() {
+                if (++depth > MAX_DEPTH) {
+                    throw new IllegalArgumentException(
+                            "The nesting exceeds " + MAX_DEPTH + " at " + body.position());
+                }
+                Object value = readValue();
+                depth--;
+                return value;
+            }
+
+            @SuppressWarnings({"unchecked", "PMD.CyclomaticComplexity"})
+            private Object readValue() {
+                int tag = readVarInt(body);
+                switch (tag) {
+                    case NULL:
+                        return null;
+                    case REFERENCE:
+                        return objects.get(readIndex(body, objects.size()));
+                    case OBJECT:
+                        return readObject(classes[readIndex(body, classes.length)]);
+                    case STRING:
+                        return strings[readIndex(body, strings.length)];
+                    case TRUE:
+                        return Boolean.TRUE;
+                    case FALSE:
+                        return Boolean.FALSE;
+                    case INTEGER:
+                        return (int) unzigzag(readVarLong(body));
+                    case LONG:
+                        return unzigzag(readVarLong(body));
+                    case DOUBLE:
+                        return body.getDouble();
+                    case FLOAT:
+                        return body.getFloat();
+                    case CHARACTER:
+                        return (char) readVarInt(body);
+                    case ENUM:
+                        return readEnum(classes[readIndex(body, classes.length)].type,
+                                strings[readIndex(body, strings.length)]);
+                    case LIST:
+                        return readElements(new ArrayList<>());
+                    case SET:
+                        return readElements(new LinkedHashSet<>());
+                    case MAP:
+                        Map<Object, Object> map = new LinkedHashMap<>();
+                        objects.add(map);
+                        for (int i = readLength(body, 2); i > 0; i--) {
+                            map.put(read(), read());
+                        }
+                        return map;
+                    case ENTRY:
+                        // the key is final, so the entry is registered after its content
+                        int index = objects.size();
+                        objects.add(null);
+                        Map.Entry<Object, Object> entry =
+                                new AbstractMap.SimpleEntry<>(read(), read());
+                        objects.set(index, entry);
+                        return entry;
+                    case ARRAY:
+                        Class<?> componentType = classes[readIndex(body, classes.length)].type;
+                        Object[] array = (Object[]) Array.newInstance(componentType,
+                                readLength(body, 1));
+                        objects.add(array);
+                        for (int i = 0; i < array.length; i++) {
+                            Object element = read();
+                            if (element != null && !componentType.isInstance(element)) {
+                                throw new IllegalArgumentException("Can't store "
+                                        + element.getClass() + " in an array of " + componentType);
+                            }
+                            array[i] = element;
+                        }
+                        return array;
+                    case DATE:
+                        return new Date(body.getLong());
+                    case TIME:
+                        return new Time(body.getLong());
+                    case TIMESTAMP:
+                        Timestamp timestamp = new Timestamp(body.getLong());
+                        timestamp.setNanos(readVarInt(body));
+                        return timestamp;
+                    default:
+                        throw new IllegalArgumentException("Unknown tag " + tag + " at "
+                                + (body.position() - 1));
+                }
+            }
+
+            @SuppressWarnings({"unchecked", "rawtypes"})
+            private Object readEnum(Class<?> type, String name) {
+                if (!type.isEnum()) {
+                    throw new IllegalArgumentException("No enum " + type);
+                }
+                return Enum.valueOf((Class) type, name);
+            }
+
+            @SuppressWarnings("unchecked")
+            private Object readObject(ClassDescriptor descriptor) {
+                if (!descriptor.instantiable) {
+                    throw new IllegalArgumentException("Can't create " + descriptor.type);
+                }
+                Object node = ModelReflection.newInstance(descriptor.type);
+                objects.add(node);
+                for (Field field : descriptor.fields) {
+                    Object value = read();
+                    if (field != null) {
+                        ModelReflection.set(field, node, value);
+                    }
+                }
+                if (node instanceof Collection) {
+                    Collection<Object> elements = (Collection<Object>) node;
+                    elements.clear();
+                    for (int i = readLength(body, 1); i > 0; i--) {
+                        elements.add(read());
+                    }
+                }
+                return node;
+            }
+
+            private Collection<Object> readElements(Collection<Object> elements) {
+                objects.add(elements);
+                for (int i = readLength(body, 1); i > 0; i--) {
+                    elements.add(read());
+                }
+                return elements;
+            }
+        }
+    }
+
+    /**
+     * A class of the header with its fields in the encoded order.
+     */
+    private static final class ClassDescriptor {
+        private final Class<?> type;
+
+        // whether the model has a no-argument constructor or a factory for the class
+        private final boolean instantiable;
+
+        // null for the fields unknown to this version
+        private final Field[] fields;
+
+        private ClassDescriptor(String name, String[] fieldNames) {
+            // checked by name, so no other class is even loaded
+            if (!isEncodable(name)) {
+                throw new IllegalArgumentException("Unsupported class " + name);
+            }
+            try {
+                type = Class.forName(name, false, ModelCodec.class.getClassLoader());
+            } catch (ClassNotFoundException ex) {
+                throw new IllegalArgumentException("Unknown class " + name, ex);
+            }
+            instantiable = isModelClass(name) && ModelReflection.isInstantiable(type);
+            Map<String, Field> byName = new HashMap<>();
+            for (Field field : fieldsOf(type)) {
+                byName.putIfAbsent(field.getName(), field);
+            }
+            fields = new Field[fieldNames.length];
+            for (int i = 0; i < fieldNames.length; i++) {
+                fields[i] = byName.get(fieldNames[i]);
+            }
+        }
+    }
+
+    private static final class Encoder {
+        private final Map<String, Integer> strings = new LinkedHashMap<>();
+        private final Map<Class<?>, Integer> classes = new LinkedHashMap<>();
+
+        // the objects of the current statement by identity, to encode references to them
+        private Map<Object, Integer> objects;
+        private Output output;
+        private int depth;
+
+        private Output encodeStatement(Statement statement) {
+            objects = new IdentityHashMap<>();
+            output = new Output();
+            depth = 0;
+            write(statement);
+            return output;
+        }
+
+        private int string(String string) {
+            Integer index = strings.get(string);
+            if (index == null) {
+                index = strings.size();
+                strings.put(string, index);
+            }
+            return index;
+        }
+
+        private int type(Class<?> type) {
+            Integer index = classes.get(type);
+            if (index == null) {
+                if (!isEncodable(type.getName())) {
+                    throw new IllegalArgumentException("Can't encode " + type);
+                }
+                string(type.getName());
+                for (Field field : fieldsOf(type)) {
+                    string(field.getName());
+                }
+                index = classes.size();
+                classes.put(type, index);
+            }
+            return index;
+        }
+
+        private boolean reference(Object value) {
+            Integer index = objects.get(value);
+            if (index != null) {
+                output.writeVarInt(REFERENCE);
+                output.writeVarInt(index);
+                return true;
+            }
+            objects.put(value, objects.size());
+            return false;
+        }
+
+        private void write(Object value) {
+            if (++depth > MAX_DEPTH) {
+                throw new IllegalArgumentException(
+                        "The nesting exceeds " + MAX_DEPTH + ", so it can't be decoded");
+            }
+            writeValue(value);
+            depth--;
+        }
+
+        @SuppressWarnings({"PMD.CyclomaticComplexity", "PMD.CognitiveComplexity"})
+        private void writeValue(Object value) {
+            if (value == null) {
+                output.writeVarInt(NULL);
+            } else if (value instanceof String) {
+                output.writeVarInt(STRING);
+                output.writeVarInt(string((String) value));
+            } else if (value instanceof Boolean) {
+                output.writeVarInt((Boolean) value ? TRUE : FALSE);
+            } else if (value instanceof Integer) {
+                output.writeVarInt(INTEGER);
+                output.writeVarLong(zigzag((Integer) value));
+            } else if (value instanceof Long) {
+                output.writeVarInt(LONG);
+                output.writeVarLong(zigzag((Long) value));
+            } else if (value instanceof Double) {
+                output.writeVarInt(DOUBLE);
+                output.writeLong(Double.doubleToRawLongBits((Double) value));
+            } else if (value instanceof Float) {
+                output.writeVarInt(FLOAT);
+                output.writeInt(Float.floatToRawIntBits((Float) value));
+            } else if (value instanceof Character) {
+                output.writeVarInt(CHARACTER);
+                output.writeVarInt((Character) value);
+            } else if (value instanceof Enum) {
+                output.writeVarInt(ENUM);
+                output.writeVarInt(type(((Enum<?>) value).getDeclaringClass()));
+                output.writeVarInt(string(((Enum<?>) value).name()));
+            } else if (value instanceof Timestamp) {
+                output.writeVarInt(TIMESTAMP);
+                output.writeLong(((Timestamp) value).getTime());
+                output.writeVarInt(((Timestamp) value).getNanos());
+            } else if (value instanceof Date || value instanceof Time) {
+                output.writeVarInt(value instanceof Date ? DATE : TIME);
+                output.writeLong(((java.util.Date) value).getTime());
+            } else if (reference(value)) {
+                return;
+            } else if (ModelReflection.isModel(value)) {
+                if (!isModelClass(value.getClass().getName())
+                        || !ModelReflection.isInstantiable(value.getClass())) {
+                    throw new IllegalArgumentException("Can't create " + value.getClass());
+                }
+                output.writeVarInt(OBJECT);
+                output.writeVarInt(type(value.getClass()));
+                for (Field field : ModelReflection.fields(value.getClass())) {
+                    write(ModelReflection.get(field, value));
+                }
+                if (value instanceof Collection) {
+                    writeElements((Collection<?>) value);
+                }
+            } else if (value instanceof List) {
+                output.writeVarInt(LIST);
+                writeElements((List<?>) value);
+            } else if (value instanceof Set) {
+                output.writeVarInt(SET);
+                writeElements((Set<?>) value);
+            } else if (value instanceof Map) {
+                output.writeVarInt(MAP);
+                output.writeVarInt(((Map<?, ?>) value).size());
+                for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                    write(entry.getKey());
+                    write(entry.getValue());
+                }
+            } else if (value instanceof Map.Entry) {
+                output.writeVarInt(ENTRY);
+                write(((Map.Entry<?, ?>) value).getKey());
+                write(((Map.Entry<?, ?>) value).getValue());
+            } else if (value instanceof Object[]) {
+                Object[] array = (Object[]) value;
+                output.writeVarInt(ARRAY);
+                output.writeVarInt(type(array.getClass().getComponentType()));
+                output.writeVarInt(array.length);
+                for (Object element : array) {
+                    write(element);
+                }
+            } else {
+                throw new IllegalArgumentException("Can't encode " + value.getClass());
+            }
+        }
+
+        private void writeElements(Collection<?> elements) {
+            output.writeVarInt(elements.size());
+            for (Object element : elements) {
+                write(element);
+            }
+        }
+    }
+
+    /**
+     * A growing byte array, which avoids the synchronization of a
+     * {@link java.io.ByteArrayOutputStream}.
+     */
+    private static final class Output {
+        private byte[] bytes = new byte[256];
+        private int size = 0;
+
+        private void ensureCapacity(int additional) {
+            if (size + additional > bytes.length) {
+                byte[] grown = new byte[Math.max(bytes.length * 2, size + additional)];
+                System.arraycopy(bytes, 0, grown, 0, size);
+                bytes = grown;
+            }
+        }
+
+        private void write(byte[] source, int offset, int length) {
+            ensureCapacity(length);
+            System.arraycopy(source, offset, bytes, size, length);
+            size += length;
+        }
+
+        private void writeVarInt(int value) {
+            writeVarLong(value & 0xFFFFFFFFL);
+        }
+
+        private void writeVarLong(long value) {
+            ensureCapacity(10);
+            while ((value & ~0x7FL) != 0) {
+                bytes[size++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            bytes[size++] = (byte) value;
+        }
+
+        private void writeInt(int value) {
+            ensureCapacity(4);
+            bytes[size++] = (byte) (value >>> 24);
+            bytes[size++] = (byte) (value >>> 16);
+            bytes[size++] = (byte) (value >>> 8);
+            bytes[size++] = (byte) value;
+        }
+
+        private void writeLong(long value) {
+            writeInt((int) (value >>> 32));
+            writeInt((int) value);
+        }
+    }
+
+    private static long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unzigzag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    /**
+     * @param buffer the buffer
+     * @param minimumBytes the number of bytes, which each of the counted items takes at least
+     * @return a length or count, which fits into the rest of the buffer
+     */
+    private static int readLength(ByteBuffer buffer, int minimumBytes) {
+        int length = readVarInt(buffer);
+        if (length < 0 || length > buffer.remaining() / minimumBytes) {
+            throw new IllegalArgumentException(
+                    "Malformed length " + length + " at " + buffer.position());
+        }
+        return length;
+    }
+
+    /**
+     * @param buffer the buffer
+     * @param size the size of the table
+     * @return an index into the table
+     */
+    private static int readIndex(ByteBuffer buffer, int size) {
+        int index = readVarInt(buffer);
+        if (index < 0 || index >= size) {
+            throw new IllegalArgumentException(
+                    "Malformed index " + index + " at " + buffer.position());
+        }
+        return index;
+    }
+
+    private static int readVarInt(ByteBuffer buffer) {
+        return (int) readVarLong(buffer);
+    }
+
+    private static long readVarLong(ByteBuffer buffer) {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = buffer.get();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Malformed varint at " + buffer.position());
+    }
+}
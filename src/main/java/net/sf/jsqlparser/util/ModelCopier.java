@@ -0,0 +1,172 @@
+/*-
+ * #%L
+ * JSQLParser library
+ * %%
+ * Copyright (C) 2004 - 2025 JSQLParser
+ * %%
+ * Dual licensed under GNU LGPL 2.1 or Apache License 2.0
+ * #L%
+ */
+package net.sf.jsqlparser.util;
+
+import java.lang.reflect.Field;
+import java.util.AbstractMap;
+import java.util.Collection;
+import java.util.Date;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import net.sf.jsqlparser.expression.BooleanValue;
+import net.sf.jsqlparser.expression.DateValue;
+import net.sf.jsqlparser.expression.DoubleValue;
+import net.sf.jsqlparser.expression.HexValue;
+import net.sf.jsqlparser.expression.LongValue;
+import net.sf.jsqlparser.expression.NullValue;
+import net.sf.jsqlparser.expression.StringValue;
+import net.sf.jsqlparser.expression.TimeValue;
+import net.sf.jsqlparser.expression.TimestampValue;
+import net.sf.jsqlparser.statement.Statement;
+
+/**
+ * Makes deep copies of any {@link Statement}, {@link net.sf.jsqlparser.expression.Expression} or
+ * other object of the model, without deparsing and parsing it again.
+ * <p>
+ * All non transient fields are copied reflectively, so the copy keeps e.g. the indexes of
+ * {@link net.sf.jsqlparser.expression.JdbcParameter}s and all aliases, while it is not linked to
+ * the AST {@link net.sf.jsqlparser.parser.Node}s of the parser. Objects referenced more than once
+ * are copied only once, so the copy has the same shape as the original.
+ *
+ * <pre>{@code
+ * Statement copy = ModelCopier.deepCopy(statement);
+ * Expression where = new ModelCopier().withSharedLiterals(true).copy(select.getWhere());
+ * }</pre>
+ */
+public class ModelCopier {
+
+    private static final Set<Class<?>> LITERALS = Set.of(BooleanValue.class, DateValue.class,
+            DoubleValue.class, HexValue.class, LongValue.class, NullValue.class,
+            StringValue.class, TimeValue.class, TimestampValue.class);
+
+    private boolean sharedLiterals = false;
+
+    /**
+     * @param node the object to copy
+     * @param <T> the type of the object
+     * @return a deep copy of the object
+     */
+    public static <T> T deepCopy(T node) {
+        return new ModelCopier().copy(node);
+    }
+
+    /**
+     * @param sharedLiterals when <code>true</code>, the literal values (e.g. {@link LongValue} or
+     *        {@link StringValue}) are not copied but shared with the original, which saves
+     *        allocations as long as neither of them gets modified
+     * @return this copier
+     */
+    public ModelCopier withSharedLiterals(boolean sharedLiterals) {
+        this.sharedLiterals = sharedLiterals;
+        return this;
+    }
+
+    public boolean isSharedLiterals() {
+        return sharedLiterals;
+    }
+
+    /**
+     * @param node the object to copy
+     * @param <T> the type of the object
+     * @return a deep copy of the object
+     * @throws IllegalStateException when no instance of a class of the model can be created
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T copy(T node) {
+        return (T) new Copy().copy(node);
+    }
+
+    /**
+     * The state of a single copy, mapping the original objects to their copies.
+     */
+    private final class Copy {
+        private final Map<Object, Object> copies = new IdentityHashMap<>();
+
+        private Object copy(Object value) {
+            if (value == null) {
+                return null;
+            }
+            Object copy = copies.get(value);
+            if (copy != null) {
+                return copy;
+            }
+
+            if (ModelReflection.isModel(value)) {
+                copy = copyModel(value);
+            } else if (value instanceof List) {
+                copy = copyElements((List<?>) value, ModelReflection.newList((List<?>) value));
+            } else if (value instanceof Set) {
+                copy = copyElements((Set<?>) value, ModelReflection.newSet((Set<?>) value));
+            } else if (value instanceof Map) {
+                copy = copyEntries((Map<?, ?>) value);
+            } else if (value instanceof Map.Entry) {
+                Map.Entry<?, ?> entry = (Map.Entry<?, ?>) value;
+                copy = new AbstractMap.SimpleEntry<>(copy(entry.getKey()),
+                        copy(entry.getValue()));
+            } else if (value instanceof Object[]) {
+                Object[] array = ((Object[]) value).clone();
+                copies.put(value, array);
+                for (int i = 0; i < array.length; i++) {
+                    array[i] = copy(array[i]);
+                }
+                copy = array;
+            } else if (value instanceof Date) {
+                // the java.sql.Date, Time and Timestamp of the literals are mutable
+                copy = ((Date) value).clone();
+            } else {
+                // Strings, numbers, enums and the like are immutable
+                return value;
+            }
+            copies.put(value, copy);
+            return copy;
+        }
+
+        @SuppressWarnings("unchecked")
+        private Object copyModel(Object node) {
+            if (sharedLiterals && LITERALS.contains(node.getClass())) {
+                return node;
+            }
+            Object copy = ModelReflection.newInstance(node.getClass());
+            // registered before the fields are copied, so cycles end here
+            copies.put(node, copy);
+            for (Field field : ModelReflection.fields(node.getClass())) {
+                ModelReflection.set(field, copy, copy(ModelReflection.get(field, node)));
+            }
+            if (node instanceof Collection) {
+                Collection<Object> elements = (Collection<Object>) copy;
+                elements.clear();
+                for (Object element : (Collection<?>) node) {
+                    elements.add(copy(element));
+                }
+            }
+            return copy;
+        }
+
+        private Object copyElements(Collection<?> collection, Collection<Object> copy) {
+            copies.put(collection, copy);
+            for (Object element : collection) {
+                copy.add(copy(element));
+            }
+            return copy;
+        }
+
+        private Object copyEntries(Map<?, ?> map) {
+            Map<Object, Object> copy = ModelReflection.newMap(map);
+            copies.put(map, copy);
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                copy.put(copy(entry.getKey()), copy(entry.getValue()));
+            }
+            return copy;
+        }
+    }
+}
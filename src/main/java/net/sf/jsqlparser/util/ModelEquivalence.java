@@ -0,0 +1,306 @@
+/*-
+ * #%L
+ * JSQLParser library
+ * %%
+ * Copyright (C) 2004 - 2025 JSQLParser
+ * %%
+ * Dual licensed under GNU LGPL 2.1 or Apache License 2.0
+ * #L%
+ */
+package net.sf.jsqlparser.util;
+
+import java.lang.reflect.Field;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Structural equality and hash codes for any {@link net.sf.jsqlparser.statement.Statement},
+ * {@link net.sf.jsqlparser.expression.Expression} or other object of the model, so two
+ * independently parsed statements can be compared without deparsing them.
+ * <p>
+ * Two objects are equivalent, when they are of the same class and all their non transient fields
+ * are equivalent, ignoring e.g. the AST {@link net.sf.jsqlparser.parser.Node}s and so the
+ * whitespace and comments of the parsed text. The hash codes are computed bottom-up and don't
+ * depend on the identity of any object, so they are stable across parser runs.
+ * <p>
+ * Since the model is mutable, the objects don't override {@link Object#equals(Object)} and
+ * {@link Object#hashCode()} themselves. Instead, a {@link Key} caches the hash code of an object,
+ * which must not be modified while it is used as a key, and {@link #hashes(Object)} computes the
+ * hash codes of all nested objects in a single pass, e.g. for finding common subexpressions.
+ *
+ * <pre>{@code
+ * Map<ModelEquivalence.Key<Expression>, Integer> counts = new HashMap<>();
+ * counts.merge(ModelEquivalence.key(expression), 1, Integer::sum);
+ * }</pre>
+ */
+public final class ModelEquivalence {
+
+    private ModelEquivalence() {}
+
+    /**
+     * @param node any object of the model
+     * @return the structural hash code
+     */
+    public static int hash(Object node) {
+        return new Hasher(null).hash(node);
+    }
+
+    /**
+     * Computes the structural hash codes of the given object and all the objects nested in it.
+     *
+     * @param root any object of the model
+     * @return the hash codes by object identity
+     */
+    public static Map<Object, Integer> hashes(Object root) {
+        Map<Object, Integer> hashes = new IdentityHashMap<>();
+        new Hasher(hashes).hash(root);
+        return hashes;
+    }
+
+    /**
+     * @param a any object of the model
+     * @param b any object of the model
+     * @return <code>true</code>, when both objects are structurally equal
+     */
+    public static boolean equals(Object a, Object b) {
+        return new Comparison().equal(a, b);
+    }
+
+    /**
+     * @param node any object of the model, which must not be modified while the key is used
+     * @param <T> the type of the object
+     * @return a key comparing the object structurally
+     */
+    public static <T> Key<T> key(T node) {
+        return new Key<>(node);
+    }
+
+    /**
+     * Wraps an object of the model for comparing it structurally, e.g. as the key of a map. The
+     * hash code is computed only once.
+     *
+     * @param <T> the type of the object
+     */
+    public static final class Key<T> {
+        private final T node;
+        private final int hash;
+
+        private Key(T node) {
+            this.node = node;
+            this.hash = hash(node);
+        }
+
+        public T get() {
+            return node;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key<?> that = (Key<?>) o;
+            return hash == that.hash && ModelEquivalence.equals(node, that.node);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public String toString() {
+            return String.valueOf(node);
+        }
+    }
+
+    private static final class Hasher {
+        private final Map<Object, Integer> hashes;
+
+        // the objects being hashed, which are hashed as 0 when they are reached again
+        private final Map<Object, Boolean> pending = new IdentityHashMap<>();
+
+        private Hasher(Map<Object, Integer> hashes) {
+            this.hashes = hashes;
+        }
+
+        private int hash(Object value) {
+            if (value == null) {
+                return 0;
+            } else if (value instanceof Enum) {
+                return 31 * value.getClass().getName().hashCode()
+                        + ((Enum<?>) value).name().hashCode();
+            } else if (!ModelReflection.isModel(value) && !(value instanceof Collection)
+                    && !(value instanceof Map) && !(value instanceof Map.Entry)
+                    && !(value instanceof Object[])) {
+                return value.hashCode();
+            }
+            if (hashes != null && hashes.containsKey(value)) {
+                return hashes.get(value);
+            }
+            if (pending.put(value, Boolean.TRUE) != null) {
+                return 0;
+            }
+
+            int hash;
+            if (ModelReflection.isModel(value)) {
+                hash = value.getClass().getName().hashCode();
+                for (Field field : ModelReflection.fields(value.getClass())) {
+                    hash = 31 * hash + hash(ModelReflection.get(field, value));
+                }
+                if (value instanceof Collection) {
+                    hash = 31 * hash + hashElements((Collection<?>) value);
+                }
+            } else if (value instanceof Collection) {
+                hash = hashElements((Collection<?>) value);
+            } else if (value instanceof Map) {
+                hash = 0;
+                for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                    hash += hash(entry.getKey()) ^ hash(entry.getValue());
+                }
+            } else if (value instanceof Map.Entry) {
+                Map.Entry<?, ?> entry = (Map.Entry<?, ?>) value;
+                hash = hash(entry.getKey()) ^ hash(entry.getValue());
+            } else {
+                hash = 1;
+                for (Object element : (Object[]) value) {
+                    hash = 31 * hash + hash(element);
+                }
+            }
+
+            pending.remove(value);
+            if (hashes != null) {
+                hashes.put(value, hash);
+            }
+            return hash;
+        }
+
+        private int hashElements(Collection<?> collection) {
+            int hash = collection instanceof Set ? 0 : 1;
+            for (Object element : collection) {
+                hash = collection instanceof Set
+                        ? hash + hash(element)
+                        : 31 * hash + hash(element);
+            }
+            return hash;
+        }
+    }
+
+    private static final class Comparison {
+        // the pairs being compared, which are assumed to be equal when they are reached again
+        private final Map<Object, Object> pending = new IdentityHashMap<>();
+
+        @SuppressWarnings("PMD.CognitiveComplexity")
+        private boolean equal(Object a, Object b) {
+            if (a == b) {
+                return true;
+            }
+            if (a == null || b == null) {
+                return false;
+            }
+            boolean model = ModelReflection.isModel(a);
+            if (model || ModelReflection.isModel(b)) {
+                if (a.getClass() != b.getClass()) {
+                    return false;
+                }
+            } else if (!sameKind(a, b)) {
+                return false;
+            } else if (!(a instanceof Collection) && !(a instanceof Map)
+                    && !(a instanceof Map.Entry) && !(a instanceof Object[])) {
+                return a.equals(b);
+            }
+            if (pending.get(a) == b) {
+                return true;
+            }
+            pending.put(a, b);
+
+            boolean equal;
+            if (model) {
+                equal = equalFields(a, b)
+                        && (!(a instanceof Collection)
+                                || equalElements((Collection<?>) a, (Collection<?>) b));
+            } else if (a instanceof Collection) {
+                equal = equalElements((Collection<?>) a, (Collection<?>) b);
+            } else if (a instanceof Map) {
+                equal = equalEntries((Map<?, ?>) a, (Map<?, ?>) b);
+            } else if (a instanceof Map.Entry) {
+                equal = equal(((Map.Entry<?, ?>) a).getKey(), ((Map.Entry<?, ?>) b).getKey())
+                        && equal(((Map.Entry<?, ?>) a).getValue(),
+                                ((Map.Entry<?, ?>) b).getValue());
+            } else {
+                equal = equalElements(Arrays.asList((Object[]) a), Arrays.asList((Object[]) b));
+            }
+
+            pending.remove(a);
+            return equal;
+        }
+
+        /**
+         * Collections of the JDK are compared by their kind only, so e.g. an immutable singleton
+         * list equals an {@link java.util.ArrayList} with the same element.
+         */
+        private static boolean sameKind(Object a, Object b) {
+            if (a instanceof List || b instanceof List) {
+                return a instanceof List && b instanceof List;
+            } else if (a instanceof Set || b instanceof Set) {
+                return a instanceof Set && b instanceof Set;
+            } else if (a instanceof Map || b instanceof Map) {
+                return a instanceof Map && b instanceof Map;
+            } else if (a instanceof Map.Entry || b instanceof Map.Entry) {
+                return a instanceof Map.Entry && b instanceof Map.Entry;
+            }
+            return a.getClass() == b.getClass();
+        }
+
+        private boolean equalFields(Object a, Object b) {
+            for (Field field : ModelReflection.fields(a.getClass())) {
+                if (!equal(ModelReflection.get(field, a), ModelReflection.get(field, b))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private boolean equalElements(Collection<?> a, Collection<?> b) {
+            if (a.size() != b.size()) {
+                return false;
+            }
+            if (a instanceof Set) {
+                return containsAll(b, a);
+            }
+            Iterator<?> i = a.iterator();
+            Iterator<?> j = b.iterator();
+            while (i.hasNext()) {
+                if (!equal(i.next(), j.next())) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private boolean equalEntries(Map<?, ?> a, Map<?, ?> b) {
+            return a.size() == b.size() && containsAll(b.entrySet(), a.entrySet());
+        }
+
+        private boolean containsAll(Collection<?> container, Collection<?> elements) {
+            for (Object element : elements) {
+                boolean found = false;
+                for (Iterator<?> i = container.iterator(); !found && i.hasNext();) {
+                    found = equal(element, i.next());
+                }
+                if (!found) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,243 @@
+/*-
+ * #%L
+ * JSQLParser library
+ * %%
+ * Copyright (C) 2004 - 2025 JSQLParser
+ * %%
+ * Dual licensed under GNU LGPL 2.1 or Apache License 2.0
+ * #L%
+ */
+package net.sf.jsqlparser.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import net.sf.jsqlparser.expression.Alias;
+import net.sf.jsqlparser.expression.AnyComparisonExpression;
+import net.sf.jsqlparser.expression.ArrayConstructor;
+import net.sf.jsqlparser.expression.ConnectByPriorOperator;
+import net.sf.jsqlparser.expression.ConnectByRootOperator;
+import net.sf.jsqlparser.expression.Function;
+import net.sf.jsqlparser.expression.JsonFunctionExpression;
+import net.sf.jsqlparser.expression.JsonKeyValuePair;
+import net.sf.jsqlparser.expression.LambdaExpression;
+import net.sf.jsqlparser.expression.MySQLIndexHint;
+import net.sf.jsqlparser.expression.NextValExpression;
+import net.sf.jsqlparser.expression.NullValue;
+import net.sf.jsqlparser.expression.OracleNamedFunctionParameter;
+import net.sf.jsqlparser.expression.OverlapsCondition;
+import net.sf.jsqlparser.expression.PreferringClause;
+import net.sf.jsqlparser.expression.RangeExpression;
+import net.sf.jsqlparser.expression.RowGetExpression;
+import net.sf.jsqlparser.expression.StructType;
+import net.sf.jsqlparser.expression.operators.relational.ExpressionList;
+import net.sf.jsqlparser.expression.operators.relational.JsonOperator;
+import net.sf.jsqlparser.expression.operators.relational.MemberOfExpression;
+import net.sf.jsqlparser.expression.operators.relational.Plus;
+import net.sf.jsqlparser.expression.operators.relational.PriorTo;
+import net.sf.jsqlparser.expression.operators.relational.RegExpMatchOperator;
+import net.sf.jsqlparser.expression.operators.relational.RegExpMatchOperatorType;
+import net.sf.jsqlparser.schema.Column;
+import net.sf.jsqlparser.schema.Database;
+import net.sf.jsqlparser.schema.Sequence;
+import net.sf.jsqlparser.schema.Server;
+import net.sf.jsqlparser.schema.Table;
+import net.sf.jsqlparser.statement.CSVColumn;
+import net.sf.jsqlparser.statement.Commit;
+import net.sf.jsqlparser.statement.ConnectionFileDefinition;
+import net.sf.jsqlparser.statement.DBMSType;
+import net.sf.jsqlparser.statement.DeclareStatement;
+import net.sf.jsqlparser.statement.ExplainStatement;
+import net.sf.jsqlparser.statement.FBVColumn;
+import net.sf.jsqlparser.statement.FileOption;
+import net.sf.jsqlparser.statement.FileType;
+import net.sf.jsqlparser.statement.IfElseStatement;
+import net.sf.jsqlparser.statement.OutputClause;
+import net.sf.jsqlparser.statement.PurgeObjectType;
+import net.sf.jsqlparser.statement.PurgeStatement;
+import net.sf.jsqlparser.statement.ReturningClause;
+import net.sf.jsqlparser.statement.SavepointStatement;
+import net.sf.jsqlparser.statement.SessionStatement;
+import net.sf.jsqlparser.statement.UnsupportedStatement;
+import net.sf.jsqlparser.statement.alter.AlterExpression;
+import net.sf.jsqlparser.statement.alter.AlterSession;
+import net.sf.jsqlparser.statement.alter.AlterSystemOperation;
+import net.sf.jsqlparser.statement.alter.AlterSystemStatement;
+import net.sf.jsqlparser.statement.alter.RenameTableStatement;
+import net.sf.jsqlparser.statement.create.table.Index;
+import net.sf.jsqlparser.statement.create.table.PartitionDefinition;
+import net.sf.jsqlparser.statement.export.DBMSTableDestinationOption;
+import net.sf.jsqlparser.statement.insert.ConflictActionType;
+import net.sf.jsqlparser.statement.insert.InsertConflictAction;
+import net.sf.jsqlparser.statement.insert.InsertConflictTarget;
+import net.sf.jsqlparser.statement.piped.AggregatePipeOperator;
+import net.sf.jsqlparser.statement.piped.AsPipeOperator;
+import net.sf.jsqlparser.statement.piped.CallPipeOperator;
+import net.sf.jsqlparser.statement.piped.DropPipeOperator;
+import net.sf.jsqlparser.statement.piped.ExtendPipeOperator;
+import net.sf.jsqlparser.statement.piped.FromQuery;
+import net.sf.jsqlparser.statement.piped.JoinPipeOperator;
+import net.sf.jsqlparser.statement.piped.LimitPipeOperator;
+import net.sf.jsqlparser.statement.piped.OrderByPipeOperator;
+import net.sf.jsqlparser.statement.piped.PivotPipeOperator;
+import net.sf.jsqlparser.statement.piped.RenamePipeOperator;
+import net.sf.jsqlparser.statement.piped.SelectPipeOperator;
+import net.sf.jsqlparser.statement.piped.SetOperationPipeOperator;
+import net.sf.jsqlparser.statement.piped.SetPipeOperator;
+import net.sf.jsqlparser.statement.piped.TableSamplePipeOperator;
+import net.sf.jsqlparser.statement.piped.UnPivotPipeOperator;
+import net.sf.jsqlparser.statement.piped.WherePipeOperator;
+import net.sf.jsqlparser.statement.piped.WindowPipeOperator;
+import net.sf.jsqlparser.statement.select.AllTableColumns;
+import net.sf.jsqlparser.statement.select.FunctionAllColumns;
+import net.sf.jsqlparser.statement.select.JoinHint;
+import net.sf.jsqlparser.statement.select.LateralView;
+import net.sf.jsqlparser.statement.select.OptimizeFor;
+import net.sf.jsqlparser.statement.select.TableFunction;
+import net.sf.jsqlparser.util.cnfexpression.MultiAndExpression;
+import net.sf.jsqlparser.util.cnfexpression.MultiOrExpression;
+
+/**
+ * The factories of the model classes without a no-argument constructor. Each one calls a public
+ * constructor with the least constraining arguments, which the constructor is known to accept,
+ * since all the fields get overwritten anyway. A new model class without a no-argument
+ * constructor must be added here to be copied or decoded.
+ */
+final class ModelFactories {
+
+    private static final Map<Class<?>, Supplier<?>> FACTORIES = Map.ofEntries(
+            // expressions
+            factory(Alias.class, () -> new Alias(null)),
+            factory(Alias.AliasColumn.class, () -> new Alias.AliasColumn("")),
+            factory(AnyComparisonExpression.class, () -> new AnyComparisonExpression(null, null)),
+            factory(ArrayConstructor.class, ArrayConstructor::new),
+            factory(ConnectByPriorOperator.class, () -> new ConnectByPriorOperator(new Column())),
+            factory(ConnectByRootOperator.class, () -> new ConnectByRootOperator(new Column())),
+            factory(ExpressionList.class, ExpressionList::new),
+            factory(Function.HavingClause.class, () -> new Function.HavingClause(null, null)),
+            factory(JsonFunctionExpression.class,
+                    () -> new JsonFunctionExpression(new NullValue())),
+            factory(JsonKeyValuePair.class, () -> new JsonKeyValuePair("", null, false, false)),
+            factory(JsonOperator.class, () -> new JsonOperator(null)),
+            factory(LambdaExpression.class,
+                    () -> new LambdaExpression((List<String>) null, null)),
+            factory(MemberOfExpression.class, () -> new MemberOfExpression(null, null)),
+            factory(MultiAndExpression.class, () -> new MultiAndExpression(new ArrayList<>())),
+            factory(MultiOrExpression.class, () -> new MultiOrExpression(new ArrayList<>())),
+            factory(MySQLIndexHint.class, () -> new MySQLIndexHint(null, null, null)),
+            factory(NextValExpression.class, () -> new NextValExpression(null, "")),
+            factory(OracleNamedFunctionParameter.class,
+                    () -> new OracleNamedFunctionParameter("", new NullValue())),
+            factory(OverlapsCondition.class, () -> new OverlapsCondition(null, null)),
+            factory(Plus.class, () -> new Plus(null, null)),
+            factory(PreferringClause.class, () -> new PreferringClause(null)),
+            factory(PriorTo.class, () -> new PriorTo(null, null)),
+            factory(RangeExpression.class, () -> new RangeExpression(null, null)),
+            factory(RegExpMatchOperator.class,
+                    () -> new RegExpMatchOperator(RegExpMatchOperatorType.MATCH_CASESENSITIVE)),
+            factory(RowGetExpression.class, () -> new RowGetExpression(null, null)),
+            factory(StructType.class, () -> new StructType(null, null)),
+
+            // schema
+            factory(Database.class, () -> new Database((String) null)),
+            factory(Sequence.Parameter.class, () -> new Sequence.Parameter(null)),
+            factory(Server.class, () -> new Server((String) null)),
+
+            // statements
+            factory(AlterExpression.ColumnDataType.class,
+                    () -> new AlterExpression.ColumnDataType(false)),
+            factory(AlterExpression.ColumnDropDefault.class,
+                    () -> new AlterExpression.ColumnDropDefault(null)),
+            factory(AlterExpression.ColumnDropNotNull.class,
+                    () -> new AlterExpression.ColumnDropNotNull(null)),
+            factory(AlterExpression.ColumnSetDefault.class,
+                    () -> new AlterExpression.ColumnSetDefault(null, null)),
+            factory(AlterExpression.ColumnSetVisibility.class,
+                    () -> new AlterExpression.ColumnSetVisibility(null, false)),
+            factory(AlterSession.class, () -> new AlterSession(null, null)),
+            factory(AlterSystemStatement.class,
+                    () -> new AlterSystemStatement(AlterSystemOperation.CHECKPOINT,
+                            new ArrayList<>())),
+            factory(CSVColumn.class, () -> new CSVColumn((Long) null)),
+            factory(ConnectionFileDefinition.class,
+                    () -> new ConnectionFileDefinition(null, null)),
+            factory(DBMSTableDestinationOption.class,
+                    () -> new DBMSTableDestinationOption((String) null)),
+            factory(DBMSType.class, () -> new DBMSType("ORA")),
+            factory(DeclareStatement.TypeDefExpr.class,
+                    () -> new DeclareStatement.TypeDefExpr(null, null)),
+            factory(ExplainStatement.Option.class, () -> new ExplainStatement.Option(null)),
+            factory(FBVColumn.class, () -> new FBVColumn(null, (String) null)),
+            factory(FileOption.class, () -> new FileOption((String) null)),
+            factory(FileType.class, () -> new FileType("CSV")),
+            factory(IfElseStatement.class,
+                    () -> new IfElseStatement(new NullValue(), new Commit())),
+            factory(Index.ColumnParams.class, () -> new Index.ColumnParams(null)),
+            factory(InsertConflictAction.class,
+                    () -> new InsertConflictAction(ConflictActionType.DO_NOTHING)),
+            factory(InsertConflictTarget.class,
+                    () -> new InsertConflictTarget(List.<String>of(), null, null, null)),
+            factory(OutputClause.class,
+                    () -> new OutputClause(new ArrayList<>(), null, null, null)),
+            factory(PartitionDefinition.class,
+                    () -> new PartitionDefinition(null, null, null, null)),
+            factory(PurgeStatement.class, () -> new PurgeStatement(PurgeObjectType.TABLE)),
+            factory(RenameTableStatement.class,
+                    () -> new RenameTableStatement(new Table(), new Table())),
+            factory(ReturningClause.class,
+                    () -> new ReturningClause(ReturningClause.Keyword.RETURNING,
+                            new ArrayList<>())),
+            factory(SavepointStatement.class, () -> new SavepointStatement("")),
+            factory(SessionStatement.class,
+                    () -> new SessionStatement((SessionStatement.Action) null, null)),
+            factory(UnsupportedStatement.class,
+                    () -> new UnsupportedStatement(new ArrayList<>())),
+
+            // selects
+            factory(AllTableColumns.class, () -> new AllTableColumns((Table) null)),
+            factory(FunctionAllColumns.class, () -> new FunctionAllColumns(null)),
+            factory(JoinHint.class, () -> new JoinHint(null)),
+            factory(LateralView.class, () -> new LateralView(false, null, null, null)),
+            factory(OptimizeFor.class, () -> new OptimizeFor(0L)),
+            factory(TableFunction.class, () -> new TableFunction((Function) null)),
+
+            // pipe operators
+            factory(AggregatePipeOperator.class, () -> new AggregatePipeOperator(null, null)),
+            factory(AsPipeOperator.class, () -> new AsPipeOperator(null)),
+            factory(CallPipeOperator.class, () -> new CallPipeOperator(null, null)),
+            factory(DropPipeOperator.class, () -> new DropPipeOperator(null)),
+            factory(ExtendPipeOperator.class, () -> new ExtendPipeOperator(null)),
+            factory(FromQuery.class, () -> new FromQuery(null)),
+            factory(JoinPipeOperator.class, () -> new JoinPipeOperator(null)),
+            factory(LimitPipeOperator.class, () -> new LimitPipeOperator(null)),
+            factory(OrderByPipeOperator.class, () -> new OrderByPipeOperator(null)),
+            factory(PivotPipeOperator.class, () -> new PivotPipeOperator(null, null, null, null)),
+            factory(RenamePipeOperator.class, () -> new RenamePipeOperator(null)),
+            factory(SelectPipeOperator.class, () -> new SelectPipeOperator(null, null, null)),
+            factory(SetOperationPipeOperator.class,
+                    () -> new SetOperationPipeOperator(null, null, null)),
+            factory(SetPipeOperator.class, () -> new SetPipeOperator(null)),
+            factory(TableSamplePipeOperator.class, () -> new TableSamplePipeOperator(0d)),
+            factory(UnPivotPipeOperator.class,
+                    () -> new UnPivotPipeOperator(null, null, null, null)),
+            factory(WherePipeOperator.class, () -> new WherePipeOperator(null)),
+            factory(WindowPipeOperator.class, () -> new WindowPipeOperator(null)));
+
+    private ModelFactories() {}
+
+    private static <T> Map.Entry<Class<?>, Supplier<?>> factory(Class<T> type,
+            Supplier<? extends T> factory) {
+        return Map.entry(type, factory);
+    }
+
+    /**
+     * @param type a model class
+     * @return the factory of the class or <code>null</code>, when it has a no-argument
+     *         constructor or can't be created at all
+     */
+    static Supplier<?> get(Class<?> type) {
+        return FACTORIES.get(type);
+    }
+}
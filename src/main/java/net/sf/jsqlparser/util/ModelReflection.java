@@ -0,0 +1,296 @@
+/*-
+ * #%L
+ * JSQLParser library
+ * %%
+ * Copyright (C) 2004 - 2025 JSQLParser
+ * %%
+ * Dual licensed under GNU LGPL 2.1 or Apache License 2.0
+ * #L%
+ */
+package net.sf.jsqlparser.util;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.function.Supplier;
+
+/**
+ * Reflective access to the fields of the model classes, which copies them without knowing their
+ * types. Transient fields (e.g. the AST {@link net.sf.jsqlparser.parser.Node} of a parsed object)
+ * are skipped, just like by the serialization.
+ * <p>
+ * Besides the copier, the codec and the equivalence of this package, the walk is shared with the
+ * {@link net.sf.jsqlparser.parser.LiteralTemplateCache}, it is no API for general use.
+ * <p>
+ * New instances are created by the no-argument constructor or, when a class has none, by its
+ * explicit factory in {@link ModelFactories}. No other constructor is ever called.
+ */
+public final class ModelReflection {
+
+    private static final ClassValue<Field[]> FIELDS = new ClassValue<Field[]>() {
+        @Override
+        protected Field[] computeValue(Class<?> type) {
+            List<Field> fields = new ArrayList<>();
+            for (Class<?> c = type; c != null && c != Object.class; c = c.getSuperclass()) {
+                if (!isModelClass(c)) {
+                    // the state of inherited JDK classes, e.g. the elements of an ExpressionList
+                    continue;
+                }
+                for (Field field : c.getDeclaredFields()) {
+                    int modifiers = field.getModifiers();
+                    if (!Modifier.isStatic(modifiers) && !Modifier.isTransient(modifiers)) {
+                        field.setAccessible(true);
+                        fields.add(field);
+                    }
+                }
+            }
+            return fields.toArray(new Field[0]);
+        }
+    };
+
+    private static final ClassValue<Field[]> CHILDREN = new ClassValue<Field[]>() {
+        @Override
+        protected Field[] computeValue(Class<?> type) {
+            List<Field> children = new ArrayList<>();
+            for (Field field : FIELDS.get(type)) {
+                if (!field.getType().isPrimitive() && field.getType() != String.class) {
+                    children.add(field);
+                }
+            }
+            return children.toArray(new Field[0]);
+        }
+    };
+
+    private static final ClassValue<Optional<Supplier<?>>> INSTANTIATORS =
+            new ClassValue<Optional<Supplier<?>>>() {
+                @Override
+                protected Optional<Supplier<?>> computeValue(Class<?> type) {
+                    if (type.isInterface() || Modifier.isAbstract(type.getModifiers())) {
+                        return Optional.empty();
+                    }
+                    Supplier<?> factory = ModelFactories.get(type);
+                    if (factory != null) {
+                        return Optional.of(factory);
+                    }
+                    try {
+                        Constructor<?> constructor = type.getDeclaredConstructor();
+                        constructor.setAccessible(true);
+                        return Optional.of(() -> newInstance(constructor));
+                    } catch (NoSuchMethodException ex) {
+                        return Optional.empty();
+                    }
+                }
+            };
+
+    private ModelReflection() {}
+
+    static boolean isModelClass(Class<?> type) {
+        return type.getName().startsWith("net.sf.jsqlparser.");
+    }
+
+    /**
+     * @param value any value
+     * @return <code>true</code> for the objects of the model, whose fields can be walked
+     */
+    public static boolean isModel(Object value) {
+        return value != null && isModelClass(value.getClass()) && !(value instanceof Enum);
+    }
+
+    /**
+     * @param type a model class
+     * @return the accessible fields of the type, which can hold further objects of the model
+     */
+    public static Field[] children(Class<?> type) {
+        return CHILDREN.get(type);
+    }
+
+    /**
+     * @param type a model class
+     * @return the accessible, non transient fields of the type
+     */
+    static Field[] fields(Class<?> type) {
+        return FIELDS.get(type);
+    }
+
+    /**
+     * @param type a model class
+     * @return <code>true</code>, when instances of the class can be created
+     */
+    static boolean isInstantiable(Class<?> type) {
+        return INSTANTIATORS.get(type).isPresent();
+    }
+
+    private static Object newInstance(Constructor<?> constructor) {
+        try {
+            return constructor.newInstance();
+        } catch (ReflectiveOperationException ex) {
+            throw new IllegalStateException("Can't create " + constructor.getDeclaringClass(),
+                    ex);
+        }
+    }
+
+    /**
+     * @param type a model class
+     * @return a new instance, whose fields are still to be set
+     * @throws IllegalStateException when no instance of the class can be created
+     */
+    static Object newInstance(Class<?> type) {
+        return INSTANTIATORS.get(type)
+                .orElseThrow(() -> new IllegalStateException("Can't create " + type)).get();
+    }
+
+    public static Object get(Field field, Object node) {
+        try {
+            return field.get(node);
+        } catch (IllegalAccessException ex) {
+            throw new IllegalStateException("Can't access " + field, ex);
+        }
+    }
+
+    public static void set(Field field, Object node, Object value) {
+        try {
+            field.set(node, value);
+        } catch (IllegalAccessException ex) {
+            throw new IllegalStateException("Can't access " + field, ex);
+        }
+    }
+
+    /**
+     * Copies the non transient fields of a model object into a new instance of its class, all
+     * referenced objects of the model are shared. Lists and maps as well as the instances of
+     * private nested classes (e.g. the lazily allocated rare clauses of a
+     * {@link net.sf.jsqlparser.schema.Table}) belong to the state of the object and are copied, so
+     * the setters of the copy don't modify the original.
+     *
+     * @param node the object of the model
+     * @param <T> the type of the object
+     * @return the copy
+     * @throws IllegalStateException when no instance of the class can be created
+     */
+    @SuppressWarnings("unchecked")
+    static <T> T shallowCopy(T node) {
+        T copy = (T) newInstance(node.getClass());
+        try {
+            for (Field field : FIELDS.get(node.getClass())) {
+                field.set(copy, copyState(field, field.get(node)));
+            }
+            if (node instanceof Collection) {
+                Collection<Object> elements = (Collection<Object>) copy;
+                elements.clear();
+                elements.addAll((Collection<Object>) node);
+            }
+            return copy;
+        } catch (IllegalAccessException ex) {
+            throw new IllegalStateException("Can't copy " + node.getClass(), ex);
+        }
+    }
+
+    private static Object copyState(Field field, Object value) {
+        if (value == null || isModel(value) && !isPrivateState(field)) {
+            return value;
+        } else if (isModel(value)) {
+            return shallowCopy(value);
+        } else if (value instanceof List) {
+            return copyList((List<?>) value);
+        } else if (value instanceof Map) {
+            return copyMap((Map<?, ?>) value);
+        } else if (value instanceof Date) {
+            // e.g. the java.sql.Timestamp of a TimestampValue
+            return ((Date) value).clone();
+        }
+        return value;
+    }
+
+    /**
+     * @param field a field of a model class
+     * @return <code>true</code> for the instances of private nested classes, which belong to the
+     *         state of the object
+     */
+    static boolean isPrivateState(Field field) {
+        Class<?> type = field.getType();
+        return type.getDeclaringClass() == field.getDeclaringClass()
+                && Modifier.isPrivate(type.getModifiers());
+    }
+
+    /**
+     * @param list a list, which is not part of the model
+     * @return a modifiable copy of the same class, if possible, otherwise an {@link ArrayList}
+     */
+    static List<Object> copyList(List<?> list) {
+        List<Object> copy = newList(list);
+        copy.addAll(list);
+        return copy;
+    }
+
+    /**
+     * @param map a map, which is not part of the model
+     * @return a modifiable copy of the same class, if possible, otherwise a {@link LinkedHashMap}
+     */
+    static Map<Object, Object> copyMap(Map<?, ?> map) {
+        Map<Object, Object> copy = newMap(map);
+        copy.putAll(map);
+        return copy;
+    }
+
+    /**
+     * @param list a list, which is not part of the model
+     * @return a new, empty list of the same class, if possible, otherwise an {@link ArrayList}
+     */
+    @SuppressWarnings("unchecked")
+    static List<Object> newList(List<?> list) {
+        try {
+            return (List<Object>) list.getClass().getConstructor().newInstance();
+        } catch (ReflectiveOperationException | RuntimeException ex) {
+            // e.g. the immutable lists of the JDK
+            return new ArrayList<>(list.size());
+        }
+    }
+
+    /**
+     * @param set a set, which is not part of the model
+     * @return a new, empty set of the same class and ordering, if possible, otherwise a
+     *         {@link LinkedHashSet}
+     */
+    @SuppressWarnings("unchecked")
+    static Set<Object> newSet(Set<?> set) {
+        if (set instanceof SortedSet) {
+            return new TreeSet<>((Comparator<Object>) ((SortedSet<?>) set).comparator());
+        }
+        try {
+            return (Set<Object>) set.getClass().getConstructor().newInstance();
+        } catch (ReflectiveOperationException | RuntimeException ex) {
+            return new LinkedHashSet<>();
+        }
+    }
+
+    /**
+     * @param map a map, which is not part of the model
+     * @return a new, empty map of the same class and ordering, if possible, otherwise a
+     *         {@link LinkedHashMap}
+     */
+    @SuppressWarnings("unchecked")
+    static Map<Object, Object> newMap(Map<?, ?> map) {
+        if (map instanceof SortedMap) {
+            return new TreeMap<>((Comparator<Object>) ((SortedMap<?, ?>) map).comparator());
+        }
+        try {
+            return (Map<Object, Object>) map.getClass().getConstructor().newInstance();
+        } catch (ReflectiveOperationException | RuntimeException ex) {
+            return new LinkedHashMap<>();
+        }
+    }
+}
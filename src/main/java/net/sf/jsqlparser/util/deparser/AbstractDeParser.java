@@ -16,6 +16,11 @@ import java.util.List;
 
 /**
  * A base for a Statement DeParser
+ * <p>
+ * Only when it is used by a {@link StreamingDeParser}, the builder is drained between the elements
+ * of lists, keeping only the last character. Such a DeParser must neither remember positions in
+ * the builder (e.g. to insert or delete at them later) nor look back further than the last
+ * character. Outside of a {@link StreamingDeParser}, nothing changes for existing subclasses.
  *
  * @param <S> the type of statement this DeParser supports
  */
@@ -978,6 +978,7 @@ public class ExpressionDeParser extends AbstractDeParser<Expression>
 
         for (Expression exp : caseExpression.getWhenClauses()) {
             exp.accept(this, context);
+            StreamingDeParser.drainIfFull(builder);
         }
 
         Expression elseExp = caseExpression.getElseExpression();
@@ -57,6 +57,9 @@ public class ExpressionListDeParser<T extends Expression>
             }
             expression.accept(expressionVisitor, null);
             i++;
+
+            // hands the deparsed elements of huge lists over to a streaming target, if any
+            StreamingDeParser.drainIfFull(builder);
         }
 
         if (expressionList instanceof ParenthesedExpressionList<?>) {
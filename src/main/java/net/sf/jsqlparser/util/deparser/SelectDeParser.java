@@ -667,6 +667,7 @@ public class SelectDeParser extends AbstractDeParser<PlainSelect>
                     builder.append(",");
                 }
                 builder.append(" ");
+                StreamingDeParser.drainIfFull(builder);
             }
         }
 
@@ -675,6 +676,9 @@ public class SelectDeParser extends AbstractDeParser<PlainSelect>
                 builder.append(' ').append(list.getOperations().get(i - 1)).append(' ');
             }
             list.getSelects().get(i).accept((SelectVisitor<StringBuilder>) this, context);
+
+            // hands long UNION ALL chains over to a streaming target, if any
+            StreamingDeParser.drainIfFull(builder);
         }
         if (list.getOrderByElements() != null) {
             new OrderByDeParser(expressionVisitor, builder).deParse(list.getOrderByElements());
@@ -0,0 +1,195 @@
+/*-
+ * #%L
+ * JSQLParser library
+ * %%
+ * Copyright (C) 2004 - 2025 JSQLParser
+ * %%
+ * Dual licensed under GNU LGPL 2.1 or Apache License 2.0
+ * #L%
+ */
+package net.sf.jsqlparser.util.deparser;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+import net.sf.jsqlparser.statement.Block;
+import net.sf.jsqlparser.statement.IfElseStatement;
+import net.sf.jsqlparser.statement.Statement;
+import net.sf.jsqlparser.statement.Statements;
+
+/**
+ * Deparses statements into an {@link Appendable}, e.g. a {@link Writer} of a file or a socket,
+ * with bounded memory.
+ * <p>
+ * The deparsers still append to a {@link StringBuilder}, but while a statement is deparsed, the
+ * builder is drained into the target whenever it exceeds the chunk size between the elements of an
+ * expression list (e.g. the rows of a huge <code>INSERT ... VALUES</code>), between the selects of
+ * a set operation (e.g. a long <code>UNION ALL</code> chain), between the common table expressions
+ * and between the <code>WHEN</code> clauses of a <code>CASE</code>. Only the last character is
+ * kept in the builder, since some deparsers look back at it. So the memory does not grow with the
+ * size of the statement, but with the size of its largest such element.
+ * <p>
+ * Deparsers used with a plain {@link StringBuilder} are never drained. A custom deparser, which
+ * remembers positions in the builder or looks back further than the last character, therefore
+ * keeps working as before, it just can't be used by this class.
+ *
+ * <pre>{@code
+ * try (StreamingDeParser deParser = StreamingDeParser.toOutputStream(outputStream)) {
+ *     deParser.deParse(insert);
+ * }
+ * }</pre>
+ */
+public class StreamingDeParser implements Flushable, Closeable {
+
+    public static final int DEFAULT_CHUNK_SIZE = 8192;
+
+    // the deparser streaming on the current thread, found by the ExpressionListDeParser
+    private static final ThreadLocal<StreamingDeParser> ACTIVE = new ThreadLocal<>();
+
+    private final Appendable out;
+    private final int chunkSize;
+    private final StringBuilder builder;
+    private final StatementDeParser statementDeParser;
+
+    // the transfer buffer of a Writer, avoiding a String per chunk
+    private char[] chars;
+
+    /**
+     * @param out the target of the deparsed statements
+     */
+    public StreamingDeParser(Appendable out) {
+        this(out, DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * @param out the target of the deparsed statements
+     * @param chunkSize the number of characters collected before they are written
+     */
+    public StreamingDeParser(Appendable out, int chunkSize) {
+        if (chunkSize <= 1) {
+            throw new IllegalArgumentException("The chunk size must be greater than 1.");
+        }
+        this.out = out;
+        this.chunkSize = chunkSize;
+        this.builder = new StringBuilder(chunkSize + chunkSize / 4);
+        this.statementDeParser = new StatementDeParser(builder);
+    }
+
+    /**
+     * @param out the target of the deparsed statements, which will be buffered and encoded as
+     *        UTF-8
+     * @return a deparser, which must be flushed or closed after deparsing
+     */
+    public static StreamingDeParser toOutputStream(OutputStream out) {
+        return new StreamingDeParser(
+                new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * Deparses a statement into the target, without any delimiter.
+     *
+     * @param statement the statement
+     * @throws IOException when the target can't be written
+     */
+    public void deParse(Statement statement) throws IOException {
+        StreamingDeParser previous = ACTIVE.get();
+        ACTIVE.set(this);
+        try {
+            statementDeParser.deParse(statement);
+            drain(0);
+        } catch (UncheckedIOException ex) {
+            throw ex.getCause();
+        } finally {
+            builder.setLength(0);
+            if (previous != null) {
+                ACTIVE.set(previous);
+            } else {
+                ACTIVE.remove();
+            }
+        }
+    }
+
+    /**
+     * Deparses statements into the target, delimited like {@link Statements#toString()}.
+     *
+     * @param statements the statements
+     * @throws IOException when the target can't be written
+     */
+    public void deParse(Iterable<? extends Statement> statements) throws IOException {
+        for (Statement statement : statements) {
+            deParse(statement);
+            // IfElseStatements and Blocks control the Semicolons by themselves
+            out.append(statement instanceof IfElseStatement || statement instanceof Block
+                    ? "\n"
+                    : ";\n");
+        }
+    }
+
+    /**
+     * Drains the builder of the streaming deparser of the current thread, when it has been
+     * exceeded.
+     *
+     * @param builder the builder appended to by the calling deparser
+     */
+    static void drainIfFull(StringBuilder builder) {
+        if (builder.length() > 1) {
+            StreamingDeParser active = ACTIVE.get();
+            if (active != null && active.builder == builder
+                    && builder.length() >= active.chunkSize) {
+                try {
+                    active.drain(1);
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+            }
+        }
+    }
+
+    private void drain(int keep) throws IOException {
+        int length = builder.length() - keep;
+        if (length <= 0) {
+            return;
+        }
+        if (out instanceof Writer) {
+            if (chars == null || chars.length < length) {
+                chars = new char[Math.max(length, chunkSize)];
+            }
+            builder.getChars(0, length, chars, 0);
+            ((Writer) out).write(chars, 0, length);
+        } else {
+            out.append(builder, 0, length);
+        }
+        builder.delete(0, length);
+    }
+
+    public StatementDeParser getStatementDeParser() {
+        return statementDeParser;
+    }
+
+    public Appendable getOut() {
+        return out;
+    }
+
+    @Override
+    public void flush() throws IOException {
+        if (out instanceof Flushable) {
+            ((Flushable) out).flush();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (out instanceof Closeable) {
+            ((Closeable) out).close();
+        } else {
+            flush();
+        }
+    }
+}
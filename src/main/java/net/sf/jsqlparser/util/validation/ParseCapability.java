@@ -9,8 +9,6 @@
  */
 package net.sf.jsqlparser.util.validation;
 
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.function.Consumer;
 
 import net.sf.jsqlparser.JSQLParserException;
@@ -47,17 +45,14 @@ final class ParseCapability implements ValidationCapability {
 
     @Override
     public void validate(ValidationContext context, Consumer<ValidationException> errorConsumer) {
-        ExecutorService executorService = Executors.newSingleThreadExecutor();
         try {
             this.parsedStatement = CCJSqlParserUtil.parseStatements(
                     CCJSqlParserUtil.newParser(statements)
                             .withConfiguration(context.getConfiguration()),
-                    executorService);
+                    null);
         } catch (JSQLParserException e) {
             errorConsumer
                     .accept(new ParseException("Cannot parse statement: " + e.getMessage(), e));
-        } finally {
-            executorService.shutdown();
         }
     }
 
@@ -0,0 +1,76 @@
+/*-
+ * #%L
+ * JSQLParser library
+ * %%
+ * Copyright (C) 2004 - 2025 JSQLParser
+ * %%
+ * Dual licensed under GNU LGPL 2.1 or Apache License 2.0
+ * #L%
+ */
+package net.sf.jsqlparser.benchmark;
+
+import net.sf.jsqlparser.parser.AdaptiveParseStrategy;
+import net.sf.jsqlparser.parser.CCJSqlParserUtil;
+import net.sf.jsqlparser.statement.Statements;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the default SIMPLE-then-COMPLEX parsing of <code>performance.sql</code> with the
+ * {@link AdaptiveParseStrategy}, both as one script and as single statements.
+ * <p>
+ * Run with {@code gradle jmh -Pjmh.includes=AdaptiveParsingBenchmark}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class AdaptiveParsingBenchmark {
+
+    @Param({"false", "true"})
+    public boolean adaptive;
+
+    private String sqlContent;
+    private final List<String> sqlStatements = new ArrayList<>();
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        Path path = Paths.get("src/test/resources/net/sf/jsqlparser/performance.sql");
+        sqlContent = Files.readString(path, StandardCharsets.UTF_8);
+        for (String sqlStr : sqlContent.split(";\\s*\\n")) {
+            if (!sqlStr.isBlank()) {
+                sqlStatements.add(sqlStr);
+            }
+        }
+        AdaptiveParseStrategy.clear();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        System.out.println("\nAdaptive hits: " + AdaptiveParseStrategy.getHitCount()
+                + ", misses: " + AdaptiveParseStrategy.getMissCount());
+    }
+
+    @Benchmark
+    public void parseScript(Blackhole blackhole) throws Exception {
+        Statements statements = CCJSqlParserUtil.parseStatements(sqlContent,
+                parser -> parser.withAdaptiveParsing(adaptive));
+        blackhole.consume(statements);
+    }
+
+    @Benchmark
+    public void parseSingleStatements(Blackhole blackhole) throws Exception {
+        for (String sqlStr : sqlStatements) {
+            Statements statements = CCJSqlParserUtil.parseStatements(sqlStr,
+                    parser -> parser.withAdaptiveParsing(adaptive));
+            blackhole.consume(statements);
+        }
+    }
+}
@@ -0,0 +1,77 @@
+/*-
+ * #%L
+ * JSQLParser library
+ * %%
+ * Copyright (C) 2004 - 2025 JSQLParser
+ * %%
+ * Dual licensed under GNU LGPL 2.1 or Apache License 2.0
+ * #L%
+ */
+package net.sf.jsqlparser.benchmark;
+
+import net.sf.jsqlparser.parser.CCJSqlParserUtil;
+import net.sf.jsqlparser.parser.feature.Feature;
+import net.sf.jsqlparser.statement.Statements;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares parsing <code>performance.sql</code> with and without building the jjtree nodes, see
+ * {@link Feature#buildAST}, and reports the heap retained by the parsed statements.
+ * <p>
+ * Run with {@code gradle jmh -Pjmh.includes=AstConstructionBenchmark}, adding
+ * {@code -prof gc} for the allocation rate.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class AstConstructionBenchmark {
+
+    @Param({"true", "false"})
+    public boolean buildAST;
+
+    private String sqlContent;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        Path path = Paths.get("src/test/resources/net/sf/jsqlparser/performance.sql");
+        sqlContent = Files.readString(path, StandardCharsets.UTF_8);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        Runtime runtime = Runtime.getRuntime();
+        long before = usedMemory(runtime);
+        List<Statements> retained = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            retained.add(CCJSqlParserUtil.parseStatements(sqlContent,
+                    parser -> parser.withBuildAST(buildAST)));
+        }
+        long after = usedMemory(runtime);
+        System.out.println("\nRetained heap per parse with buildAST=" + buildAST + ": "
+                + (after - before) / retained.size() / 1024 + " KiB");
+    }
+
+    private static long usedMemory(Runtime runtime) throws InterruptedException {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+            Thread.sleep(50);
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    @Benchmark
+    public void parseScript(Blackhole blackhole) throws Exception {
+        Statements statements = CCJSqlParserUtil.parseStatements(sqlContent,
+                parser -> parser.withBuildAST(buildAST));
+        blackhole.consume(statements);
+    }
+}
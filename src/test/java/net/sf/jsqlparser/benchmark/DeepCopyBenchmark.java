@@ -0,0 +1,76 @@
+/*-
+ * #%L
+ * JSQLParser library
+ * %%
+ * Copyright (C) 2004 - 2025 JSQLParser
+ * %%
+ * Dual licensed under GNU LGPL 2.1 or Apache License 2.0
+ * #L%
+ */
+package net.sf.jsqlparser.benchmark;
+
+import net.sf.jsqlparser.parser.CCJSqlParserUtil;
+import net.sf.jsqlparser.statement.Statements;
+import net.sf.jsqlparser.util.ModelCopier;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares copying the statements of <code>performance.sql</code> by the {@link ModelCopier},
+ * with and without shared literals, against deparsing and parsing them again and against a round
+ * trip through the Java serialization.
+ * <p>
+ * Run with {@code gradle jmh -Pjmh.includes=DeepCopyBenchmark}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class DeepCopyBenchmark {
+
+    @Param({"deepCopy", "sharedLiterals", "reparse", "serialization"})
+    public String strategy;
+
+    private Statements statements;
+    private ModelCopier copier;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        Path path = Paths.get("src/test/resources/net/sf/jsqlparser/performance.sql");
+        statements = CCJSqlParserUtil
+                .parseStatements(Files.readString(path, StandardCharsets.UTF_8));
+        copier = new ModelCopier().withSharedLiterals("sharedLiterals".equals(strategy));
+    }
+
+    @Benchmark
+    public void copyScript(Blackhole blackhole) throws Exception {
+        Object copy;
+        switch (strategy) {
+            case "reparse":
+                copy = CCJSqlParserUtil.parseStatements(statements.toString());
+                break;
+            case "serialization":
+                ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+                try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+                    out.writeObject(statements);
+                }
+                try (ObjectInputStream in =
+                        new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+                    copy = in.readObject();
+                }
+                break;
+            default:
+                copy = copier.copy(statements);
+        }
+        blackhole.consume(copy);
+    }
+}
@@ -0,0 +1,63 @@
+/*-
+ * #%L
+ * JSQLParser library
+ * %%
+ * Copyright (C) 2004 - 2025 JSQLParser
+ * %%
+ * Dual licensed under GNU LGPL 2.1 or Apache License 2.0
+ * #L%
+ */
+package net.sf.jsqlparser.benchmark;
+
+import net.sf.jsqlparser.parser.feature.Feature;
+import net.sf.jsqlparser.parser.feature.FeatureConfiguration;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the former String round trip of {@link FeatureConfiguration#getAsBoolean(Feature)} and
+ * {@link FeatureConfiguration#getAsLong(Feature)} with the reads from the compiled
+ * {@link net.sf.jsqlparser.parser.feature.FrozenFeatureConfiguration}.
+ * <p>
+ * Run with {@code gradle jmh -Pjmh.includes=FeatureConfigurationBenchmark}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class FeatureConfigurationBenchmark {
+
+    private FeatureConfiguration configuration;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        configuration = new FeatureConfiguration()
+                .setValue(Feature.allowSquareBracketQuotation, true)
+                .setValue(Feature.timeOut, 6000L);
+    }
+
+    @Benchmark
+    public void getAsBooleanStringRoundTrip(Blackhole blackhole) {
+        blackhole.consume(Boolean.parseBoolean(
+                String.valueOf(configuration.getValue(Feature.allowComplexParsing))));
+        blackhole.consume(Boolean.parseBoolean(
+                String.valueOf(configuration.getValue(Feature.allowSquareBracketQuotation))));
+    }
+
+    @Benchmark
+    public void getAsBooleanFrozen(Blackhole blackhole) {
+        blackhole.consume(configuration.getAsBoolean(Feature.allowComplexParsing));
+        blackhole.consume(configuration.getAsBoolean(Feature.allowSquareBracketQuotation));
+    }
+
+    @Benchmark
+    public void getAsLongStringRoundTrip(Blackhole blackhole) {
+        blackhole.consume(Long.valueOf(String.valueOf(configuration.getValue(Feature.timeOut))));
+    }
+
+    @Benchmark
+    public void getAsLongFrozen(Blackhole blackhole) {
+        blackhole.consume(configuration.freeze().getAsLong(Feature.timeOut));
+    }
+}
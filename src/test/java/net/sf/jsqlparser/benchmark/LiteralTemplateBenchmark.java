@@ -0,0 +1,84 @@
+/*-
+ * #%L
+ * JSQLParser library
+ * %%
+ * Copyright (C) 2004 - 2025 JSQLParser
+ * %%
+ * Dual licensed under GNU LGPL 2.1 or Apache License 2.0
+ * #L%
+ */
+package net.sf.jsqlparser.benchmark;
+
+import net.sf.jsqlparser.parser.CCJSqlParserUtil;
+import net.sf.jsqlparser.parser.LiteralTemplateCache;
+import net.sf.jsqlparser.parser.StatementCache;
+import net.sf.jsqlparser.statement.Statement;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parses an OLTP like mix of a few query shapes with varying literals, either directly, through
+ * the exact text {@link StatementCache} or through the {@link LiteralTemplateCache}.
+ * <p>
+ * Run with {@code gradle jmh -Pjmh.includes=LiteralTemplateBenchmark}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class LiteralTemplateBenchmark {
+
+    private static final String[] SHAPES = {
+            "SELECT id, name, status FROM customers WHERE id = %d",
+            "SELECT o.id, o.total FROM orders o WHERE o.customer_id = %d AND o.status = 'OPEN'"
+                    + " ORDER BY o.created DESC LIMIT 20",
+            "UPDATE accounts SET balance = balance - %d.%02d WHERE id = %d AND version = %d",
+            "INSERT INTO audit (customer_id, action, note) VALUES (%d, 'login', 'session %d')",
+            "SELECT p.id, p.price FROM products p JOIN stock s ON s.product_id = p.id"
+                    + " WHERE p.category = 'cat-%d' AND s.quantity > %d",
+            "DELETE FROM sessions WHERE customer_id = %d AND expires < '2024-01-%02d'"
+    };
+
+    @Param({"parse", "statementCache", "templateCache"})
+    public String strategy;
+
+    private final List<String> sqlStatements = new ArrayList<>();
+    private StatementCache statementCache;
+    private LiteralTemplateCache templateCache;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Random random = new Random(42);
+        for (int i = 0; i < 1000; i++) {
+            String shape = SHAPES[random.nextInt(SHAPES.length)];
+            sqlStatements.add(String.format(Locale.ROOT, shape, random.nextInt(100000),
+                    random.nextInt(28) + 1, random.nextInt(100000), random.nextInt(10)));
+        }
+        statementCache = new StatementCache(10000);
+        templateCache = new LiteralTemplateCache(1000);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(1000)
+    public void parseMix(Blackhole blackhole) throws Exception {
+        for (String sqlStr : sqlStatements) {
+            Statement statement;
+            switch (strategy) {
+                case "statementCache":
+                    statement = statementCache.parse(sqlStr);
+                    break;
+                case "templateCache":
+                    statement = templateCache.parse(sqlStr);
+                    break;
+                default:
+                    statement = CCJSqlParserUtil.parse(sqlStr);
+            }
+            blackhole.consume(statement);
+        }
+    }
+}
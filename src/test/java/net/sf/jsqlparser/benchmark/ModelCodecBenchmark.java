@@ -0,0 +1,102 @@
+/*-
+ * #%L
+ * JSQLParser library
+ * %%
+ * Copyright (C) 2004 - 2025 JSQLParser
+ * %%
+ * Dual licensed under GNU LGPL 2.1 or Apache License 2.0
+ * #L%
+ */
+package net.sf.jsqlparser.benchmark;
+
+import net.sf.jsqlparser.parser.CCJSqlParserUtil;
+import net.sf.jsqlparser.statement.Statements;
+import net.sf.jsqlparser.util.ModelCodec;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares restoring the statements of <code>performance.sql</code> from the {@link ModelCodec}
+ * encoding, from their text by parsing them again and from the Java serialization, and reports
+ * the size of each representation.
+ * <p>
+ * Run with {@code gradle jmh -Pjmh.includes=ModelCodecBenchmark}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class ModelCodecBenchmark {
+
+    @Param({"codec", "reparse", "serialization"})
+    public String strategy;
+
+    private Statements statements;
+    private String text;
+    private ByteBuffer encoded;
+    private byte[] serialized;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        Path path = Paths.get("src/test/resources/net/sf/jsqlparser/performance.sql");
+        statements = CCJSqlParserUtil
+                .parseStatements(Files.readString(path, StandardCharsets.UTF_8));
+        text = statements.toString();
+        encoded = ModelCodec.encode(statements);
+        serialized = serialize(statements);
+
+        System.out.println("\nText: " + text.getBytes(StandardCharsets.UTF_8).length
+                + " bytes, codec: " + encoded.remaining() + " bytes, serialization: "
+                + serialized.length + " bytes");
+    }
+
+    private static byte[] serialize(Statements statements) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(statements);
+        }
+        return bytes.toByteArray();
+    }
+
+    @Benchmark
+    public void encode(Blackhole blackhole) throws Exception {
+        switch (strategy) {
+            case "codec":
+                blackhole.consume(ModelCodec.encode(statements));
+                break;
+            case "serialization":
+                blackhole.consume(serialize(statements));
+                break;
+            default:
+                blackhole.consume(statements.toString());
+        }
+    }
+
+    @Benchmark
+    public void decode(Blackhole blackhole) throws Exception {
+        switch (strategy) {
+            case "codec":
+                blackhole.consume(ModelCodec.open(encoded).getAll());
+                break;
+            case "serialization":
+                try (ObjectInputStream in =
+                        new ObjectInputStream(new ByteArrayInputStream(serialized))) {
+                    blackhole.consume(in.readObject());
+                }
+                break;
+            default:
+                blackhole.consume(CCJSqlParserUtil.parseStatements(text));
+        }
+    }
+}
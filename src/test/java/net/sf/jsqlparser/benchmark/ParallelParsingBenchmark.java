@@ -0,0 +1,72 @@
+/*-
+ * #%L
+ * JSQLParser library
+ * %%
+ * Copyright (C) 2004 - 2025 JSQLParser
+ * %%
+ * Dual licensed under GNU LGPL 2.1 or Apache License 2.0
+ * #L%
+ */
+package net.sf.jsqlparser.benchmark;
+
+import net.sf.jsqlparser.parser.CCJSqlParserUtil;
+import net.sf.jsqlparser.parser.StatementSplitter;
+import net.sf.jsqlparser.statement.Statements;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the sequential parsing of a large script, made of <code>performance.sql</code>
+ * repeated, with the parallel parsing of its top-level statements for a growing number of
+ * threads.
+ * <p>
+ * Run with {@code gradle jmh -Pjmh.includes=ParallelParsingBenchmark}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class ParallelParsingBenchmark {
+
+    @Param({"1", "2", "4", "8"})
+    public int parallelism;
+
+    private String script;
+    private ForkJoinPool pool;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        Path path = Paths.get("src/test/resources/net/sf/jsqlparser/performance.sql");
+        String sqlContent = Files.readString(path, StandardCharsets.UTF_8);
+        script = (sqlContent + "\n").repeat(20);
+        pool = new ForkJoinPool(parallelism);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public void split(Blackhole blackhole) {
+        blackhole.consume(StatementSplitter.split(script));
+    }
+
+    @Benchmark
+    public void parseSequential(Blackhole blackhole) throws Exception {
+        Statements statements = CCJSqlParserUtil.parseStatements(script);
+        blackhole.consume(statements);
+    }
+
+    @Benchmark
+    public void parseParallel(Blackhole blackhole) throws Exception {
+        Statements statements = CCJSqlParserUtil.parseStatementsParallel(script, pool, null);
+        blackhole.consume(statements);
+    }
+}
@@ -0,0 +1,51 @@
+/*-
+ * #%L
+ * JSQLParser library
+ * %%
+ * Copyright (C) 2004 - 2025 JSQLParser
+ * %%
+ * Dual licensed under GNU LGPL 2.1 or Apache License 2.0
+ * #L%
+ */
+package net.sf.jsqlparser.benchmark;
+
+import net.sf.jsqlparser.parser.CCJSqlParserUtil;
+import net.sf.jsqlparser.parser.ParserExecutor;
+import net.sf.jsqlparser.statement.Statement;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the thread hand-off of the {@link ParserExecutor.Mode}s for short statements, where
+ * the thread churn of {@link ParserExecutor.Mode#DEDICATED} costs more than the parse itself.
+ * <p>
+ * Run with {@code gradle jmh -Pjmh.includes=ParserExecutorBenchmark}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class ParserExecutorBenchmark {
+
+    @Param({"DEDICATED", "SHARED", "VIRTUAL"})
+    public String mode;
+
+    @Param({"SELECT 1", "SELECT a, b FROM t WHERE id = 42",
+            "UPDATE t SET a = 1, b = 'x' WHERE id = 42"})
+    public String sqlStr;
+
+    private ParserExecutor.Mode executorMode;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        executorMode = ParserExecutor.Mode.from(mode);
+    }
+
+    @Benchmark
+    public void parseShortStatement(Blackhole blackhole) throws Exception {
+        Statement statement = CCJSqlParserUtil.parse(sqlStr,
+                parser -> parser.withParserExecutor(executorMode));
+        blackhole.consume(statement);
+    }
+}
@@ -0,0 +1,87 @@
+/*-
+ * #%L
+ * JSQLParser library
+ * %%
+ * Copyright (C) 2004 - 2025 JSQLParser
+ * %%
+ * Dual licensed under GNU LGPL 2.1 or Apache License 2.0
+ * #L%
+ */
+package net.sf.jsqlparser.benchmark;
+
+import net.sf.jsqlparser.parser.CCJSqlParser;
+import net.sf.jsqlparser.parser.CCJSqlParserConstants;
+import net.sf.jsqlparser.parser.CCJSqlParserUtil;
+import net.sf.jsqlparser.parser.SqlTokenizer;
+import net.sf.jsqlparser.parser.SqlTokens;
+import net.sf.jsqlparser.parser.Token;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the Tokens per second of the {@link SqlTokenizer} over <code>performance.sql</code>,
+ * with and without the keyword table, compared with pulling the Tokens through a parser.
+ * <p>
+ * Run with {@code gradle jmh -Pjmh.includes=SqlTokenizerBenchmark}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Thread)
+public class SqlTokenizerBenchmark {
+
+    /**
+     * Counts the Tokens, so JMH reports them per second.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class TokenCounter {
+        public long tokens;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            tokens = 0;
+        }
+    }
+
+    private String sqlContent;
+    private final SqlTokenizer tokenizer = new SqlTokenizer();
+    private final SqlTokenizer keywordTableTokenizer = new SqlTokenizer().withKeywordTable(true);
+    private final SqlTokens tokens = new SqlTokens();
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        Path path = Paths.get("src/test/resources/net/sf/jsqlparser/performance.sql");
+        sqlContent = Files.readString(path, StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public void tokenizer(TokenCounter counter, Blackhole blackhole) throws Exception {
+        tokenizer.tokenize(sqlContent, tokens);
+        counter.tokens += tokens.size();
+        blackhole.consume(tokens);
+    }
+
+    @Benchmark
+    public void keywordTableTokenizer(TokenCounter counter, Blackhole blackhole)
+            throws Exception {
+        keywordTableTokenizer.tokenize(sqlContent, tokens);
+        counter.tokens += tokens.size();
+        blackhole.consume(tokens);
+    }
+
+    @Benchmark
+    public void parserTokens(TokenCounter counter, Blackhole blackhole) {
+        CCJSqlParser parser = CCJSqlParserUtil.newParser(sqlContent);
+        Token token;
+        while ((token = parser.getNextToken()).kind != CCJSqlParserConstants.EOF) {
+            counter.tokens++;
+            blackhole.consume(token);
+        }
+    }
+}
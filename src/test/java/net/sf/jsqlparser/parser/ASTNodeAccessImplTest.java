@@ -12,6 +12,8 @@ package net.sf.jsqlparser.parser;
 import net.sf.jsqlparser.JSQLParserException;
 import net.sf.jsqlparser.expression.AnalyticExpression;
 import net.sf.jsqlparser.expression.Expression;
+import net.sf.jsqlparser.expression.operators.relational.EqualsTo;
+import net.sf.jsqlparser.schema.Column;
 import net.sf.jsqlparser.statement.select.PlainSelect;
 import net.sf.jsqlparser.statement.select.Select;
 import net.sf.jsqlparser.statement.select.SelectItem;
@@ -19,7 +21,11 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class ASTNodeAccessImplTest {
     @Test
@@ -56,4 +62,45 @@ class ASTNodeAccessImplTest {
             throw new RuntimeException("Node not found.");
         }
     }
+
+    @Test
+    void testWithoutAST() throws Exception {
+        String sqlStr = "SELECT a, b FROM t WHERE a = b ORDER BY 1";
+
+        PlainSelect select = (PlainSelect) CCJSqlParserUtil.parse(sqlStr,
+                parser -> parser.withBuildAST(false));
+        assertEquals(sqlStr, select.toString());
+        assertNull(select.getASTNode());
+        assertNull(select.getWhere().getASTNode());
+
+        CCJSqlParser parser = CCJSqlParserUtil.newParser(sqlStr).withBuildAST(false);
+        parser.Statement();
+        assertNull(parser.getASTRoot());
+
+        parser = CCJSqlParserUtil.newParser(sqlStr);
+        parser.Statement();
+        assertNotNull(parser.getASTRoot());
+    }
+
+    @Test
+    void testDetach() throws JSQLParserException {
+        String sqlStr = "SELECT a FROM t WHERE b = 1";
+        PlainSelect select = (PlainSelect) CCJSqlParserUtil.parse(sqlStr);
+        Column column = (Column) ((EqualsTo) select.getWhere()).getLeftExpression();
+        assertNotNull(column.getASTNode());
+
+        assertTrue(column.detach(sqlStr));
+        assertNull(column.getASTNode());
+        assertNull(select.getASTNode());
+        assertEquals("b", column.getSourceText(sqlStr));
+        assertEquals(22, column.getSourceBegin());
+        assertEquals(23, column.getSourceEnd());
+        assertEquals(sqlStr, select.getSourceText(sqlStr));
+        assertEquals(sqlStr, select.toString());
+        assertFalse(column.detach(sqlStr));
+
+        Column created = new Column("b");
+        assertEquals(-1, created.getSourceBegin());
+        assertNull(created.getSourceText(sqlStr));
+    }
 }
@@ -0,0 +1,105 @@
+/*-
+ * #%L
+ * JSQLParser library
+ * %%
+ * Copyright (C) 2004 - 2025 JSQLParser
+ * %%
+ * Dual licensed under GNU LGPL 2.1 or Apache License 2.0
+ * #L%
+ */
+package net.sf.jsqlparser.parser;
+
+import net.sf.jsqlparser.JSQLParserException;
+import net.sf.jsqlparser.parser.feature.Feature;
+import net.sf.jsqlparser.parser.feature.FeatureConfiguration;
+import net.sf.jsqlparser.parser.feature.FrozenFeatureConfiguration;
+import net.sf.jsqlparser.statement.Statement;
+import net.sf.jsqlparser.statement.Statements;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AdaptiveParseStrategyTest {
+
+    @BeforeEach
+    void clear() {
+        AdaptiveParseStrategy.clear();
+    }
+
+    @Test
+    void testShapeCollapsesLiterals() {
+        long hash = AdaptiveParseStrategy.scan("SELECT * FROM t1 WHERE id = 1 AND name = 'a'")
+                .getHash();
+
+        assertEquals(hash, AdaptiveParseStrategy
+                .scan("select *\n  from t1 -- comment\n where id = 42 and name = 'it''s'")
+                .getHash());
+        assertNotEquals(hash, AdaptiveParseStrategy
+                .scan("SELECT * FROM t2 WHERE id = 1 AND name = 'a'").getHash());
+        assertNotEquals(hash, AdaptiveParseStrategy
+                .scan("SELECT * FROM t1 WHERE id = 1 OR name = 'a'").getHash());
+    }
+
+    @Test
+    void testShapeNestingDepthIgnoresQuotes() {
+        AdaptiveParseStrategy.Shape shape =
+                AdaptiveParseStrategy.scan("SELECT ((a)), '(((' FROM t /* ((( */ WHERE \"(\" = 1");
+        assertEquals(2, shape.getNestingDepth());
+        assertTrue(shape.isComplexAllowed(2));
+        assertFalse(shape.isComplexAllowed(1));
+        assertTrue(shape.isComplexAllowed(-1));
+    }
+
+    @Test
+    void testShapeCoversConfiguration() {
+        String sqlStr = "SELECT a FROM t";
+        FrozenFeatureConfiguration defaults = new FeatureConfiguration().freeze();
+        assertEquals(AdaptiveParseStrategy.scan(sqlStr, defaults).getHash(),
+                AdaptiveParseStrategy.scan(sqlStr, new FeatureConfiguration().freeze()).getHash());
+        assertNotEquals(AdaptiveParseStrategy.scan(sqlStr, defaults).getHash(),
+                AdaptiveParseStrategy.scan(sqlStr, new FeatureConfiguration()
+                        .setValue(Feature.allowSquareBracketQuotation, true).freeze()).getHash());
+    }
+
+    @Test
+    void testOutcomeIsRemembered() throws JSQLParserException {
+        Statement statement = CCJSqlParserUtil.parse("SELECT a FROM t WHERE b = 1",
+                parser -> parser.withAdaptiveParsing(true));
+        assertEquals("SELECT a FROM t WHERE b = 1", statement.toString());
+        assertEquals(0, AdaptiveParseStrategy.getHitCount());
+        assertEquals(1, AdaptiveParseStrategy.getMissCount());
+
+        statement = CCJSqlParserUtil.parse("SELECT a FROM t WHERE b = 2",
+                parser -> parser.withAdaptiveParsing(true));
+        assertEquals("SELECT a FROM t WHERE b = 2", statement.toString());
+        assertEquals(1, AdaptiveParseStrategy.getHitCount());
+        assertEquals(1, AdaptiveParseStrategy.getMissCount());
+    }
+
+    @Test
+    void testComplexParsingPredicted() throws JSQLParserException {
+        String sqlStr = "SELECT coalesce(a = 1, b) FROM t";
+        AdaptiveParseStrategy.remember(AdaptiveParseStrategy.scan(sqlStr,
+                new FeatureConfiguration().setValue(Feature.adaptiveParsing, true).freeze()), true);
+
+        Statement statement =
+                CCJSqlParserUtil.parse(sqlStr, parser -> parser.withAdaptiveParsing(true));
+        assertEquals(sqlStr, statement.toString());
+
+        Statements statements = CCJSqlParserUtil.parseStatements(sqlStr + ";",
+                parser -> parser.withAdaptiveParsing(true));
+        assertEquals(1, statements.size());
+        assertEquals(1, AdaptiveParseStrategy.getHitCount());
+    }
+
+    @Test
+    void testDisabledByDefault() throws JSQLParserException {
+        CCJSqlParserUtil.parse("SELECT a FROM t WHERE b = 1");
+        assertEquals(0, AdaptiveParseStrategy.getHitCount());
+        assertEquals(0, AdaptiveParseStrategy.getMissCount());
+    }
+}
@@ -0,0 +1,97 @@
+/*-
+ * #%L
+ * JSQLParser library
+ * %%
+ * Copyright (C) 2004 - 2025 JSQLParser
+ * %%
+ * Dual licensed under GNU LGPL 2.1 or Apache License 2.0
+ * #L%
+ */
+package net.sf.jsqlparser.parser;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+import net.sf.jsqlparser.JSQLParserException;
+import net.sf.jsqlparser.parser.feature.Feature;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ByteArrayProviderTest {
+
+    private static String readAll(byte[] bytes, Charset charset, int chunkSize) {
+        StringBuilder builder = new StringBuilder();
+        char[] buffer = new char[chunkSize];
+        ByteArrayProvider provider = new ByteArrayProvider(bytes, charset);
+        int n;
+        while ((n = provider.read(buffer, 0, buffer.length)) != -1) {
+            assertTrue(n > 0);
+            builder.append(buffer, 0, n);
+        }
+        return builder.toString();
+    }
+
+    @Test
+    void testAscii() {
+        String text = "SELECT a, b FROM t WHERE c = 'd'";
+        byte[] bytes = text.getBytes(StandardCharsets.US_ASCII);
+        assertTrue(ByteArrayProvider.isAscii(bytes, 0, bytes.length));
+
+        assertEquals(text, readAll(bytes, StandardCharsets.UTF_8, 5));
+        assertEquals(text, readAll(bytes, StandardCharsets.US_ASCII, 4096));
+    }
+
+    @Test
+    void testFallsBackToTheDecoder() {
+        String text = "SELECT 'äöü €uro 😀', \"naïve\" FROM t";
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        assertFalse(ByteArrayProvider.isAscii(bytes, 0, bytes.length));
+
+        assertEquals(text, readAll(bytes, StandardCharsets.UTF_8, 1));
+        assertEquals(text, readAll(bytes, StandardCharsets.UTF_8, 3));
+        assertEquals(text, readAll(bytes, StandardCharsets.UTF_8, 4096));
+        assertEquals(text, readAll(text.getBytes(StandardCharsets.UTF_16), StandardCharsets.UTF_16,
+                7));
+    }
+
+    @Test
+    void testLatin1() {
+        String text = "SELECT 'äöü ß' FROM t";
+        assertEquals(text, readAll(text.getBytes(StandardCharsets.ISO_8859_1),
+                StandardCharsets.ISO_8859_1, 4));
+    }
+
+    @Test
+    void testMalformedInput() {
+        byte[] bytes = {'a', (byte) 0xC3, 'b', (byte) 0xFF};
+        assertEquals(new String(bytes, StandardCharsets.UTF_8),
+                readAll(bytes, StandardCharsets.UTF_8, 2));
+    }
+
+    @Test
+    void testParse() throws JSQLParserException {
+        assertEquals("SELECT 'ä' FROM t", CCJSqlParserUtil
+                .parse("SELECT 'ä' FROM t".getBytes(StandardCharsets.UTF_8), StandardCharsets.UTF_8)
+                .toString());
+        assertEquals("SELECT a FROM t", CCJSqlParserUtil
+                .parse("SELECT a FROM t".getBytes(StandardCharsets.UTF_8), StandardCharsets.UTF_8)
+                .toString());
+    }
+
+    @Test
+    void testParseWithConsumer() throws JSQLParserException {
+        byte[] bytes = "SELECT [a] FROM [t] WHERE b = 'ä'".getBytes(StandardCharsets.UTF_8);
+        assertEquals("SELECT [a] FROM [t] WHERE b = 'ä'",
+                CCJSqlParserUtil.parse(bytes, StandardCharsets.UTF_8,
+                        parser -> parser.withSquareBracketQuotation(true)
+                                .withFeature(Feature.adaptiveParsing, true))
+                        .toString());
+        assertThrows(JSQLParserException.class,
+                () -> CCJSqlParserUtil.parse(bytes, StandardCharsets.UTF_8,
+                        parser -> parser.withTimeOut(1000)));
+    }
+}
@@ -24,4 +24,45 @@ public class CCJSqlParserTest {
 
         assertThat(timeOut).isEqualTo(123L);
     }
+
+    @Test
+    public void repeatedTokenImagesAreShared() {
+        CCJSqlParser parser = CCJSqlParserUtil
+                .newParser("SELECT name, 'x' FROM t1 WHERE name = 'x' OR name LIKE 'x'");
+
+        Token first = null;
+        Token second = null;
+        for (Token token = parser.getNextToken(); token.kind != CCJSqlParserConstants.EOF;
+                token = parser.getNextToken()) {
+            if (token.image.equals("name")) {
+                if (first == null) {
+                    first = token;
+                } else {
+                    second = token;
+                }
+            }
+        }
+
+        assertThat(first).isNotNull();
+        assertThat(second).isNotNull();
+        assertThat(second.image).isSameAs(first.image);
+    }
+
+    @Test
+    public void positionLightModeReportsTheSamePositions() {
+        String sql = "SELECT a,\r\n  b\rFROM t1\n\n  WHERE a = 'x\ny'\r\n ORDER BY b";
+        CCJSqlParser tracking = CCJSqlParserUtil.newParser(sql);
+        CCJSqlParser light = CCJSqlParserUtil.newParser(sql).withTrackLineColumn(false);
+
+        Token expected;
+        do {
+            expected = tracking.getNextToken();
+            Token actual = light.getNextToken();
+            assertThat(actual.image).isEqualTo(expected.image);
+            assertThat(new int[] {actual.beginLine, actual.beginColumn, actual.endLine,
+                    actual.endColumn})
+                    .containsExactly(expected.beginLine, expected.beginColumn, expected.endLine,
+                            expected.endColumn);
+        } while (expected.kind != CCJSqlParserConstants.EOF);
+    }
 }
@@ -0,0 +1,73 @@
+/*-
+ * #%L
+ * JSQLParser library
+ * %%
+ * Copyright (C) 2004 - 2025 JSQLParser
+ * %%
+ * Dual licensed under GNU LGPL 2.1 or Apache License 2.0
+ * #L%
+ */
+package net.sf.jsqlparser.parser;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import net.sf.jsqlparser.schema.Column;
+import net.sf.jsqlparser.schema.Table;
+import net.sf.jsqlparser.statement.select.PlainSelect;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class IdentifierInternerTest {
+
+    @Test
+    void testBounded() {
+        IdentifierInterner interner = IdentifierInterner.bounded(2);
+        String id = interner.intern(new String("id"));
+        assertSame(id, interner.intern(new String("id")));
+        assertNull(interner.intern(null));
+
+        interner.intern("a");
+        interner.intern("b");
+        // started over
+        assertNotSame(id, interner.intern(new String("id")));
+    }
+
+    @Test
+    void testGlobal() {
+        String name = new String("created_at");
+        assertSame(name, IdentifierInterner.global().intern(name));
+        assertSame(name, IdentifierInterner.global().intern(new String("created_at")));
+        assertEquals("x", IdentifierInterner.none().intern("x"));
+    }
+
+    @Test
+    void testParserFeedsNames() throws Exception {
+        List<String> names = new ArrayList<>();
+        CCJSqlParser parser = CCJSqlParserUtil
+                .newParser("SELECT t.id AS a, f(x) FROM s.t AS b")
+                .withIdentifierInterner(name -> {
+                    names.add(name);
+                    return name;
+                });
+        parser.Statement();
+        assertTrue(names.containsAll(List.of("t", "id", "a", "f", "x", "s", "b")));
+    }
+
+    @Test
+    void testScopes() throws Exception {
+        for (IdentifierInterner.Scope scope : IdentifierInterner.Scope.values()) {
+            PlainSelect select = (PlainSelect) CCJSqlParserUtil.parse(
+                    "SELECT t.id FROM t WHERE id > 1",
+                    parser -> parser.withIdentifierInterning(scope));
+            Column column = (Column) select.getSelectItem(0).getExpression();
+            assertEquals("id", column.getColumnName());
+            assertEquals("t", ((Table) select.getFromItem()).getName());
+        }
+    }
+}
@@ -0,0 +1,51 @@
+/*-
+ * #%L
+ * JSQLParser library
+ * %%
+ * Copyright (C) 2004 - 2025 JSQLParser
+ * %%
+ * Dual licensed under GNU LGPL 2.1 or Apache License 2.0
+ * #L%
+ */
+package net.sf.jsqlparser.parser;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import net.sf.jsqlparser.statement.Statement;
+
+/**
+ * Prints the heap retained by many parsed statements sharing the same identifiers, without and
+ * with the {@link IdentifierInterner}.
+ */
+public class IdentifierInterningMemoryTest {
+
+    public static void main(String[] args) throws Exception {
+        String sqlStr = "SELECT orders.id, orders.created_at, customers.customer_name "
+                + "FROM sales.orders AS o JOIN sales.customers AS c ON o.customer_id = c.id "
+                + "WHERE orders.created_at > ? AND customers.customer_name LIKE ?";
+
+        for (IdentifierInterner.Scope scope : IdentifierInterner.Scope.values()) {
+            long before = usedMemory();
+            List<Statement> statements = new ArrayList<>();
+            for (int i = 0; i < 20000; i++) {
+                // a new parser each time, so the Token images are not shared by the stream
+                CCJSqlParser parser = CCJSqlParserUtil.newParser(sqlStr)
+                        .withBuildAST(false)
+                        .withIdentifierInterning(scope);
+                statements.add(parser.Statement());
+            }
+            long after = usedMemory();
+            System.out.println(scope + ": " + (after - before) / statements.size()
+                    + " bytes per statement");
+        }
+    }
+
+    private static long usedMemory() throws InterruptedException {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+            Thread.sleep(50);
+        }
+        return Runtime.getRuntime().totalMemory() - Runtime.getRuntime().freeMemory();
+    }
+}
@@ -0,0 +1,279 @@
+/*-
+ * #%L
+ * JSQLParser library
+ * %%
+ * Copyright (C) 2004 - 2025 JSQLParser
+ * %%
+ * Dual licensed under GNU LGPL 2.1 or Apache License 2.0
+ * #L%
+ */
+package net.sf.jsqlparser.parser;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Reads the Token definitions of the grammar, so the hand written alternatives and prefixes of the
+ * {@link KeywordTable} can't fall behind the grammar, and checks all its kinds against the Token
+ * Manager, which the table itself never runs.
+ */
+class KeywordTableTest {
+    private static final Path GRAMMAR =
+            Paths.get("src/main/jjtree/net/sf/jsqlparser/parser/JSqlParserCC.jjt");
+
+    private static final Pattern TOKEN_BLOCK =
+            Pattern.compile("^TOKEN\\s*:\\s*(?:/\\*.*?\\*/)?\\s*\\{", Pattern.MULTILINE);
+
+    /**
+     * The words of an expression: all of them, those which can start it and those which the
+     * expression can continue.
+     */
+    private static final class Words {
+        private final Set<String> all = new TreeSet<>();
+        private final Set<String> leading = new TreeSet<>();
+        private final Set<String> prefixes = new TreeSet<>();
+        private boolean nullable = false;
+    }
+
+    @Test
+    void testCoversTheAlternativesOfTheGrammar() throws IOException {
+        Map<String, String> definitions = readTokenDefinitions();
+        assertTrue(definitions.containsKey("K_SELECT"));
+        assertTrue(definitions.containsKey("DATA_TYPE"));
+
+        Words words = new Words();
+        for (Map.Entry<String, String> definition : definitions.entrySet()) {
+            // the literals like S_HEX are scanned by the tokenizer itself
+            if (!definition.getKey().startsWith("S_")) {
+                Words found = new Expression(definition.getValue(), definitions).parse();
+                words.all.addAll(found.all);
+                words.prefixes.addAll(found.prefixes);
+            }
+        }
+        assertFalse(words.all.isEmpty());
+        assertTrue(words.prefixes.contains("NEXT"));
+
+        for (String word : words.all) {
+            int kind = KeywordTable.lookup(word, 0, word.length());
+            assertTrue(kind == KeywordTable.AMBIGUOUS || kind == tokenManagerKind(word), word);
+        }
+        for (String prefix : words.prefixes) {
+            assertEquals(KeywordTable.AMBIGUOUS, KeywordTable.lookup(prefix, 0, prefix.length()),
+                    prefix);
+        }
+    }
+
+    @Test
+    void testAgreesWithTheTokenManagerOnTheLiterals() {
+        for (String image : CCJSqlParserConstants.tokenImage) {
+            // literal images are quoted, like "\"SELECT\"", including the inline ones
+            if (image.length() > 2 && image.startsWith("\"") && image.endsWith("\"")) {
+                String word = image.substring(1, image.length() - 1).toUpperCase();
+                if (isWord(word)) {
+                    int kind = KeywordTable.lookup(word, 0, word.length());
+                    assertTrue(kind == KeywordTable.AMBIGUOUS || kind == tokenManagerKind(word),
+                            word);
+                }
+            }
+        }
+    }
+
+    private static int tokenManagerKind(String word) {
+        SimpleCharStream stream = new SimpleCharStream(new StringProvider(word));
+        try {
+            Token token = new CCJSqlParserTokenManager(stream).getNextToken();
+            return token.image.length() == word.length() ? token.kind : KeywordTable.AMBIGUOUS;
+        } catch (TokenMgrException ex) {
+            return KeywordTable.AMBIGUOUS;
+        }
+    }
+
+    /**
+     * @return the expressions of all Tokens, including the private ones, by their names
+     */
+    private static Map<String, String> readTokenDefinitions() throws IOException {
+        String grammar = new String(Files.readAllBytes(GRAMMAR), StandardCharsets.UTF_8);
+        Map<String, String> definitions = new LinkedHashMap<>();
+        Matcher matcher = TOKEN_BLOCK.matcher(grammar);
+        while (matcher.find()) {
+            int i = matcher.end();
+            int depth = 0;
+            StringBuilder definition = new StringBuilder();
+            while (grammar.charAt(i) != '}' || depth > 0) {
+                char c = grammar.charAt(i);
+                if (c == '"' || c == '[') {
+                    int end = c == '"' ? endOfLiteral(grammar, i) : grammar.indexOf(']', i) + 1;
+                    definition.append(grammar, i, end);
+                    i = end;
+                    continue;
+                }
+                if (c == '/' && grammar.charAt(i + 1) == '/') {
+                    i = grammar.indexOf('\n', i);
+                    continue;
+                }
+                if (c == '|' && depth == 0) {
+                    addDefinition(definitions, definition.toString());
+                    definition.setLength(0);
+                } else {
+                    depth += c == '<' ? 1 : c == '>' ? -1 : 0;
+                    definition.append(c);
+                }
+                i++;
+            }
+            addDefinition(definitions, definition.toString());
+        }
+        return definitions;
+    }
+
+    private static void addDefinition(Map<String, String> definitions, String definition) {
+        String text = definition.trim();
+        if (text.startsWith("<") && text.endsWith(">")) {
+            int colon = text.indexOf(':');
+            String name = text.substring(1, colon).trim();
+            definitions.put(name.startsWith("#") ? name.substring(1).trim() : name,
+                    text.substring(colon + 1, text.length() - 1));
+        }
+    }
+
+    /**
+     * Parses an expression of a Token definition as far as it concerns the words.
+     */
+    private static final class Expression {
+        private final String text;
+        private final Map<String, String> definitions;
+        private int i = 0;
+
+        private Expression(String text, Map<String, String> definitions) {
+            this.text = text;
+            this.definitions = definitions;
+        }
+
+        private Words parse() {
+            return alternatives();
+        }
+
+        private Words alternatives() {
+            Words words = sequence();
+            while (peek() == '|') {
+                i++;
+                Words alternative = sequence();
+                words.all.addAll(alternative.all);
+                words.leading.addAll(alternative.leading);
+                words.prefixes.addAll(alternative.prefixes);
+                words.nullable |= alternative.nullable;
+            }
+            return words;
+        }
+
+        private Words sequence() {
+            Words words = new Words();
+            words.nullable = true;
+            boolean first = true;
+            for (char c = peek(); c != 0 && c != '|' && c != ')'; c = peek()) {
+                Words unit = unit();
+                words.all.addAll(unit.all);
+                if (!first) {
+                    // the words starting the sequence are continued by this unit
+                    words.prefixes.addAll(words.leading);
+                }
+                if (words.nullable) {
+                    words.leading.addAll(unit.leading);
+                    words.prefixes.addAll(unit.prefixes);
+                }
+                words.nullable &= unit.nullable;
+                first = false;
+            }
+            return words;
+        }
+
+        private Words unit() {
+            Words words = new Words();
+            char c = peek();
+            if (c == '(') {
+                i++;
+                words = alternatives();
+                peek();
+                i++;
+            } else if (c == '"') {
+                int end = endOfLiteral(text, i);
+                String[] parts = text.substring(i + 1, end - 1).trim().split(" +");
+                for (String part : parts) {
+                    if (isWord(part)) {
+                        words.all.add(part.toUpperCase());
+                    }
+                }
+                if (isWord(parts[0])) {
+                    words.leading.add(parts[0].toUpperCase());
+                    if (parts.length > 1) {
+                        words.prefixes.add(parts[0].toUpperCase());
+                    }
+                }
+                i = end;
+            } else if (c == '<') {
+                int end = text.indexOf('>', i) + 1;
+                String referenced = definitions.get(text.substring(i + 1, end - 1).trim());
+                if (referenced != null) {
+                    words = new Expression(referenced, definitions).parse();
+                }
+                i = end;
+            } else if (c == '[' || c == '~') {
+                // a character class like ["0"-"9"] or ~["\n"]
+                i = text.indexOf(']', i) + 1;
+            } else {
+                i++;
+            }
+
+            c = peek();
+            if (c == '?' || c == '*' || c == '+') {
+                words.nullable |= c != '+';
+                if (c != '?') {
+                    words.prefixes.addAll(words.leading);
+                }
+                i++;
+            }
+            return words;
+        }
+
+        private char peek() {
+            while (i < text.length() && Character.isWhitespace(text.charAt(i))) {
+                i++;
+            }
+            return i < text.length() ? text.charAt(i) : 0;
+        }
+    }
+
+    private static int endOfLiteral(String text, int begin) {
+        int i = begin + 1;
+        while (text.charAt(i) != '"') {
+            i += text.charAt(i) == '\\' ? 2 : 1;
+        }
+        return i + 1;
+    }
+
+    private static boolean isWord(String text) {
+        if (text.isEmpty() || !KeywordTable.isWordStart(text.charAt(0))) {
+            return false;
+        }
+        for (int i = 1; i < text.length(); i++) {
+            if (!KeywordTable.isWordPart(text.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,105 @@
+/*-
+ * #%L
+ * JSQLParser library
+ * %%
+ * Copyright (C) 2004 - 2025 JSQLParser
+ * %%
+ * Dual licensed under GNU LGPL 2.1 or Apache License 2.0
+ * #L%
+ */
+package net.sf.jsqlparser.parser;
+
+import net.sf.jsqlparser.JSQLParserException;
+import net.sf.jsqlparser.expression.LongValue;
+import net.sf.jsqlparser.schema.Table;
+import net.sf.jsqlparser.statement.Statement;
+import net.sf.jsqlparser.statement.select.PlainSelect;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class LiteralTemplateCacheTest {
+
+    @Test
+    void testLiteralsAreRebound() throws JSQLParserException {
+        LiteralTemplateCache cache = new LiteralTemplateCache(100);
+        Statement first = cache.parse("SELECT * FROM orders WHERE id = 42 AND name = 'a'");
+        Statement second = cache.parse("SELECT * FROM orders WHERE id = 43 AND name = 'b''c'");
+
+        assertEquals("SELECT * FROM orders WHERE id = 42 AND name = 'a'", first.toString());
+        assertEquals("SELECT * FROM orders WHERE id = 43 AND name = 'b''c'", second.toString());
+        assertEquals(1, cache.size());
+        assertEquals(1, cache.getMissCount());
+        assertEquals(1, cache.getHitCount());
+    }
+
+    @Test
+    void testFreshValueNodes() throws JSQLParserException {
+        LiteralTemplateCache cache = new LiteralTemplateCache(100);
+        PlainSelect first = (PlainSelect) cache.parse("SELECT 1 FROM dual");
+        PlainSelect second = (PlainSelect) cache.parse("SELECT 1 FROM dual");
+
+        Object firstValue = first.getSelectItems().get(0).getExpression();
+        Object secondValue = second.getSelectItems().get(0).getExpression();
+        assertInstanceOf(LongValue.class, secondValue);
+        assertNotSame(firstValue, secondValue);
+        assertEquals(1L, ((LongValue) secondValue).getValue());
+    }
+
+    @Test
+    void testUnboundLiteralsAreFixed() throws JSQLParserException {
+        LiteralTemplateCache cache = new LiteralTemplateCache(100);
+        String sqlStr = "CREATE TABLE t (a VARCHAR (10), b INT)";
+        assertEquals(CCJSqlParserUtil.parse(sqlStr).toString(), cache.parse(sqlStr).toString());
+
+        // the data type's length is no value node, so it must be part of the template
+        sqlStr = "CREATE TABLE t (a VARCHAR (20), b INT)";
+        assertEquals(CCJSqlParserUtil.parse(sqlStr).toString(), cache.parse(sqlStr).toString());
+        assertEquals(2, cache.size());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "SELECT * FROM t WHERE d = {d '2024-01-01'} AND id = 7",
+            "UPDATE accounts SET balance = balance - 10.50 WHERE id = 3",
+            "INSERT INTO audit (id, action) VALUES (1, N'login')",
+            "SELECT a FROM t LIMIT 10 OFFSET 20",
+            "SELECT a AS \"x\" FROM t WHERE b IN (1, 2, 3) AND c LIKE 'a%' ESCAPE '!'"
+    })
+    void testEquivalentToParsing(String sqlStr) throws JSQLParserException {
+        LiteralTemplateCache cache = new LiteralTemplateCache(100);
+        String expected = CCJSqlParserUtil.parse(sqlStr).toString();
+        assertEquals(expected, cache.parse(sqlStr).toString());
+        assertEquals(expected, cache.parse(sqlStr).toString());
+    }
+
+    @Test
+    void testStatementsWithoutLiteralsBypass() throws JSQLParserException {
+        LiteralTemplateCache cache = new LiteralTemplateCache(100);
+        assertEquals("SELECT a FROM t", cache.parse("SELECT a FROM t").toString());
+        assertEquals(1, cache.getBypassCount());
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void testCopiesAreIndependent() throws JSQLParserException {
+        LiteralTemplateCache cache = new LiteralTemplateCache(100);
+        PlainSelect first = (PlainSelect) cache.parse("SELECT a FROM t WHERE b = 1");
+        first.getFromItem(Table.class).setName("changed");
+
+        assertEquals("SELECT a FROM t WHERE b = 2",
+                cache.parse("SELECT a FROM t WHERE b = 2").toString());
+        assertEquals(1, cache.getHitCount());
+    }
+
+    @Test
+    void testFailuresAreReported() {
+        LiteralTemplateCache cache = new LiteralTemplateCache(100);
+        assertThrows(JSQLParserException.class, () -> cache.parse("SELECT FROM WHERE 1"));
+    }
+}
@@ -0,0 +1,113 @@
+/*-
+ * #%L
+ * JSQLParser library
+ * %%
+ * Copyright (C) 2004 - 2025 JSQLParser
+ * %%
+ * Dual licensed under GNU LGPL 2.1 or Apache License 2.0
+ * #L%
+ */
+package net.sf.jsqlparser.parser;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import net.sf.jsqlparser.statement.Statement;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MappedFileProviderTest {
+
+    @TempDir
+    Path directory;
+
+    private static String readAll(Path path, Charset charset, int windowSize, int chunkSize)
+            throws IOException {
+        StringBuilder builder = new StringBuilder();
+        char[] buffer = new char[chunkSize];
+        try (MappedFileProvider provider = new MappedFileProvider(path, charset, windowSize)) {
+            int n;
+            while ((n = provider.read(buffer, 0, buffer.length)) != -1) {
+                assertTrue(n > 0);
+                builder.append(buffer, 0, n);
+            }
+        }
+        return builder.toString();
+    }
+
+    @Test
+    void testDecodesAcrossWindows() throws IOException {
+        String text = "SELECT 'äöü €uro 😀', \"naïve\" FROM t; -- ∑ ok\n".repeat(50);
+        Path file = directory.resolve("utf8.sql");
+        Files.writeString(file, text, StandardCharsets.UTF_8);
+
+        assertEquals(text, readAll(file, StandardCharsets.UTF_8, 16, 7));
+        assertEquals(text, readAll(file, StandardCharsets.UTF_8, 17, 4096));
+        assertEquals(text, readAll(file, StandardCharsets.UTF_8,
+                MappedFileProvider.DEFAULT_WINDOW_SIZE, 4096));
+    }
+
+    @Test
+    void testLatin1() throws IOException {
+        String text = "SELECT 'äöü ß' FROM t;\n".repeat(50);
+        Path file = directory.resolve("latin1.sql");
+        Files.writeString(file, text, StandardCharsets.ISO_8859_1);
+
+        assertEquals(text, readAll(file, StandardCharsets.ISO_8859_1, 16, 5));
+    }
+
+    @Test
+    void testEmptyFile() throws IOException {
+        Path file = Files.createFile(directory.resolve("empty.sql"));
+        assertEquals("", readAll(file, StandardCharsets.UTF_8, 16, 16));
+    }
+
+    @Test
+    void testPositionAfterClose() throws IOException {
+        Path file = directory.resolve("position.sql");
+        Files.writeString(file, "SELECT a FROM t", StandardCharsets.US_ASCII);
+
+        MappedFileProvider provider = new MappedFileProvider(file, StandardCharsets.US_ASCII);
+        provider.read(new char[6], 0, 6);
+        provider.close();
+        assertEquals(6, provider.getPosition());
+        assertEquals(-1, provider.read(new char[6], 0, 6));
+    }
+
+    @Test
+    void testOffsetsBeyondTwoGigabytes() {
+        Token token = new Token();
+        token.setAbsolutePosition(3_000_000_001L, 3_000_000_007L);
+        assertEquals(Integer.MAX_VALUE, token.absoluteBegin);
+        assertEquals(3_000_000_001L, token.getAbsoluteBegin());
+        assertEquals(3_000_000_007L, token.getAbsoluteEnd());
+
+        token.absoluteBegin = 5;
+        assertEquals(5, token.getAbsoluteBegin());
+    }
+
+    @Test
+    void testParseFile() throws Exception {
+        Path file = directory.resolve("script.sql");
+        Files.writeString(file, "SELECT 'ä' FROM t;\nSELECT b FROM u;\n", StandardCharsets.UTF_8);
+
+        Statement statement = CCJSqlParserUtil.newParser(file, StandardCharsets.UTF_8).Statement();
+        assertEquals("SELECT 'ä' FROM t", statement.toString());
+
+        try (Stream<ParseResult> results =
+                CCJSqlParserUtil.streamStatements(file, StandardCharsets.UTF_8, null)) {
+            List<String> statements = results.map(result -> result.getStatement().toString())
+                    .collect(Collectors.toList());
+            assertEquals(List.of("SELECT 'ä' FROM t", "SELECT b FROM u"), statements);
+        }
+    }
+}
@@ -0,0 +1,163 @@
+/*-
+ * #%L
+ * JSQLParser library
+ * %%
+ * Copyright (C) 2004 - 2025 JSQLParser
+ * %%
+ * Dual licensed under GNU LGPL 2.1 or Apache License 2.0
+ * #L%
+ */
+package net.sf.jsqlparser.parser;
+
+import net.sf.jsqlparser.JSQLParserException;
+import net.sf.jsqlparser.parser.feature.Feature;
+import net.sf.jsqlparser.statement.Statement;
+import net.sf.jsqlparser.statement.Statements;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.Locale;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ParserExecutorTest {
+
+    // taken from Issue 1582, which fails only after a very long time
+    private static final String SLOW_SQL = "select\n"
+            + "  t0.operatienr\n"
+            + "  , case\n"
+            + "        when\n"
+            + "            case when (t0.vc_begintijd_operatie is null or lpad((extract('hours' into t0.vc_begintijd_operatie::timestamp))::text,2,'0') ||':'|| lpad(extract('minutes' from t0.vc_begintijd_operatie::timestamp)::text,2,'0') = '00:00') then null\n"
+            + "                 else (greatest(((extract('hours' into (t0.vc_eindtijd_operatie::timestamp-t0.vc_begintijd_operatie::timestamp))*60 + extract('minutes' from (t0.vc_eindtijd_operatie::timestamp-t0.vc_begintijd_operatie::timestamp)))/60)::numeric(12,2),0))*60\n"
+            + "        end = 0 then null\n"
+            + "            else '25. Meer dan 4 uur'\n"
+            + "        end\n"
+            + "      as snijtijd_interval";
+
+    @ParameterizedTest
+    @EnumSource(ParserExecutor.Mode.class)
+    void testParseWithMode(ParserExecutor.Mode mode) throws JSQLParserException {
+        Statement statement = CCJSqlParserUtil.parse("SELECT a FROM b WHERE c = 1",
+                parser -> parser.withParserExecutor(mode));
+        assertEquals("SELECT a FROM b WHERE c = 1", statement.toString());
+
+        Statements statements = CCJSqlParserUtil.parseStatements("SELECT 1; SELECT 2;",
+                parser -> parser.withParserExecutor(mode));
+        assertEquals(2, statements.size());
+    }
+
+    @Test
+    void testDefaultMode() {
+        CCJSqlParser parser = CCJSqlParserUtil.newParser("SELECT 1");
+        assertEquals(ParserExecutor.Mode.SHARED, ParserExecutor.getMode(parser.getConfiguration()));
+        assertEquals("VIRTUAL", parser.withParserExecutor(ParserExecutor.Mode.VIRTUAL)
+                .getAsString(Feature.parserExecutor));
+    }
+
+    @Test
+    void testModeFromIgnoresLocale() {
+        Locale locale = Locale.getDefault();
+        try {
+            Locale.setDefault(new Locale("tr", "TR"));
+            assertEquals(ParserExecutor.Mode.VIRTUAL, ParserExecutor.Mode.from("virtual"));
+        } finally {
+            Locale.setDefault(locale);
+        }
+    }
+
+    @Test
+    void testSharedExecutorIsReused() {
+        ExecutorService executor = ParserExecutor.acquire(ParserExecutor.Mode.SHARED);
+        ParserExecutor.release(ParserExecutor.Mode.SHARED, executor);
+
+        assertSame(executor, ParserExecutor.getSharedExecutor());
+        assertFalse(executor.isShutdown());
+    }
+
+    @Test
+    void testDedicatedExecutorIsShutDown() {
+        ExecutorService executor = ParserExecutor.acquire(ParserExecutor.Mode.DEDICATED);
+        assertNotSame(ParserExecutor.getSharedExecutor(), executor);
+
+        ParserExecutor.release(ParserExecutor.Mode.DEDICATED, executor);
+        assertTrue(executor.isShutdown());
+    }
+
+    @Test
+    void testVirtualExecutorFallsBack() {
+        ExecutorService executor = ParserExecutor.getVirtualExecutor();
+        if (ParserExecutor.isVirtualThreadSupported()) {
+            assertNotSame(ParserExecutor.getSharedExecutor(), executor);
+        } else {
+            assertSame(ParserExecutor.getSharedExecutor(), executor);
+        }
+    }
+
+    @Test
+    void testCallerModeHasNoExecutor() {
+        assertNull(ParserExecutor.acquire(ParserExecutor.Mode.CALLER));
+    }
+
+    @Test
+    void testCallerModeTimeOut() {
+        JSQLParserException ex = assertThrows(JSQLParserException.class,
+                () -> CCJSqlParserUtil.parse(SLOW_SQL, parser -> parser
+                        .withParserExecutor(ParserExecutor.Mode.CALLER)
+                        .withTimeOut(500)));
+        assertTrue(ex.getCause() instanceof ParseTimeoutException);
+        assertEquals(500, ((ParseTimeoutException) ex.getCause()).getTimeOut());
+    }
+
+    @Test
+    void testSharedModeTimeOutFreesThread() throws InterruptedException {
+        JSQLParserException ex = assertThrows(JSQLParserException.class,
+                () -> CCJSqlParserUtil.parse(SLOW_SQL, parser -> parser
+                        .withParserExecutor(ParserExecutor.Mode.SHARED)
+                        .withTimeOut(500)));
+        assertEquals("Time out occurred.", ex.getMessage());
+
+        // the worker stops at its cooperative deadline and any replacing thread is removed
+        ThreadPoolExecutor executor = (ThreadPoolExecutor) ParserExecutor.getSharedExecutor();
+        long until = System.currentTimeMillis() + 5000;
+        while (executor.getActiveCount() > 0 && System.currentTimeMillis() < until) {
+            Thread.sleep(10);
+        }
+        assertEquals(0, executor.getActiveCount());
+        assertEquals(executor.getMaximumPoolSize(), executor.getCorePoolSize());
+    }
+
+    @Test
+    void testSaturatedExecutorTimeOut() throws InterruptedException {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        CountDownLatch blocked = new CountDownLatch(1);
+        executor.submit(() -> {
+            blocked.await();
+            return null;
+        });
+        try {
+            long start = System.nanoTime();
+            JSQLParserException ex = assertThrows(JSQLParserException.class,
+                    () -> CCJSqlParserUtil.parseStatement(
+                            CCJSqlParserUtil.newParser("SELECT 1").withTimeOut(200), executor));
+            assertEquals("Time out occurred.", ex.getMessage());
+            // the parse never started, but the caller waited no longer than the time out
+            assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(5));
+        } finally {
+            blocked.countDown();
+            executor.shutdown();
+        }
+        assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+    }
+}
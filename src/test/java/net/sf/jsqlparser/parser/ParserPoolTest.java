@@ -0,0 +1,130 @@
+/*-
+ * #%L
+ * JSQLParser library
+ * %%
+ * Copyright (C) 2004 - 2025 JSQLParser
+ * %%
+ * Dual licensed under GNU LGPL 2.1 or Apache License 2.0
+ * #L%
+ */
+package net.sf.jsqlparser.parser;
+
+import net.sf.jsqlparser.JSQLParserException;
+import net.sf.jsqlparser.expression.JdbcParameter;
+import net.sf.jsqlparser.parser.feature.Feature;
+import net.sf.jsqlparser.parser.feature.FeatureConfiguration;
+import net.sf.jsqlparser.statement.Statement;
+import net.sf.jsqlparser.statement.select.PlainSelect;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ParserPoolTest {
+
+    @Test
+    void testParserIsReused() throws ParseException {
+        CCJSqlParser parser = ParserPool.acquire("SELECT 1");
+        parser.Statement();
+        ParserPool.release(parser);
+
+        CCJSqlParser reused = ParserPool.acquire("SELECT 2");
+        assertSame(parser, reused);
+        assertEquals("SELECT 2", reused.Statement().toString());
+        ParserPool.release(reused);
+    }
+
+    @Test
+    void testParserInUseIsNotShared() {
+        CCJSqlParser parser = ParserPool.acquire("SELECT 1");
+        CCJSqlParser nested = ParserPool.acquire("SELECT 2");
+        assertNotSame(parser, nested);
+
+        ParserPool.release(nested);
+        ParserPool.release(parser);
+    }
+
+    @Test
+    void testInterruptedParserIsDiscarded() {
+        CCJSqlParser parser = ParserPool.acquire("SELECT 1");
+        parser.interrupted = true;
+        ParserPool.release(parser);
+
+        assertNotSame(parser, ParserPool.acquire("SELECT 1"));
+    }
+
+    @Test
+    void testResetClearsParserState() throws ParseException {
+        CCJSqlParser parser = ParserPool.acquire("SELECT ? FROM t WHERE a = ?");
+        parser.withSquareBracketQuotation(true).withErrorRecovery(true).Statement();
+        ParserPool.release(parser);
+
+        parser = ParserPool.acquire("SELECT ? FROM t");
+        assertFalse(parser.getAsBoolean(Feature.allowSquareBracketQuotation));
+        assertTrue(parser.getParseErrors().isEmpty());
+
+        PlainSelect select = (PlainSelect) parser.Statement();
+        JdbcParameter parameter =
+                (JdbcParameter) select.getSelectItems().get(0).getExpression();
+        assertEquals(1, parameter.getIndex());
+        assertEquals(0, parser.bracketsCounter);
+        assertEquals(0, parser.caseCounter);
+        ParserPool.release(parser);
+    }
+
+    @Test
+    void testResetKeepsForeignConfiguration() {
+        FeatureConfiguration configuration =
+                new FeatureConfiguration().setValue(Feature.allowSquareBracketQuotation, true);
+
+        CCJSqlParser parser = ParserPool.acquire("SELECT 1").withConfiguration(configuration);
+        ParserPool.release(parser);
+
+        assertTrue(configuration.getAsBoolean(Feature.allowSquareBracketQuotation));
+        parser = ParserPool.acquire("SELECT 1");
+        assertNotSame(configuration, parser.getConfiguration());
+        assertFalse(parser.getAsBoolean(Feature.allowSquareBracketQuotation));
+        ParserPool.release(parser);
+    }
+
+    @Test
+    void testResetRestartsAbsolutePositions() throws JSQLParserException {
+        StringBuilder builder = new StringBuilder("SELECT a");
+        for (int i = 0; i < 2000; i++) {
+            builder.append(", column").append(i);
+        }
+        Statement statement = CCJSqlParserUtil.parse(builder.append(" FROM t").toString());
+        assertTrue(statement.toString().endsWith("column1999 FROM t"));
+
+        CCJSqlParser parser = ParserPool.acquire("SELECT b FROM t");
+        Token token = parser.getNextToken();
+        assertEquals(1, token.absoluteBegin);
+        assertEquals("b", parser.getNextToken().image);
+        assertEquals(8, parser.getToken(0).absoluteBegin);
+        ParserPool.release(parser);
+    }
+
+    @Test
+    void testResetShrinksGrownBuffers() throws ParseException {
+        StringBuilder builder = new StringBuilder("SELECT '");
+        for (int i = 0; i < 2 * SimpleCharStream.MAX_RETAINED_BUFFER_SIZE; i++) {
+            builder.append('x');
+        }
+        CCJSqlParser parser = ParserPool.acquire(builder.append("'").toString());
+        parser.Statement();
+        assertTrue(parser.token_source.input_stream.buffer.length
+                > SimpleCharStream.MAX_RETAINED_BUFFER_SIZE);
+        ParserPool.release(parser);
+
+        CCJSqlParser reused = ParserPool.acquire("SELECT 1");
+        assertSame(parser, reused);
+        assertTrue(reused.token_source.input_stream.buffer.length
+                <= SimpleCharStream.MAX_RETAINED_BUFFER_SIZE);
+        assertEquals(reused.token_source.input_stream.buffer.length,
+                reused.token_source.input_stream.bufline.length);
+        ParserPool.release(reused);
+    }
+}
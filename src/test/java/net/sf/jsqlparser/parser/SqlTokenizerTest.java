@@ -0,0 +1,167 @@
+/*-
+ * #%L
+ * JSQLParser library
+ * %%
+ * Copyright (C) 2004 - 2025 JSQLParser
+ * %%
+ * Dual licensed under GNU LGPL 2.1 or Apache License 2.0
+ * #L%
+ */
+package net.sf.jsqlparser.parser;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import net.sf.jsqlparser.JSQLParserException;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SqlTokenizerTest {
+
+    private static List<String> texts(SqlTokens tokens, String sql) {
+        List<String> texts = new ArrayList<>();
+        for (int i = 0; i < tokens.size(); i++) {
+            texts.add(tokens.getText(i, sql));
+        }
+        return texts;
+    }
+
+    @Test
+    void testTokenize() throws JSQLParserException {
+        String sql = "SELECT a, 'it''s' FROM  t1\nWHERE b >= 1.5";
+        SqlTokens tokens = new SqlTokenizer().tokenize(sql);
+
+        assertEquals(List.of("SELECT", "a", ",", "'it''s'", "FROM", "t1", "WHERE", "b", ">=",
+                "1.5"), texts(tokens, sql));
+        assertTrue(tokens.isKeyword(0));
+        assertFalse(tokens.isKeyword(1));
+        assertEquals(CCJSqlParserConstants.S_CHAR_LITERAL, tokens.getKind(3));
+        assertEquals(CCJSqlParserConstants.S_DOUBLE, tokens.getKind(9));
+        assertEquals(27, tokens.getBegin(6));
+        assertEquals(32, tokens.getEnd(6));
+    }
+
+    @Test
+    void testComments() throws JSQLParserException {
+        String sql = "/* head */ SELECT 1 -- tail";
+        SqlTokenizer tokenizer = new SqlTokenizer();
+
+        assertEquals(List.of("SELECT", "1"), texts(tokenizer.tokenize(sql), sql));
+
+        SqlTokens tokens = tokenizer.withComments(true).tokenize(sql);
+        assertEquals(List.of("/* head */", "SELECT", "1", "-- tail"), texts(tokens, sql));
+        assertTrue(tokens.isComment(0));
+        assertEquals(CCJSqlParserConstants.LINE_COMMENT, tokens.getKind(3));
+    }
+
+    @Test
+    void testSquareBrackets() throws JSQLParserException {
+        String sql = "SELECT [a b] FROM t";
+        assertEquals(List.of("SELECT", "[", "a", "b", "]", "FROM", "t"),
+                texts(new SqlTokenizer().tokenize(sql), sql));
+
+        SqlTokens tokens = new SqlTokenizer().withSquareBracketQuotation(true).tokenize(sql);
+        assertEquals(List.of("SELECT", "[a b]", "FROM", "t"), texts(tokens, sql));
+        assertEquals(CCJSqlParserConstants.S_QUOTED_IDENTIFIER, tokens.getKind(1));
+    }
+
+    @Test
+    void testBackslashEscape() throws JSQLParserException {
+        String sql = "SELECT 'a\\'b'";
+        SqlTokens tokens = new SqlTokenizer().withBackslashEscapeCharacter(true).tokenize(sql);
+        assertEquals(List.of("SELECT", "'a\\'b'"), texts(tokens, sql));
+    }
+
+    @Test
+    void testReusesTokens() throws JSQLParserException {
+        SqlTokenizer tokenizer = new SqlTokenizer();
+        SqlTokens tokens = new SqlTokens(1);
+
+        assertSame(tokens, tokenizer.tokenize("SELECT a, b, c FROM t", tokens));
+        assertEquals(8, tokens.size());
+        tokenizer.tokenize("COMMIT", tokens);
+        assertEquals(1, tokens.size());
+        assertThrows(IndexOutOfBoundsException.class, () -> tokens.getKind(1));
+    }
+
+    private static void assertSameTokens(String sql, String source) {
+        SqlTokenizer tokenizer = new SqlTokenizer().withComments(true);
+        SqlTokens expected;
+        try {
+            expected = tokenizer.tokenize(sql);
+        } catch (JSQLParserException ex) {
+            assertThrows(JSQLParserException.class,
+                    () -> tokenizer.withKeywordTable(true).tokenize(sql), source);
+            return;
+        }
+        SqlTokens actual = assertDoesNotThrow(() -> tokenizer.withKeywordTable(true).tokenize(sql),
+                source);
+
+        for (int i = 0; i < Math.min(expected.size(), actual.size()); i++) {
+            String message = source + ": " + expected.getText(i, sql) + " at " + i;
+            assertEquals(expected.getKind(i), actual.getKind(i), message);
+            assertEquals(expected.getBegin(i), actual.getBegin(i), message);
+            assertEquals(expected.getEnd(i), actual.getEnd(i), message);
+        }
+        assertEquals(expected.size(), actual.size(), source);
+    }
+
+    @Test
+    void testKeywordTable() throws JSQLParserException {
+        String sql = "SELECT NEXT VALUE FOR seq, NextVal, Current_Timestamp(), Current Date\n"
+                + ", N'x', X'AF', _utf8'y', q'{z}', naïve, a$b@c#, CAST(b AS TIMESTAMP(3) WITH TIME"
+                + " ZONE)\nFROM t WHERE c SIMILAR TO 'd' FETCH FIRST 1 ROWS WITH TIES\ngo\n"
+                + "SEL 1 FROM t2 -- tail\n\n\nSELECT INT4 '1', date '2025-01-01' /* x */";
+        assertSameTokens(sql, "sql");
+
+        SqlTokens tokens = new SqlTokenizer().withKeywordTable(true).tokenize(sql);
+        assertEquals(CCJSqlParserConstants.K_SELECT, tokens.getKind(0));
+        assertEquals(CCJSqlParserConstants.K_NEXTVAL, tokens.getKind(1));
+        assertEquals("NEXT VALUE FOR", tokens.getText(1, sql));
+    }
+
+    @Test
+    void testKeywordTableKnowsAllKeywords() throws IOException {
+        File grammar = new File("src/main/jjtree/net/sf/jsqlparser/parser/JSqlParserCC.jjt");
+        for (String keyword : ParserKeywordsUtils.getAllKeywordsUsingRegex(grammar)) {
+            assertSameTokens(keyword, keyword);
+            assertSameTokens(keyword.toLowerCase() + " x", keyword);
+        }
+        assertTrue(KeywordTable.size() > 500);
+    }
+
+    @Test
+    void testKeywordTableOverTestCorpus() throws IOException {
+        List<Path> files;
+        try (Stream<Path> paths = Files.walk(Paths.get("src/test/resources"))) {
+            files = paths.filter(path -> path.toString().endsWith(".sql"))
+                    .collect(Collectors.toList());
+        }
+        assertFalse(files.isEmpty());
+
+        for (Path file : files) {
+            String sql = new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+            assertSameTokens(sql, file.toString());
+        }
+    }
+
+    @Test
+    void testInvalidToken() {
+        assertThrows(JSQLParserException.class,
+                () -> new SqlTokenizer().tokenize("SELECT a\u0001 FROM t"));
+    }
+}
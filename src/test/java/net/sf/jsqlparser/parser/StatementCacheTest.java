@@ -0,0 +1,125 @@
+/*-
+ * #%L
+ * JSQLParser library
+ * %%
+ * Copyright (C) 2004 - 2025 JSQLParser
+ * %%
+ * Dual licensed under GNU LGPL 2.1 or Apache License 2.0
+ * #L%
+ */
+package net.sf.jsqlparser.parser;
+
+import net.sf.jsqlparser.JSQLParserException;
+import net.sf.jsqlparser.parser.feature.Feature;
+import net.sf.jsqlparser.parser.feature.FeatureConfiguration;
+import net.sf.jsqlparser.parser.feature.FrozenFeatureConfiguration;
+import net.sf.jsqlparser.statement.Statement;
+import net.sf.jsqlparser.schema.Table;
+import net.sf.jsqlparser.statement.select.PlainSelect;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class StatementCacheTest {
+
+    @Test
+    void testCopiesAreHandedOut() throws JSQLParserException {
+        StatementCache cache = new StatementCache(100);
+        Statement statement = cache.parse("SELECT a FROM t");
+        Statement cached = cache.parse("SELECT a FROM t");
+
+        assertNotSame(statement, cached);
+        assertEquals(statement.toString(), cached.toString());
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+
+        // modifying a copy must not affect the cache
+        ((PlainSelect) cached).setFromItem(new Table("u"));
+        assertEquals("SELECT a FROM t", cache.parse("SELECT a FROM t").toString());
+    }
+
+    @Test
+    void testSharedInstanceIsHandedOut() throws JSQLParserException {
+        StatementCache cache =
+                new StatementCache(100, sql -> 1L, StatementCache.Sharing.SHARED);
+        Statement statement = cache.parse("SELECT a FROM t");
+        assertSame(statement, cache.parse("SELECT a FROM t"));
+    }
+
+    @Test
+    void testConfigurationIsPartOfTheKey() throws JSQLParserException {
+        StatementCache cache = new StatementCache(100);
+        cache.parse("SELECT a FROM t");
+        cache.parse("SELECT a FROM t", parser -> parser.withSquareBracketQuotation(true));
+        cache.parse("SELECT a FROM t", parser -> parser.withSquareBracketQuotation(true));
+
+        assertEquals(2, cache.size());
+        assertEquals(1, cache.getHitCount());
+        assertEquals(2, cache.getMissCount());
+    }
+
+    @Test
+    void testLeastRecentlyUsedIsEvicted() throws JSQLParserException {
+        StatementCache cache = new StatementCache(2);
+        cache.parse("SELECT 1");
+        cache.parse("SELECT 2");
+        cache.parse("SELECT 1");
+        cache.parse("SELECT 3");
+
+        assertEquals(2, cache.size());
+        assertEquals(1, cache.getEvictionCount());
+
+        cache.parse("SELECT 1");
+        assertEquals(2, cache.getHitCount());
+        cache.parse("SELECT 2");
+        assertEquals(4, cache.getMissCount());
+    }
+
+    @Test
+    void testWeightIsBounded() throws JSQLParserException {
+        StatementCache cache =
+                new StatementCache(20, String::length, StatementCache.Sharing.COPY);
+        cache.parse("SELECT a FROM t");
+        cache.parse("SELECT b FROM t");
+
+        assertEquals(1, cache.size());
+        assertEquals(15, cache.getWeight());
+        assertEquals(1, cache.getEvictionCount());
+    }
+
+    @Test
+    void testFailuresAreNotCached() {
+        StatementCache cache = new StatementCache(100);
+        assertThrows(JSQLParserException.class, () -> cache.parse("SELECT FROM WHERE"));
+        assertThrows(JSQLParserException.class, () -> cache.parse("SELECT FROM WHERE"));
+
+        assertEquals(0, cache.size());
+        assertEquals(2, cache.getMissCount());
+    }
+
+    @Test
+    void testFrozenConfigurationIsTheKey() throws JSQLParserException {
+        FrozenFeatureConfiguration configuration = new FeatureConfiguration()
+                .setValue(Feature.allowSquareBracketQuotation, true).freeze();
+        StatementCache cache = new StatementCache(100);
+        cache.parse("SELECT [a] FROM t", parser -> parser.withSquareBracketQuotation(true));
+        Statement cached = cache.parse("SELECT [a] FROM t", configuration);
+
+        assertEquals("SELECT [a] FROM t", cached.toString());
+        assertEquals(1, cache.getHitCount());
+    }
+
+    @Test
+    void testParserStateBeyondTheFeaturesIsRejected() {
+        StatementCache cache = new StatementCache(100);
+        assertThrows(IllegalArgumentException.class,
+                () -> cache.parse("SELECT a FROM t", parser -> parser.withErrorRecovery(true)));
+        assertThrows(IllegalArgumentException.class,
+                () -> cache.parse("SELECT a FROM t", parser -> parser
+                        .withIdentifierInterner(IdentifierInterner.bounded(16))));
+        assertEquals(0, cache.size());
+    }
+}
@@ -0,0 +1,106 @@
+/*-
+ * #%L
+ * JSQLParser library
+ * %%
+ * Copyright (C) 2004 - 2025 JSQLParser
+ * %%
+ * Dual licensed under GNU LGPL 2.1 or Apache License 2.0
+ * #L%
+ */
+package net.sf.jsqlparser.parser;
+
+import java.io.ByteArrayInputStream;
+import java.io.StringReader;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import net.sf.jsqlparser.statement.select.Select;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StatementIteratorTest {
+
+    @Test
+    void testIteratesStatements() {
+        StatementIterator iterator = CCJSqlParserUtil.iterateStatements(
+                new StringReader("SELECT 1;\n;\nSELECT 2 FROM t;\nUPDATE t SET a = 1"), null);
+
+        ParseResult result = iterator.next();
+        assertTrue(result.isSuccess());
+        assertInstanceOf(Select.class, result.getStatement());
+        assertEquals("SELECT 1", result.getStatement().toString());
+
+        assertEquals("SELECT 2 FROM t", iterator.next().getStatement().toString());
+        assertEquals("UPDATE t SET a = 1", iterator.next().getStatement().toString());
+        assertFalse(iterator.hasNext());
+        assertThrows(NoSuchElementException.class, iterator::next);
+    }
+
+    @Test
+    void testFailedStatementDoesNotAbort() {
+        List<ParseResult> results;
+        try (Stream<ParseResult> stream = CCJSqlParserUtil.streamStatements(
+                new StringReader("SELECT 1;\n  SELECT FROM WHERE;\nSELECT 3"), null)) {
+            results = stream.collect(Collectors.toList());
+        }
+
+        assertEquals(3, results.size());
+        assertTrue(results.get(0).isSuccess());
+
+        ParseResult failed = results.get(1);
+        assertFalse(failed.isSuccess());
+        assertNull(failed.getStatement());
+        assertEquals(2, failed.getBeginLine());
+        assertEquals(3, failed.getBeginColumn());
+        assertEquals(2, failed.getEndLine());
+        assertEquals(19, failed.getEndColumn());
+        assertEquals(12, failed.getBeginOffset());
+        assertEquals(29, failed.getEndOffset());
+
+        assertEquals("SELECT 3", results.get(2).getStatement().toString());
+    }
+
+    @Test
+    void testStopsEarly() {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < 1000; i++) {
+            builder.append("SELECT ").append(i).append(" FROM t;\n");
+        }
+        byte[] bytes = builder.toString().getBytes(StandardCharsets.UTF_8);
+
+        try (Stream<ParseResult> stream = CCJSqlParserUtil.streamStatements(
+                Channels.newChannel(new ByteArrayInputStream(bytes)), StandardCharsets.UTF_8,
+                parser -> parser.withAllowComplexParsing(true))) {
+            List<String> statements = stream.limit(3)
+                    .map(result -> result.getStatement().toString())
+                    .collect(Collectors.toList());
+            assertEquals(List.of("SELECT 0 FROM t", "SELECT 1 FROM t", "SELECT 2 FROM t"),
+                    statements);
+        }
+    }
+
+    @Test
+    void testReplacesMalformedInput() {
+        byte[] bytes = "SELECT 'a\u00e4' FROM t;\nSELECT 2 FROM t"
+                .getBytes(StandardCharsets.ISO_8859_1);
+
+        try (Stream<ParseResult> stream = CCJSqlParserUtil.streamStatements(
+                Channels.newChannel(new ByteArrayInputStream(bytes)), StandardCharsets.UTF_8,
+                null)) {
+            List<String> statements = stream
+                    .map(result -> result.getStatement().toString())
+                    .collect(Collectors.toList());
+            assertEquals(List.of("SELECT 'a\ufffd' FROM t", "SELECT 2 FROM t"), statements);
+        }
+    }
+}
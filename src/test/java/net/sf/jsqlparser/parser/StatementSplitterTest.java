@@ -0,0 +1,143 @@
+/*-
+ * #%L
+ * JSQLParser library
+ * %%
+ * Copyright (C) 2004 - 2025 JSQLParser
+ * %%
+ * Dual licensed under GNU LGPL 2.1 or Apache License 2.0
+ * #L%
+ */
+package net.sf.jsqlparser.parser;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+
+import net.sf.jsqlparser.JSQLParserException;
+import net.sf.jsqlparser.statement.Statements;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StatementSplitterTest {
+
+    private static List<String> split(String sqls) {
+        return StatementSplitter.split(sqls).stream()
+                .map(chunk -> chunk.getText().trim())
+                .collect(Collectors.toList());
+    }
+
+    @Test
+    void testSplitsAtSemicolons() {
+        assertEquals(List.of("SELECT 1", "SELECT 2", "SELECT 3"),
+                split("SELECT 1; SELECT 2;\n;\nSELECT 3"));
+    }
+
+    @Test
+    void testIgnoresQuotesAndComments() {
+        assertEquals(List.of("SELECT ';', \";\", `;` FROM t -- ;\nWHERE a = 'it'';s'",
+                "/* ; */ SELECT $$;$$, $tag$ ; $tag$, q'[;]'"),
+                split("SELECT ';', \";\", `;` FROM t -- ;\nWHERE a = 'it'';s';"
+                        + "/* ; */ SELECT $$;$$, $tag$ ; $tag$, q'[;]'"));
+    }
+
+    @Test
+    void testBackslashEscapes() {
+        String sqls = "SELECT 'a\\'; b'; SELECT 1";
+        assertEquals("SELECT 'a\\'; b'", StatementSplitter.split(sqls, true).get(0).getText());
+        assertEquals("SELECT 'a\\'", StatementSplitter.split(sqls, false).get(0).getText());
+    }
+
+    @Test
+    void testKeepsBlocks() {
+        assertEquals(List.of("BEGIN\n  SELECT 1;\n  IF a THEN SELECT 2; END IF;\nEND",
+                "SELECT CASE WHEN a THEN 1 END FROM t", "BEGIN TRANSACTION", "COMMIT"),
+                split("BEGIN\n  SELECT 1;\n  IF a THEN SELECT 2; END IF;\nEND;\n"
+                        + "SELECT CASE WHEN a THEN 1 END FROM t;\n"
+                        + "BEGIN TRANSACTION; COMMIT;"));
+    }
+
+    @Test
+    void testKeepsIfElse() {
+        assertEquals(List.of("IF a > 1 DROP TABLE t; ELSE DROP TABLE u", "SELECT 1"),
+                split("IF a > 1 DROP TABLE t; ELSE DROP TABLE u; SELECT 1"));
+    }
+
+    @Test
+    void testDelimiter() {
+        assertEquals(List.of("SELECT 1",
+                "CREATE TRIGGER t BEFORE INSERT ON a FOR EACH ROW BEGIN SET x = 1; END",
+                "SELECT 2"),
+                split("SELECT 1;\nDELIMITER //\n"
+                        + "CREATE TRIGGER t BEFORE INSERT ON a FOR EACH ROW BEGIN SET x = 1; END//\n"
+                        + "DELIMITER ;\nSELECT 2;"));
+    }
+
+    @Test
+    void testDollarDelimiter() {
+        // the index takes the $$ delimiters for a dollar quote
+        StructuralIndex index = StructuralIndex.of("DELIMITER $$\n"
+                + "CREATE PROCEDURE p() BEGIN SELECT '$$;'; END$$\nDELIMITER ;\nSELECT 2;", false);
+        assertEquals(List.of("CREATE PROCEDURE p() BEGIN SELECT '$$;'; END", "SELECT 2"),
+                StatementSplitter.split(index).stream().map(StatementSplitter.Chunk::getText)
+                        .collect(Collectors.toList()));
+    }
+
+    @Test
+    void testSlashAndGoLines() {
+        assertEquals(List.of("SELECT 1", "SELECT 2", "SELECT 3 / 4"),
+                split("SELECT 1\n/\nSELECT 2\n  go  \nSELECT 3 / 4"));
+    }
+
+    @Test
+    void testPositions() {
+        List<StatementSplitter.Chunk> chunks =
+                StatementSplitter.split("SELECT 1;\n-- a ;\n  SELECT 2; SELECT 3");
+        assertEquals(3, chunks.size());
+        assertEquals(1, chunks.get(0).getLine());
+        assertEquals(1, chunks.get(0).getColumn());
+        assertEquals(9, chunks.get(1).getOffset());
+        assertEquals(1, chunks.get(1).getLine());
+        assertEquals(10, chunks.get(1).getColumn());
+        assertEquals(3, chunks.get(2).getLine());
+        assertEquals(12, chunks.get(2).getColumn());
+    }
+
+    @Test
+    void testParseStatementsParallel() throws JSQLParserException {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < 2000; i++) {
+            builder.append("SELECT a, b FROM t").append(i).append(" WHERE c = '")
+                    .append(i).append(";';\n");
+        }
+        String sqls = builder.toString();
+
+        Statements statements = CCJSqlParserUtil.parseStatementsParallel(sqls);
+        assertEquals(CCJSqlParserUtil.parseStatements(sqls).toString(), statements.toString());
+        assertEquals(2000, statements.size());
+
+        assertNull(CCJSqlParserUtil.parseStatementsParallel(""));
+        assertTrue(CCJSqlParserUtil.parseStatementsParallel("-- nothing").isEmpty());
+    }
+
+    @Test
+    void testParseStatementsParallelWithoutStatements() throws JSQLParserException {
+        for (String sqls : new String[] {"  ", "\n\t", "-- c", "/* c */", " ; ;"}) {
+            assertEquals(CCJSqlParserUtil.parseStatements(sqls).toString(),
+                    CCJSqlParserUtil.parseStatementsParallel(sqls).toString());
+        }
+    }
+
+    @Test
+    void testParseStatementsParallelReportsPosition() {
+        String sqls = "SELECT 1;\nSELECT 2;\nSELECT 3;\n  SELECT FROM;\nSELECT 5 FROM;";
+        JSQLParserException exception = assertThrows(JSQLParserException.class,
+                () -> CCJSqlParserUtil.parseStatementsParallel(sqls, new ForkJoinPool(2),
+                        parser -> parser.withAllowComplexParsing(true)));
+        assertTrue(exception.getMessage().startsWith("Statement at line 4, column 10 (offset 39)"),
+                exception.getMessage());
+    }
+}
@@ -0,0 +1,46 @@
+/*-
+ * #%L
+ * JSQLParser library
+ * %%
+ * Copyright (C) 2004 - 2025 JSQLParser
+ * %%
+ * Dual licensed under GNU LGPL 2.1 or Apache License 2.0
+ * #L%
+ */
+package net.sf.jsqlparser.parser;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class StructuralIndexTest {
+
+    @Test
+    void testIgnoresBracketsInQuotesAndComments() {
+        StructuralIndex index = StructuralIndex.of(
+                "SELECT f(g(1)), ')(', \"a(\" -- (((\nFROM t /* ) */ WHERE x IN (1)");
+        assertEquals(2, index.getMaxDepth());
+        assertEquals(0, index.getOpenDepth());
+        assertEquals(-1, index.getUnbalancedPosition());
+        assertEquals(4, index.getRangeCount());
+        assertEquals(StructuralIndex.STRING, index.getRangeKind(0));
+        assertEquals(StructuralIndex.QUOTED_IDENTIFIER, index.getRangeKind(1));
+        assertEquals(StructuralIndex.COMMENT, index.getRangeKind(2));
+        assertEquals(0, index.rangeAt(index.getRangeBegin(0) + 1));
+        assertEquals(-1, index.rangeAt(0));
+    }
+
+    @Test
+    void testUnbalancedPosition() {
+        assertEquals(14, StructuralIndex.of("SELECT * from ( test ").getUnbalancedPosition());
+        assertEquals(8, StructuralIndex.of("SELECT 1) FROM t").getUnbalancedPosition());
+        assertEquals(9, StructuralIndex.of("SELECT [a)]").getUnbalancedPosition());
+        assertEquals(7, StructuralIndex.of("SELECT 'abc").getUnbalancedPosition());
+    }
+
+    @Test
+    void testWithoutEmptyLines() {
+        assertEquals("\nSELECT 'a\n\nb'\nFROM t",
+                StructuralIndex.of("SELECT 'a\n\nb'\n\n\nFROM t\n").withoutEmptyLines());
+    }
+}
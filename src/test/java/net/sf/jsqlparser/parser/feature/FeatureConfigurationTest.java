@@ -9,9 +9,13 @@
  */
 package net.sf.jsqlparser.parser.feature;
 
+import net.sf.jsqlparser.parser.CCJSqlParser;
+import net.sf.jsqlparser.parser.CCJSqlParserUtil;
+import net.sf.jsqlparser.parser.ParseException;
 import org.junit.jupiter.api.Test;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 public class FeatureConfigurationTest {
     @Test
@@ -23,4 +27,103 @@ public class FeatureConfigurationTest {
 
         assertThat(timeOut).isEqualTo(123L);
     }
+
+    @Test
+    public void freeze() {
+        FeatureConfiguration featureConfiguration = new FeatureConfiguration()
+                .setValue(Feature.allowSquareBracketQuotation, true)
+                .setValue(Feature.timeOut, "123")
+                .setValue(Feature.allowedNestingDepth, -1);
+
+        FrozenFeatureConfiguration frozen = featureConfiguration.freeze();
+
+        assertThat(frozen.getAsBoolean(Feature.allowSquareBracketQuotation)).isTrue();
+        assertThat(frozen.getAsBoolean(Feature.allowBackslashEscapeCharacter)).isFalse();
+        assertThat(frozen.getAsLong(Feature.timeOut)).isEqualTo(123L);
+        assertThat(frozen.getAsInt(Feature.allowedNestingDepth)).isEqualTo(-1);
+        assertThat(frozen.getAsString(Feature.parserExecutor)).isEqualTo("SHARED");
+        assertThat(frozen.getAsString(Feature.dialect)).isNull();
+        assertThatThrownBy(() -> frozen.getAsBoolean(Feature.select))
+                .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> frozen.getAsLong(Feature.parserExecutor))
+                .isInstanceOf(NumberFormatException.class);
+    }
+
+    @Test
+    public void freezeIsCachedUntilChanged() {
+        FeatureConfiguration featureConfiguration = new FeatureConfiguration();
+        FrozenFeatureConfiguration frozen = featureConfiguration.freeze();
+        assertThat(featureConfiguration.freeze()).isSameAs(frozen);
+        assertThat(new FeatureConfiguration().freeze()).isSameAs(frozen);
+
+        featureConfiguration.setValue(Feature.allowComplexParsing, false);
+        assertThat(featureConfiguration.freeze()).isNotSameAs(frozen);
+        assertThat(featureConfiguration.getAsBoolean(Feature.allowComplexParsing)).isFalse();
+        assertThat(frozen.getAsBoolean(Feature.allowComplexParsing)).isTrue();
+
+        featureConfiguration.reset();
+        assertThat(featureConfiguration.freeze()).isSameAs(frozen);
+    }
+
+    @Test
+    public void thaw() {
+        FrozenFeatureConfiguration frozen =
+                new FeatureConfiguration().setValue(Feature.timeOut, 42L).freeze();
+
+        FeatureConfiguration featureConfiguration = frozen.thaw();
+        assertThat(featureConfiguration.freeze()).isSameAs(frozen);
+
+        featureConfiguration.setValue(Feature.timeOut, 43L);
+        assertThat(featureConfiguration.getAsLong(Feature.timeOut)).isEqualTo(43L);
+        assertThat(frozen.getAsLong(Feature.timeOut)).isEqualTo(42L);
+    }
+
+    @Test
+    public void sharedByParser() throws ParseException {
+        FrozenFeatureConfiguration frozen = new FeatureConfiguration()
+                .setValue(Feature.allowSquareBracketQuotation, true).freeze();
+
+        CCJSqlParser parser =
+                CCJSqlParserUtil.newParser("SELECT [a] FROM t").withConfiguration(frozen);
+        assertThat(parser.getFrozenConfiguration()).isSameAs(frozen);
+        assertThat(parser.Statement().toString()).isEqualTo("SELECT [a] FROM t");
+
+        // modifying the features copies the snapshot
+        parser.withSquareBracketQuotation(false);
+        assertThat(parser.getFrozenConfiguration()).isNotSameAs(frozen);
+        assertThat(parser.getAsBoolean(Feature.allowSquareBracketQuotation)).isFalse();
+        assertThat(frozen.getAsBoolean(Feature.allowSquareBracketQuotation)).isTrue();
+    }
+
+    @Test
+    public void withDerivesSnapshots() {
+        FrozenFeatureConfiguration defaults = new FeatureConfiguration().freeze();
+
+        FrozenFeatureConfiguration simple = defaults.with(Feature.allowComplexParsing, false);
+        assertThat(simple.getAsBoolean(Feature.allowComplexParsing)).isFalse();
+        assertThat(defaults.getAsBoolean(Feature.allowComplexParsing)).isTrue();
+
+        // switching a boolean feature compiles each snapshot only once
+        assertThat(defaults.with(Feature.allowComplexParsing, false)).isSameAs(simple);
+        assertThat(simple.with(Feature.allowComplexParsing, true)).isSameAs(defaults);
+        assertThat(defaults.with(Feature.allowComplexParsing, true)).isSameAs(defaults);
+        assertThat(defaults.with(Feature.timeOut, 42L).getAsLong(Feature.timeOut)).isEqualTo(42L);
+    }
+
+    @Test
+    public void parserKeepsSharedSnapshot() {
+        FrozenFeatureConfiguration frozen = new FeatureConfiguration()
+                .setValue(Feature.allowSquareBracketQuotation, true).freeze();
+        CCJSqlParser parser =
+                CCJSqlParserUtil.newParser("SELECT [a] FROM t").withConfiguration(frozen);
+
+        // reading the configuration has no side effect
+        FeatureConfiguration configuration = parser.getConfiguration();
+        assertThat(configuration.getAsBoolean(Feature.allowSquareBracketQuotation)).isTrue();
+        assertThat(parser.getFrozenConfiguration()).isSameAs(frozen);
+
+        parser.withAllowComplexParsing(false).withAllowComplexParsing(true);
+        assertThat(parser.getFrozenConfiguration()).isSameAs(frozen);
+        assertThat(parser.getConfiguration()).isSameAs(configuration);
+    }
 }
@@ -112,4 +112,39 @@ public class TableTest {
         assertEquals("s", table.getUnquotedSchemaName());
         assertEquals("t", table.getUnquotedName());
     }
+
+    @Test
+    void testCompactNamePartsStayMutable() {
+        Table table = new Table("t");
+        assertEquals(List.of("t"), table.getNameParts());
+
+        table.getNameParts().add("s");
+        table.getNamePartDelimiters().add(".");
+        assertEquals("s.t", table.getFullyQualifiedName());
+
+        table.setSchemaName(null);
+        table.setName("u");
+        assertEquals("u", table.getFullyQualifiedName());
+        assertNull(table.getPivot());
+        assertNull(table.getSampleClause());
+        assertNull(table.getResolvedTable());
+    }
+
+    @Test
+    void testNamePartsFollowTheName() {
+        Table table = new Table("t");
+        List<String> parts = table.getNameParts();
+
+        table.setName("u");
+        assertEquals(List.of("u"), parts);
+
+        table.setSchemaName("s");
+        assertEquals(List.of("u", "s"), parts);
+
+        parts.set(0, "v");
+        table.setSchemaName(null);
+        assertEquals(List.of("v"), table.getNameParts());
+        assertEquals(List.of("v"), parts);
+        assertEquals("v", table.getFullyQualifiedName());
+    }
 }
@@ -0,0 +1,55 @@
+/*-
+ * #%L
+ * JSQLParser library
+ * %%
+ * Copyright (C) 2004 - 2025 JSQLParser
+ * %%
+ * Dual licensed under GNU LGPL 2.1 or Apache License 2.0
+ * #L%
+ */
+package net.sf.jsqlparser.statement.select;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import net.sf.jsqlparser.parser.CCJSqlParser;
+import net.sf.jsqlparser.parser.CCJSqlParserUtil;
+import net.sf.jsqlparser.statement.Statement;
+
+/**
+ * Prints the heap retained by parsed statements of the common kind, i.e. tables and plain selects
+ * without any of their rarely used clauses, which are kept in lazily created side structures.
+ */
+public class StatementMemoryTest {
+
+    private static final String[] STATEMENTS = {
+            "SELECT * FROM k WHERE id > 4",
+            "SELECT a, b, c FROM s.t1 AS x JOIN s.t2 AS y ON x.id = y.id WHERE x.a = ? ORDER BY b",
+            "SELECT count(*) FROM orders GROUP BY customer_id HAVING count(*) > 1",
+            "SELECT a FROM t1 WHERE b IN (SELECT b FROM t2 WHERE c = 'x') LIMIT 10"};
+
+    private static final int COUNT = 20000;
+
+    public static void main(String[] args) throws Exception {
+        for (String sqlStr : STATEMENTS) {
+            long before = usedMemory();
+            List<Statement> statements = new ArrayList<>(COUNT);
+            for (int i = 0; i < COUNT; i++) {
+                // without the AST, so only the model itself is retained
+                CCJSqlParser parser = CCJSqlParserUtil.newParser(sqlStr).withBuildAST(false);
+                statements.add(parser.Statement());
+            }
+            long after = usedMemory();
+            System.out.println((after - before) / statements.size() + " bytes per statement: "
+                    + sqlStr);
+        }
+    }
+
+    private static long usedMemory() throws InterruptedException {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+            Thread.sleep(50);
+        }
+        return Runtime.getRuntime().totalMemory() - Runtime.getRuntime().freeMemory();
+    }
+}
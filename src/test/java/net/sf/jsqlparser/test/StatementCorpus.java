@@ -0,0 +1,67 @@
+/*-
+ * #%L
+ * JSQLParser library
+ * %%
+ * Copyright (C) 2004 - 2025 JSQLParser
+ * %%
+ * Dual licensed under GNU LGPL 2.1 or Apache License 2.0
+ * #L%
+ */
+package net.sf.jsqlparser.test;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * The statements, which the tests walking the whole model (e.g. copying, encoding or de-parsing
+ * it) run over: a few statements of each kind and all the Oracle tests known to be parsed and
+ * de-parsed successfully. Use it as <code>@MethodSource(StatementCorpus.SOURCE)</code>.
+ */
+public final class StatementCorpus {
+    public static final String SOURCE = "net.sf.jsqlparser.test.StatementCorpus#statements";
+
+    private static final Path ORACLE_TESTS =
+            Paths.get("src/test/resources/net/sf/jsqlparser/statement/select/oracle-tests");
+
+    private static final List<String> STATEMENTS = List.of(
+            "SELECT a AS x, b FROM t1 AS s1 JOIN t2 ON t1.id = t2.id WHERE c IN (?1, ?2)",
+            "WITH w AS (SELECT 1 AS one) SELECT * FROM w UNION ALL SELECT 2 ORDER BY 1",
+            "INSERT INTO t (a, b) VALUES (1, 'x'), (2, 'y') ON CONFLICT DO NOTHING",
+            "UPDATE t SET a = a + 1.5 WHERE b = :name RETURNING a",
+            "DELETE FROM t WHERE a = 1 AND b IS NULL",
+            "CREATE TABLE t (a INT PRIMARY KEY, b VARCHAR(10) NOT NULL)",
+            "ALTER TABLE t ADD COLUMN c DATE",
+            "MERGE INTO t USING s ON (t.id = s.id) WHEN MATCHED THEN UPDATE SET t.a = s.a");
+
+    private StatementCorpus() {}
+
+    /**
+     * @return the SQL texts of the statements
+     */
+    public static Stream<String> statements() {
+        try (Stream<Path> files = Files.list(ORACLE_TESTS)) {
+            List<String> oracleTests = files.filter(Files::isRegularFile).sorted()
+                    .map(StatementCorpus::read)
+                    .filter(sql -> sql.contains("@SUCCESSFULLY_PARSED_AND_DEPARSED"))
+                    .collect(Collectors.toList());
+            return Stream.concat(STATEMENTS.stream(), oracleTests.stream());
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private static String read(Path file) {
+        try {
+            return new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+}
@@ -0,0 +1,117 @@
+/*-
+ * #%L
+ * JSQLParser library
+ * %%
+ * Copyright (C) 2004 - 2025 JSQLParser
+ * %%
+ * Dual licensed under GNU LGPL 2.1 or Apache License 2.0
+ * #L%
+ */
+package net.sf.jsqlparser.util;
+
+import java.util.List;
+
+import net.sf.jsqlparser.JSQLParserException;
+import net.sf.jsqlparser.expression.Expression;
+import net.sf.jsqlparser.expression.LongValue;
+import net.sf.jsqlparser.expression.operators.conditional.AndExpression;
+import net.sf.jsqlparser.expression.operators.relational.EqualsTo;
+import net.sf.jsqlparser.parser.CCJSqlParserUtil;
+import net.sf.jsqlparser.schema.Column;
+import net.sf.jsqlparser.schema.Table;
+import net.sf.jsqlparser.statement.select.Join;
+import net.sf.jsqlparser.statement.select.PlainSelect;
+import net.sf.jsqlparser.statement.select.Select;
+import net.sf.jsqlparser.statement.select.SelectItem;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class FrozenStatementTest {
+
+    @Test
+    void testUpdateCopiesOnlyThePath() throws JSQLParserException {
+        String sqlStr = "SELECT a, b FROM t1 WHERE c = 1";
+        FrozenStatement<PlainSelect> frozen =
+                FrozenStatement.freeze((PlainSelect) CCJSqlParserUtil.parse(sqlStr), sqlStr);
+        PlainSelect original = frozen.get();
+
+        FrozenStatement<PlainSelect> renamed = frozen.update((Table) original.getFromItem(),
+                table -> table.setSchemaName("tenant"));
+
+        assertEquals("SELECT a, b FROM tenant.t1 WHERE c = 1", renamed.toString());
+        assertEquals(sqlStr, frozen.toString());
+        assertNotSame(original, renamed.get());
+        assertSame(original.getWhere(), renamed.get().getWhere());
+        assertSame(original.getSelectItem(0), renamed.get().getSelectItem(0));
+    }
+
+    @Test
+    void testUpdateAllNestedSelects() throws JSQLParserException {
+        String sqlStr = "SELECT a FROM t1 WHERE b IN (SELECT c FROM t2)";
+        FrozenStatement<Select> frozen =
+                FrozenStatement.freeze((Select) CCJSqlParserUtil.parse(sqlStr));
+        Expression tenantFilter = new EqualsTo(new Column("tenant_id"), new LongValue(7));
+
+        FrozenStatement<Select> filtered = frozen.updateAll(PlainSelect.class,
+                select -> select.setWhere(select.getWhere() == null
+                        ? tenantFilter
+                        : new AndExpression(select.getWhere(), tenantFilter)));
+
+        assertEquals("SELECT a FROM t1 WHERE b IN (SELECT c FROM t2 WHERE tenant_id = 7) "
+                + "AND tenant_id = 7", filtered.toString());
+        assertEquals(sqlStr, frozen.get().toString());
+        assertSame(frozen, frozen.updateAll(Join.class, join -> join.setLeft(true)));
+    }
+
+    @Test
+    void testUpdateAlongTheAncestors() throws JSQLParserException {
+        FrozenStatement<PlainSelect> frozen = FrozenStatement.freeze(
+                (PlainSelect) CCJSqlParserUtil.parse("SELECT a AS x, b FROM t1 WHERE c = 1"));
+        PlainSelect original = frozen.get();
+        EqualsTo where = (EqualsTo) original.getWhere();
+        SelectItem<?> item = original.getSelectItem(0);
+
+        FrozenStatement<PlainSelect> renamed = frozen.update(List.of(original, where),
+                (Column) where.getLeftExpression(), column -> column.setColumnName("d"));
+        assertEquals("SELECT a AS x, b FROM t1 WHERE d = 1", renamed.toString());
+        assertSame(original.getFromItem(), renamed.get().getFromItem());
+        assertSame(original.getSelectItem(0), renamed.get().getSelectItem(0));
+
+        // Alias has no no-argument constructor
+        FrozenStatement<PlainSelect> aliased = renamed.update(
+                List.of(renamed.get(), renamed.get().getSelectItem(0)),
+                renamed.get().getSelectItem(0).getAlias(), alias -> alias.setName("y"));
+        assertEquals("SELECT a AS y, b FROM t1 WHERE d = 1", aliased.toString());
+        assertSame(renamed.get().getWhere(), aliased.get().getWhere());
+
+        FrozenStatement<PlainSelect> replaced =
+                frozen.replace(List.of(original), item, original.getSelectItem(1));
+        assertEquals("SELECT b, b FROM t1 WHERE c = 1", replaced.toString());
+        assertEquals("SELECT a AS x, b FROM t1 WHERE c = 1", frozen.toString());
+
+        assertThrows(IllegalArgumentException.class,
+                () -> frozen.replace(List.of(original), where.getLeftExpression(),
+                        new Column("e")));
+        assertThrows(IllegalArgumentException.class,
+                () -> frozen.replace(List.of(where), where.getLeftExpression(),
+                        new Column("e")));
+    }
+
+    @Test
+    void testReplace() throws JSQLParserException {
+        FrozenStatement<PlainSelect> frozen = FrozenStatement
+                .freeze((PlainSelect) CCJSqlParserUtil.parse("SELECT a FROM t1 WHERE c = 1"));
+
+        FrozenStatement<PlainSelect> replaced =
+                frozen.replace(frozen.get().getFromItem(), new Table("t2"));
+
+        assertEquals("SELECT a FROM t2 WHERE c = 1", replaced.toString());
+        assertEquals("SELECT a FROM t1 WHERE c = 1", frozen.toString());
+        assertThrows(IllegalArgumentException.class,
+                () -> frozen.replace(new Table("t3"), new Table("t4")));
+    }
+}
@@ -0,0 +1,207 @@
+/*-
+ * #%L
+ * JSQLParser library
+ * %%
+ * Copyright (C) 2004 - 2025 JSQLParser
+ * %%
+ * Dual licensed under GNU LGPL 2.1 or Apache License 2.0
+ * #L%
+ */
+package net.sf.jsqlparser.util;
+
+import net.sf.jsqlparser.JSQLParserException;
+import net.sf.jsqlparser.expression.NotExpression;
+import net.sf.jsqlparser.parser.CCJSqlParserUtil;
+import net.sf.jsqlparser.schema.Column;
+import net.sf.jsqlparser.schema.Table;
+import net.sf.jsqlparser.statement.Statement;
+import net.sf.jsqlparser.statement.Statements;
+import net.sf.jsqlparser.statement.select.PlainSelect;
+import net.sf.jsqlparser.test.StatementCorpus;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ModelCodecTest {
+
+    @ParameterizedTest
+    @MethodSource(StatementCorpus.SOURCE)
+    void testRoundTrip(String sqlStr) throws JSQLParserException {
+        Statement statement = CCJSqlParserUtil.parse(sqlStr);
+        Statement decoded = ModelCodec.decode(ModelCodec.encode(statement));
+
+        assertNotSame(statement, decoded);
+        assertEquals(statement.toString(), decoded.toString());
+        assertTrue(ModelEquivalence.equals(statement, decoded));
+    }
+
+    @Test
+    void testDates() throws JSQLParserException {
+        String sqlStr = "SELECT {d '2024-02-29'}, {t '12:34:56'}, "
+                + "{ts '2024-02-29 12:34:56.123456'}";
+        Statement statement = CCJSqlParserUtil.parse(sqlStr);
+
+        assertEquals(sqlStr, ModelCodec.decode(ModelCodec.encode(statement)).toString());
+    }
+
+    @Test
+    void testDecodeOnDemand() throws JSQLParserException {
+        Statements statements = CCJSqlParserUtil
+                .parseStatements("SELECT a FROM t; DELETE FROM t WHERE a = 1; SELECT b FROM u");
+        ByteBuffer buffer = ModelCodec.encode(statements);
+
+        ModelCodec.Decoded decoded = ModelCodec.open(buffer);
+        assertEquals(3, decoded.size());
+        assertEquals("SELECT b FROM u", decoded.get(2).toString());
+        assertEquals("DELETE FROM t WHERE a = 1", decoded.get(1).toString());
+        assertEquals(statements.toString(), decoded.getAll().toString());
+        assertNotSame(decoded.get(0), decoded.get(0));
+        assertTrue(buffer.remaining() < statements.toString().length() * 4);
+    }
+
+    @Test
+    void testInvalidBuffer() {
+        assertThrows(IllegalArgumentException.class, () -> ModelCodec
+                .open(ByteBuffer.wrap("SELECT 1".getBytes(StandardCharsets.UTF_8))));
+    }
+
+    @Test
+    void testVersionSkew() throws JSQLParserException {
+        ByteBuffer buffer = ModelCodec.encode(CCJSqlParserUtil.parse("SELECT a FROM t"));
+
+        // a field unknown to this version is skipped
+        PlainSelect select = (PlainSelect) ModelCodec
+                .decode(replaceString(buffer, "columnName", "renamedColumnName"));
+        assertNull(((Column) select.getSelectItem(0).getExpression()).getColumnName());
+        assertEquals("t", ((Table) select.getFromItem()).getName());
+
+        byte[] bytes = toArray(buffer);
+        bytes[4] = ModelCodec.VERSION + 1;
+        assertThrows(IllegalArgumentException.class,
+                () -> ModelCodec.open(ByteBuffer.wrap(bytes)));
+    }
+
+    @Test
+    void testTruncatedBuffer() throws JSQLParserException {
+        byte[] bytes = toArray(ModelCodec.encode(CCJSqlParserUtil
+                .parseStatements("SELECT a FROM t WHERE b = 'x'; DELETE FROM t WHERE a = 1")));
+
+        for (int length = 0; length < bytes.length; length++) {
+            ByteBuffer truncated = ByteBuffer.wrap(bytes, 0, length);
+            assertThrows(IllegalArgumentException.class,
+                    () -> ModelCodec.open(truncated).getAll(), "length " + length);
+        }
+    }
+
+    @Test
+    void testRejectsOtherClasses() throws JSQLParserException {
+        ByteBuffer buffer = ModelCodec.encode(CCJSqlParserUtil.parse("SELECT a FROM t"));
+
+        assertThrows(IllegalArgumentException.class, () -> ModelCodec.open(
+                replaceString(buffer, Column.class.getName(), ProcessBuilder.class.getName())));
+        assertThrows(IllegalArgumentException.class, () -> ModelCodec.open(
+                replaceString(buffer, Column.class.getName(), "net.sf.jsqlparser.Unknown")));
+        // outside of the expression, schema and statement packages
+        assertThrows(IllegalArgumentException.class, () -> ModelCodec.open(
+                replaceString(buffer, Column.class.getName(), ModelCodec.class.getName())));
+    }
+
+    @Test
+    void testMaximumDepth() {
+        // LIST [LIST [LIST [...]]]
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        for (int i = 0; i < 100000; i++) {
+            body.write(12);
+            body.write(1);
+        }
+        body.write(0);
+        ByteBuffer buffer = encoded(new String[0], body.toByteArray());
+        assertThrows(IllegalArgumentException.class, () -> ModelCodec.decode(buffer));
+
+        NotExpression expression = new NotExpression(new Column("a"));
+        for (int i = 0; i < ModelCodec.MAX_DEPTH; i++) {
+            expression = new NotExpression(expression);
+        }
+        PlainSelect select = new PlainSelect().withWhere(expression);
+        assertThrows(IllegalArgumentException.class, () -> ModelCodec.encode(select));
+    }
+
+    @Test
+    void testArrayElementType() {
+        // ARRAY of Column [STRING "net.sf.jsqlparser.schema.Column"]
+        ByteBuffer buffer = encoded(new String[] {Column.class.getName()},
+                new byte[] {16, 0, 1, 3, 0});
+        assertThrows(IllegalArgumentException.class, () -> ModelCodec.decode(buffer));
+    }
+
+    /**
+     * @param classes the names of the classes without fields, also the only strings
+     * @param body the single encoded statement
+     * @return the buffer holding the header and the statement
+     */
+    private static ByteBuffer encoded(String[] classes, byte[] body) {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        output.writeBytes(new byte[] {0x4A, 0x53, 0x51, 0x42});
+        writeVarInt(output, ModelCodec.VERSION);
+        writeVarInt(output, classes.length);
+        for (String name : classes) {
+            writeVarInt(output, name.length());
+            output.writeBytes(name.getBytes(StandardCharsets.ISO_8859_1));
+        }
+        writeVarInt(output, classes.length);
+        for (int i = 0; i < classes.length; i++) {
+            writeVarInt(output, i);
+            writeVarInt(output, 0);
+        }
+        writeVarInt(output, 1);
+        writeVarInt(output, body.length);
+        output.writeBytes(body);
+        return ByteBuffer.wrap(output.toByteArray());
+    }
+
+    private static void writeVarInt(ByteArrayOutputStream output, int value) {
+        while ((value & ~0x7F) != 0) {
+            output.write((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        output.write(value);
+    }
+
+    private static byte[] toArray(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.duplicate().get(bytes);
+        return bytes;
+    }
+
+    /**
+     * @return the buffer with a string of its header replaced
+     */
+    private static ByteBuffer replaceString(ByteBuffer buffer, String string, String replacement) {
+        byte[] bytes = toArray(buffer);
+        byte[] search = (string.length() + string).getBytes(StandardCharsets.ISO_8859_1);
+        search[0] = (byte) string.length();
+        int index = 0;
+        while (!Arrays.equals(search, 0, search.length, bytes, index, index + search.length)) {
+            index++;
+        }
+        ByteBuffer replaced = ByteBuffer.allocate(bytes.length - string.length()
+                + replacement.length());
+        replaced.put(bytes, 0, index);
+        replaced.put((byte) replacement.length());
+        replaced.put(replacement.getBytes(StandardCharsets.ISO_8859_1));
+        int end = index + search.length;
+        replaced.put(bytes, end, bytes.length - end);
+        return replaced.flip();
+    }
+}
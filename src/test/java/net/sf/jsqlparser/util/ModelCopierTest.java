@@ -0,0 +1,180 @@
+/*-
+ * #%L
+ * JSQLParser library
+ * %%
+ * Copyright (C) 2004 - 2025 JSQLParser
+ * %%
+ * Dual licensed under GNU LGPL 2.1 or Apache License 2.0
+ * #L%
+ */
+package net.sf.jsqlparser.util;
+
+import net.sf.jsqlparser.JSQLParserException;
+import net.sf.jsqlparser.expression.Alias;
+import net.sf.jsqlparser.expression.JdbcParameter;
+import net.sf.jsqlparser.expression.LongValue;
+import net.sf.jsqlparser.expression.OracleNamedFunctionParameter;
+import net.sf.jsqlparser.expression.TimestampValue;
+import net.sf.jsqlparser.expression.operators.relational.EqualsTo;
+import net.sf.jsqlparser.expression.operators.relational.ExpressionList;
+import net.sf.jsqlparser.parser.CCJSqlParserUtil;
+import net.sf.jsqlparser.schema.Column;
+import net.sf.jsqlparser.schema.Server;
+import net.sf.jsqlparser.schema.Table;
+import net.sf.jsqlparser.statement.Statement;
+import net.sf.jsqlparser.statement.Statements;
+import net.sf.jsqlparser.statement.alter.RenameTableStatement;
+import net.sf.jsqlparser.statement.select.PlainSelect;
+import net.sf.jsqlparser.statement.select.SelectItem;
+import net.sf.jsqlparser.test.StatementCorpus;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.SortedMap;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ModelCopierTest {
+
+    @ParameterizedTest
+    @MethodSource(StatementCorpus.SOURCE)
+    void testDeepCopy(String sqlStr) throws JSQLParserException {
+        Statement statement = CCJSqlParserUtil.parse(sqlStr);
+        Statement copy = ModelCopier.deepCopy(statement);
+
+        assertNotSame(statement, copy);
+        assertEquals(statement.toString(), copy.toString());
+        assertTrue(ModelEquivalence.equals(statement, copy));
+    }
+
+    @Test
+    void testSharedReferences() {
+        Column column = new Column("a");
+        Alias alias = new Alias("x", false);
+        EqualsTo equalsTo = new EqualsTo(column, column);
+        List<SelectItem<?>> items = List.of(new SelectItem<>(equalsTo, alias),
+                new SelectItem<>(column, alias));
+
+        List<SelectItem<?>> copy = ModelCopier.deepCopy(items);
+
+        EqualsTo equalsToCopy = (EqualsTo) copy.get(0).getExpression();
+        assertNotSame(column, equalsToCopy.getLeftExpression());
+        assertSame(equalsToCopy.getLeftExpression(), equalsToCopy.getRightExpression());
+        assertSame(equalsToCopy.getLeftExpression(), copy.get(1).getExpression());
+        assertNotSame(alias, copy.get(0).getAlias());
+        assertSame(copy.get(0).getAlias(), copy.get(1).getAlias());
+    }
+
+    @Test
+    void testWithoutNoArgumentConstructor() {
+        Alias alias = new Alias("x", false);
+        alias.setAliasColumns(List.of(new Alias.AliasColumn("c")));
+        Alias aliasCopy = ModelCopier.deepCopy(alias);
+        assertNotSame(alias, aliasCopy);
+        assertEquals(alias.toString(), aliasCopy.toString());
+        assertNotSame(alias.getAliasColumns().get(0), aliasCopy.getAliasColumns().get(0));
+
+        Server server = new Server("srv", "inst");
+        Server serverCopy = ModelCopier.deepCopy(server);
+        assertNotSame(server, serverCopy);
+        assertEquals(server.toString(), serverCopy.toString());
+
+        ExpressionList<Column> list = new ExpressionList<>(new Column("a"), new Column("b"));
+        ExpressionList<Column> listCopy = ModelCopier.deepCopy(list);
+        assertEquals(list.toString(), listCopy.toString());
+        assertNotSame(list.get(1), listCopy.get(1));
+
+        // constructors rejecting null
+        OracleNamedFunctionParameter parameter =
+                new OracleNamedFunctionParameter("p", new LongValue(1));
+        OracleNamedFunctionParameter parameterCopy = ModelCopier.deepCopy(parameter);
+        assertEquals(parameter.toString(), parameterCopy.toString());
+        assertNotSame(parameter.getExpression(), parameterCopy.getExpression());
+
+        RenameTableStatement rename = new RenameTableStatement(new Table("a"), new Table("b"));
+        assertEquals(rename.toString(), ModelCopier.deepCopy(rename).toString());
+    }
+
+    @Test
+    void testWithoutFactory() {
+        // no constructor but the no-argument one or an explicit factory is ever called
+        assertThrows(IllegalStateException.class,
+                () -> ModelCopier.deepCopy(new WithoutFactory(List.of())));
+        assertEquals(1, WithoutFactory.created);
+    }
+
+    @Test
+    void testMutableValues() {
+        TimestampValue timestamp = new TimestampValue("'2024-02-29 12:34:56.123456789'");
+        TimestampValue timestampCopy = ModelCopier.deepCopy(timestamp);
+        assertNotSame(timestamp.getValue(), timestampCopy.getValue());
+        assertEquals(timestamp.getValue(), timestampCopy.getValue());
+
+        SortedSet<String> set = new TreeSet<>(Comparator.reverseOrder());
+        set.addAll(List.of("a", "c", "b"));
+        SortedSet<String> setCopy = ModelCopier.deepCopy(set);
+        assertEquals(List.of("c", "b", "a"), List.copyOf(setCopy));
+        assertSame(set.comparator(), setCopy.comparator());
+
+        SortedMap<String, Integer> map = new TreeMap<>(Comparator.reverseOrder());
+        map.put("a", 1);
+        map.put("b", 2);
+        SortedMap<String, Integer> mapCopy = ModelCopier.deepCopy(map);
+        assertEquals("b", mapCopy.firstKey());
+        assertSame(map.comparator(), mapCopy.comparator());
+    }
+
+    @Test
+    void testCopyIsIndependent() throws JSQLParserException {
+        String sqlStr = "SELECT a FROM t1 WHERE b = ?3 AND c = 5";
+        PlainSelect select = (PlainSelect) CCJSqlParserUtil.parse(sqlStr);
+        PlainSelect copy = ModelCopier.deepCopy(select);
+
+        ((Table) copy.getFromItem()).setName("t2");
+        assertEquals(sqlStr, select.toString());
+        assertEquals("SELECT a FROM t2 WHERE b = ?3 AND c = 5", copy.toString());
+        assertNull(copy.getASTNode());
+    }
+
+    @Test
+    void testSharedLiterals() throws JSQLParserException {
+        Statements statements = CCJSqlParserUtil.parseStatements("SELECT 1 WHERE a = ?; SELECT 2");
+        Statements copy = new ModelCopier().withSharedLiterals(true).copy(statements);
+
+        assertEquals(statements.toString(), copy.toString());
+        PlainSelect select = (PlainSelect) statements.get(0);
+        PlainSelect selectCopy = (PlainSelect) copy.get(0);
+        assertSame(select.getSelectItem(0).getExpression(),
+                selectCopy.getSelectItem(0).getExpression());
+        JdbcParameter parameter =
+                (JdbcParameter) ((EqualsTo) select.getWhere()).getRightExpression();
+        JdbcParameter parameterCopy =
+                (JdbcParameter) ((EqualsTo) selectCopy.getWhere()).getRightExpression();
+        assertNotSame(parameter, parameterCopy);
+        assertEquals(parameter.getIndex(), parameterCopy.getIndex());
+        assertEquals(LongValue.class, selectCopy.getSelectItem(0).getExpression().getClass());
+    }
+
+    private static final class WithoutFactory {
+        private static int created = 0;
+
+        @SuppressWarnings("unused")
+        private final List<String> names;
+
+        private WithoutFactory(List<String> names) {
+            this.names = List.copyOf(names);
+            created++;
+        }
+    }
+}
@@ -0,0 +1,83 @@
+/*-
+ * #%L
+ * JSQLParser library
+ * %%
+ * Copyright (C) 2004 - 2025 JSQLParser
+ * %%
+ * Dual licensed under GNU LGPL 2.1 or Apache License 2.0
+ * #L%
+ */
+package net.sf.jsqlparser.util;
+
+import net.sf.jsqlparser.JSQLParserException;
+import net.sf.jsqlparser.expression.Expression;
+import net.sf.jsqlparser.parser.CCJSqlParserUtil;
+import net.sf.jsqlparser.schema.Table;
+import net.sf.jsqlparser.statement.Statement;
+import net.sf.jsqlparser.statement.select.PlainSelect;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ModelEquivalenceTest {
+
+    @Test
+    void testEqualIgnoringLayout() throws JSQLParserException {
+        Statement a = CCJSqlParserUtil.parse("SELECT a, b FROM t WHERE c = 1 AND d IN (1, 2)");
+        Statement b = CCJSqlParserUtil.parse("SELECT a,b\n  FROM t\n WHERE c=1 AND d IN (1,2)");
+        Statement c = CCJSqlParserUtil.parse("SELECT a, b FROM t WHERE c = 2 AND d IN (1, 2)");
+
+        assertTrue(ModelEquivalence.equals(a, b));
+        assertEquals(ModelEquivalence.hash(a), ModelEquivalence.hash(b));
+        assertFalse(ModelEquivalence.equals(a, c));
+        assertNotEquals(ModelEquivalence.hash(a), ModelEquivalence.hash(c));
+        assertTrue(ModelEquivalence.equals(a, ModelCopier.deepCopy(a)));
+    }
+
+    @Test
+    void testCompactAndExpandedNamePartsAreEqual() {
+        Table table = new Table("t");
+        Table expanded = new Table("t");
+        expanded.getNameParts();
+
+        assertTrue(ModelEquivalence.equals(table, expanded));
+        assertEquals(ModelEquivalence.hash(table), ModelEquivalence.hash(expanded));
+    }
+
+    @Test
+    void testCommonSubexpressions() throws JSQLParserException {
+        PlainSelect select = (PlainSelect) CCJSqlParserUtil
+                .parse("SELECT a + 1, b, a + 1 FROM t");
+        Expression first = select.getSelectItem(0).getExpression();
+        Expression second = select.getSelectItem(1).getExpression();
+        Expression third = select.getSelectItem(2).getExpression();
+
+        Set<ModelEquivalence.Key<Expression>> keys = new HashSet<>();
+        assertTrue(keys.add(ModelEquivalence.key(first)));
+        assertTrue(keys.add(ModelEquivalence.key(second)));
+        assertFalse(keys.add(ModelEquivalence.key(third)));
+
+        Map<Object, Integer> hashes = ModelEquivalence.hashes(select);
+        assertEquals(hashes.get(first), hashes.get(third));
+        assertEquals(ModelEquivalence.hash(first), (int) hashes.get(first));
+    }
+
+    @Test
+    void testFrozenStatementsAsKeys() throws JSQLParserException {
+        FrozenStatement<Statement> a =
+                FrozenStatement.freeze(CCJSqlParserUtil.parse("SELECT a FROM t"));
+        FrozenStatement<Statement> b =
+                FrozenStatement.freeze(CCJSqlParserUtil.parse("select a from t"));
+
+        assertEquals(a, b);
+        assertEquals(a.hashCode(), b.hashCode());
+        assertNotEquals(a, a.updateAll(Table.class, table -> table.setName("u")));
+    }
+}
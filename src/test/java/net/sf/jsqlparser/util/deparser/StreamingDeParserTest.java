@@ -0,0 +1,117 @@
+/*-
+ * #%L
+ * JSQLParser library
+ * %%
+ * Copyright (C) 2004 - 2025 JSQLParser
+ * %%
+ * Dual licensed under GNU LGPL 2.1 or Apache License 2.0
+ * #L%
+ */
+package net.sf.jsqlparser.util.deparser;
+
+import net.sf.jsqlparser.JSQLParserException;
+import net.sf.jsqlparser.parser.CCJSqlParserUtil;
+import net.sf.jsqlparser.statement.Statement;
+import net.sf.jsqlparser.statement.Statements;
+import net.sf.jsqlparser.test.StatementCorpus;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class StreamingDeParserTest {
+
+    private static String deParse(Statement statement) {
+        StatementDeParser deParser = new StatementDeParser(new StringBuilder());
+        deParser.deParse(statement);
+        return deParser.getBuilder().toString();
+    }
+
+    @Test
+    public void testStreamsHugeInsertInChunks() throws JSQLParserException, IOException {
+        StringBuilder sqlStr = new StringBuilder("INSERT INTO t (a, b) VALUES ");
+        for (int i = 0; i < 1000; i++) {
+            sqlStr.append(i > 0 ? ", " : "").append("(").append(i).append(", 'row ")
+                    .append(i).append("')");
+        }
+        Statement statement = CCJSqlParserUtil.parse(sqlStr.toString());
+
+        CountingWriter writer = new CountingWriter();
+        try (StreamingDeParser deParser = new StreamingDeParser(writer, 256)) {
+            deParser.deParse(statement);
+        }
+
+        assertEquals(deParse(statement), writer.toString());
+        assertTrue(writer.writes > 10);
+        assertTrue(writer.maximumWrite < 512);
+    }
+
+    @Test
+    public void testStreamsLongUnionInChunks() throws JSQLParserException, IOException {
+        StringBuilder sqlStr = new StringBuilder();
+        for (int i = 0; i < 500; i++) {
+            sqlStr.append(i > 0 ? " UNION ALL " : "").append("SELECT CASE WHEN a = ").append(i)
+                    .append(" THEN 'x' WHEN b = ").append(i).append(" THEN 'y' END FROM t");
+        }
+        Statement statement = CCJSqlParserUtil.parse(sqlStr.toString());
+
+        CountingWriter writer = new CountingWriter();
+        try (StreamingDeParser deParser = new StreamingDeParser(writer, 256)) {
+            deParser.deParse(statement);
+        }
+
+        assertEquals(deParse(statement), writer.toString());
+        assertTrue(writer.writes > 10);
+        assertTrue(writer.maximumWrite < 512);
+    }
+
+    @Test
+    public void testStatementsToOutputStream() throws JSQLParserException, IOException {
+        Statements statements = CCJSqlParserUtil
+                .parseStatements("SELECT 'äöü' FROM t; DELETE FROM t WHERE a = 1");
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (StreamingDeParser deParser = StreamingDeParser.toOutputStream(bytes)) {
+            deParser.deParse(statements);
+        }
+
+        assertEquals(statements.toString(), bytes.toString(StandardCharsets.UTF_8));
+    }
+
+    @ParameterizedTest
+    @MethodSource(StatementCorpus.SOURCE)
+    public void testSmallestChunks(String sqlStr) throws JSQLParserException, IOException {
+        Statement statement = CCJSqlParserUtil.parse(sqlStr);
+        StringWriter writer = new StringWriter();
+        new StreamingDeParser(writer, 2).deParse(statement);
+
+        assertEquals(deParse(statement), writer.toString());
+    }
+
+    @Test
+    public void testAppendable() throws JSQLParserException, IOException {
+        Statement statement = CCJSqlParserUtil.parse("SELECT a, b FROM t WHERE c IN (1, 2, 3)");
+        StringBuilder out = new StringBuilder();
+        new StreamingDeParser(out, 2).deParse(statement);
+
+        assertEquals(deParse(statement), out.toString());
+    }
+
+    private static final class CountingWriter extends StringWriter {
+        private int writes = 0;
+        private int maximumWrite = 0;
+
+        @Override
+        public void write(char[] chars, int offset, int length) {
+            maximumWrite = Math.max(maximumWrite, length);
+            writes++;
+            super.write(chars, offset, length);
+        }
+    }
+}